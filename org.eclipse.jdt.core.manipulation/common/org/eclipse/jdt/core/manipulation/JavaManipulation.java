@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.manipulation;
 
+import java.util.function.Supplier;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.InstanceScope;
@@ -41,9 +43,13 @@ public class JavaManipulation {
 	 */
 	private static String fgPreferenceNodeId;
 
-	private static TemplateStoreCore fTemplateStore;
+	private static volatile TemplateStoreCore fTemplateStore;
+
+	private static volatile Supplier<? extends TemplateStoreCore> fTemplateStoreProvider;
 
-	private static ContextTypeRegistry fCodeTemplateContextTypeRegistry;
+	private static volatile ContextTypeRegistry fCodeTemplateContextTypeRegistry;
+
+	private static volatile Supplier<? extends ContextTypeRegistry> fCodeTemplateContextTypeRegistryProvider;
 
 	/**
 	 * @return The id of the preference node for some basic Java preferences.
@@ -72,30 +78,59 @@ public class JavaManipulation {
 	 * @since 1.11
 	 */
 	public static final TemplateStoreCore getCodeTemplateStore () {
-		return fTemplateStore;
+		Supplier<? extends TemplateStoreCore> provider= fTemplateStoreProvider;
+		return provider != null ? provider.get() : fTemplateStore;
 	}
 
 	/**
 	 * @since 1.11
 	 */
 	public static final void setCodeTemplateStore (TemplateStoreCore in) {
+		fTemplateStoreProvider= null;
 		fTemplateStore= in;
 	}
 
+	/**
+	 * Sets the provider of the code template store, so that the templates are only loaded when
+	 * the store is first requested. The provider is asked each time the store is requested and
+	 * must always return the same store.
+	 *
+	 * @param provider the provider of the code template store
+	 * @since 1.17
+	 */
+	public static final void setCodeTemplateStoreProvider (Supplier<? extends TemplateStoreCore> provider) {
+		fTemplateStore= null;
+		fTemplateStoreProvider= provider;
+	}
+
 	/**
 	 * @since 1.11
 	 */
 	public static final ContextTypeRegistry getCodeTemplateContextRegistry () {
-		return fCodeTemplateContextTypeRegistry;
+		Supplier<? extends ContextTypeRegistry> provider= fCodeTemplateContextTypeRegistryProvider;
+		return provider != null ? provider.get() : fCodeTemplateContextTypeRegistry;
 	}
 
 	/**
 	 * @since 1.11
 	 */
 	public static final void setCodeTemplateContextRegistry (ContextTypeRegistry in) {
+		fCodeTemplateContextTypeRegistryProvider= null;
 		fCodeTemplateContextTypeRegistry= in;
 	}
 
+	/**
+	 * Sets the provider of the code template context type registry, so that it is only created
+	 * when first requested. The provider must always return the same registry.
+	 *
+	 * @param provider the provider of the code template context type registry
+	 * @since 1.17
+	 */
+	public static final void setCodeTemplateContextRegistryProvider (Supplier<? extends ContextTypeRegistry> provider) {
+		fCodeTemplateContextTypeRegistry= null;
+		fCodeTemplateContextTypeRegistryProvider= provider;
+	}
+
 	/**
 	 * Returns the value for the given key in the given context for the JDT UI plug-in.
 	 * @param key The preference key
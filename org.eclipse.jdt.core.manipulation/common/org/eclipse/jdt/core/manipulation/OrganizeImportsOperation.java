@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,6 +94,103 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		TypeNameMatch[] chooseImports(TypeNameMatch[][] openChoices, ISourceRange[] ranges);
 	}
 
+	/**
+	 * Shares the results of type name searches between organize imports operations on several
+	 * compilation units. Each simple name is looked up in the index at most once per project, an
+	 * operation only queries the names that no operation sharing the cache has looked up before.
+	 * <p>
+	 * The cache must not be used anymore once the searched projects have been modified.
+	 * </p>
+	 *
+	 * @see OrganizeImportsOperation#setTypeNameMatchCache(TypeNameMatchCache)
+	 * @since 1.17
+	 */
+	public static final class TypeNameMatchCache {
+
+		private static final TypeNameMatch[] NO_MATCHES= new TypeNameMatch[0];
+
+		/**
+		 * The matches found in the search scope of a project, with or without its test code.
+		 */
+		private static final class ScopeMatches {
+
+			final IJavaProject fProject;
+			final boolean fExcludeTestCode;
+			final Map<String, TypeNameMatch[]> fMatches= new HashMap<>();
+			final Set<String> fPending= new HashSet<>();
+
+			ScopeMatches(IJavaProject project, boolean excludeTestCode) {
+				fProject= project;
+				fExcludeTestCode= excludeTestCode;
+			}
+		}
+
+		private final Map<String, ScopeMatches> fScopes= new HashMap<>();
+
+		private int fQueryCount;
+
+		/**
+		 * @return the number of index queries performed for this cache
+		 */
+		public synchronized int getQueryCount() {
+			return fQueryCount;
+		}
+
+		synchronized List<TypeNameMatch> findTypes(IPackageFragment currPackage, Collection<String> typeNames, IProgressMonitor monitor) throws JavaModelException {
+			ScopeMatches scope= getScope(currPackage);
+			for (String typeName : typeNames) {
+				if (!scope.fMatches.containsKey(typeName)) {
+					scope.fPending.add(typeName);
+				}
+			}
+			search(scope, monitor);
+
+			List<TypeNameMatch> result= new ArrayList<>();
+			for (String typeName : typeNames) {
+				result.addAll(Arrays.asList(scope.fMatches.get(typeName)));
+			}
+			return result;
+		}
+
+		private ScopeMatches getScope(IPackageFragment pack) throws JavaModelException {
+			IJavaProject project= pack.getJavaProject();
+			boolean excludeTestCode= !((IPackageFragmentRoot) pack.getParent()).getResolvedClasspathEntry().isTest();
+			String key= excludeTestCode ? project.getHandleIdentifier() : project.getHandleIdentifier() + "#test"; //$NON-NLS-1$
+			return fScopes.computeIfAbsent(key, k -> new ScopeMatches(project, excludeTestCode));
+		}
+
+		private void search(ScopeMatches scope, IProgressMonitor monitor) throws JavaModelException {
+			try {
+				if (scope.fPending.isEmpty()) {
+					return;
+				}
+				char[][] allTypes= new char[scope.fPending.size()][];
+				int i= 0;
+				for (String typeName : scope.fPending) {
+					allTypes[i++]= typeName.toCharArray();
+				}
+				ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
+				IJavaSearchScope searchScope= SearchEngine.createJavaSearchScope(scope.fExcludeTestCode, new IJavaElement[] { scope.fProject }, true);
+				new SearchEngine().searchAllTypeNames(null, allTypes, searchScope, new TypeNameMatchCollector(typesFound), IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				fQueryCount++;
+
+				Map<String, List<TypeNameMatch>> bySimpleName= new HashMap<>();
+				for (TypeNameMatch curr : typesFound) {
+					bySimpleName.computeIfAbsent(curr.getSimpleTypeName(), k -> new ArrayList<>(2)).add(curr);
+				}
+				for (String typeName : scope.fPending) {
+					List<TypeNameMatch> found= bySimpleName.get(typeName);
+					scope.fMatches.put(typeName, found != null ? found.toArray(new TypeNameMatch[found.size()]) : NO_MATCHES);
+				}
+				scope.fPending.clear();
+			} finally {
+				if (monitor != null) {
+					monitor.done();
+				}
+			}
+		}
+	}
+
 	/**
 	 * Matches unresolvable import declarations (those having associated
 	 * {@link IProblem#ImportNotFound} problems) to unresolved simple names.
@@ -229,6 +326,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 		private final UnresolvableImportMatcher fUnresolvableImportMatcher;
 
+		private final TypeNameMatchCache fTypeNameMatchCache;
+
 		private IPackageFragment fCurrPackage;
 
 		private ScopeAnalyzer fAnalyzer;
@@ -240,12 +339,13 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		private SourceRange[] fSourceRanges;
 
 
-		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher) {
+		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher, TypeNameMatchCache typeNameMatchCache) {
 			fOldSingleImports= oldSingleImports;
 			fOldDemandImports= oldDemandImports;
 			fImpStructure= impStructure;
 			fDoIgnoreLowerCaseNames= ignoreLowerCaseNames;
 			fUnresolvableImportMatcher= unresolvableImportMatcher;
+			fTypeNameMatchCache= typeNameMatchCache;
 
 			ICompilationUnit cu= impStructure.getCompilationUnit();
 
@@ -351,17 +451,22 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				if (nUnresolved == 0) {
 					return false;
 				}
-				char[][] allTypes= new char[nUnresolved][];
-				int i= 0;
-				for (String string : fUnresolvedTypes.keySet()) {
-					allTypes[i++]= string.toCharArray();
-				}
-				final ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
+				final List<TypeNameMatch> typesFound;
 				final IJavaProject project= fCurrPackage.getJavaProject();
-				boolean excludeTestCode= !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
-				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
-				TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
-				new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				if (fTypeNameMatchCache != null) {
+					typesFound= fTypeNameMatchCache.findTypes(fCurrPackage, fUnresolvedTypes.keySet(), monitor);
+				} else {
+					char[][] allTypes= new char[nUnresolved][];
+					int i= 0;
+					for (String string : fUnresolvedTypes.keySet()) {
+						allTypes[i++]= string.toCharArray();
+					}
+					typesFound= new ArrayList<>();
+					boolean excludeTestCode= !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
+					IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+					TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
+					new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				}
 
 				boolean is50OrHigher= JavaModelUtil.is50OrHigher(project);
 
@@ -512,6 +617,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 	private final boolean fAllowSyntaxErrors;
 
+	private TypeNameMatchCache fTypeNameMatchCache;
+
 	/**
 	 * Creates a new OrganizeImportsOperation operation.
 	 *
@@ -537,6 +644,18 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		fParsingError= null;
 	}
 
+	/**
+	 * Sets the cache to look up unresolved type names in. Operations on several compilation units
+	 * sharing a cache search each simple name only once.
+	 *
+	 * @param cache the cache or <code>null</code> to search the names of each compilation unit
+	 *            on their own
+	 * @since 1.17
+	 */
+	public void setTypeNameMatchCache(TypeNameMatchCache cache) {
+		fTypeNameMatchCache= cache;
+	}
+
 	/**
 	 * Runs the operation.
 	 * @param monitor the progress monitor
@@ -587,7 +706,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				astRoot,
 				importsRewrite,
 				fIgnoreLowerCaseNames,
-				unresolvableImportMatcher);
+				unresolvableImportMatcher,
+				fTypeNameMatchCache);
 
 		Iterator<SimpleName> refIterator= typeReferences.iterator();
 		while (refIterator.hasNext()) {
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
+
+/**
+ * Feeds several {@link HelperVisitor}s from a single traversal of an AST. Each participant sees the
+ * same callbacks as it would when running {@link HelperVisitor#build(ASTNode)} on its own: the
+ * predicates are called when a node is entered and the consumers when it is left. A predicate
+ * returning <code>false</code> only skips the children of the node for the participant that
+ * registered it, the traversal continues as long as another participant is interested in them.
+ *
+ * <p>
+ * Participants must be added before {@link #accept(ASTNode)} is called. The visitor can be reused
+ * for several ASTs.
+ * </p>
+ */
+public class FusedHelperVisitor extends ASTVisitor {
+
+	private final List<HelperVisitor<?, ?, ?>> fParticipants= new ArrayList<>();
+
+	/**
+	 * For each participant the node whose children it does not want to see, or <code>null</code>.
+	 */
+	private ASTNode[] fPrunedAt= new ASTNode[0];
+
+	private int fActiveCount;
+
+	private int fWalkCount;
+
+	private long fVisitedNodeCount;
+
+	/**
+	 * Creates a visitor without participants. Like {@link HelperVisitor#build(ASTNode)}, it does not
+	 * visit Javadoc comments, so that sharing the traversal does not change the visited nodes.
+	 */
+	public FusedHelperVisitor() {
+		super(false);
+	}
+
+	/**
+	 * Adds a participant to the traversal.
+	 *
+	 * @param helperVisitor - HelperVisitor whose predicates and consumers should be called
+	 */
+	public void add(HelperVisitor<?, ?, ?> helperVisitor) {
+		fParticipants.add(helperVisitor);
+	}
+
+	/**
+	 * @return - true if no participant has been added
+	 */
+	public boolean isEmpty() {
+		return fParticipants.isEmpty();
+	}
+
+	/**
+	 * Walks the given AST once and dispatches its nodes to all participants.
+	 *
+	 * @param node - root of the AST to walk
+	 */
+	public void accept(ASTNode node) {
+		if (fParticipants.isEmpty()) {
+			return;
+		}
+		fPrunedAt= new ASTNode[fParticipants.size()];
+		fActiveCount= fPrunedAt.length;
+		fWalkCount++;
+		node.accept(this);
+	}
+
+	/**
+	 * @return - number of walks performed by {@link #accept(ASTNode)}
+	 */
+	public int getWalkCount() {
+		return fWalkCount;
+	}
+
+	/**
+	 * @return - number of nodes entered over all walks
+	 */
+	public long getVisitedNodeCount() {
+		return fVisitedNodeCount;
+	}
+
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		fVisitedNodeCount++;
+		VisitorEnum kind= VisitorEnum.fromNode(node);
+		for (int i= 0; i < fPrunedAt.length; i++) {
+			if (fPrunedAt[i] == null && !test(fParticipants.get(i), kind, node)) {
+				fPrunedAt[i]= node;
+				fActiveCount--;
+			}
+		}
+		return fActiveCount > 0;
+	}
+
+	@Override
+	public void postVisit(ASTNode node) {
+		VisitorEnum kind= VisitorEnum.fromNode(node);
+		for (int i= 0; i < fPrunedAt.length; i++) {
+			ASTNode prunedAt= fPrunedAt[i];
+			if (prunedAt == node) {
+				fPrunedAt[i]= null;
+				fActiveCount++;
+			} else if (prunedAt != null) {
+				continue;
+			}
+			accept(fParticipants.get(i), kind, node);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends HelperVisitorProvider<V, T, E>, V, T> boolean test(HelperVisitor<E, V, T> helperVisitor, VisitorEnum kind, ASTNode node) {
+		BiPredicate<ASTNode, E> predicate= (BiPredicate<ASTNode, E>) helperVisitor.predicatemap.get(kind);
+		if (predicate == null || !matches(helperVisitor.getSupplierData().get(kind), node)) {
+			return true;
+		}
+		return predicate.test(node, helperVisitor.dataholder);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends HelperVisitorProvider<V, T, E>, V, T> void accept(HelperVisitor<E, V, T> helperVisitor, VisitorEnum kind, ASTNode node) {
+		BiConsumer<ASTNode, E> consumer= (BiConsumer<ASTNode, E>) helperVisitor.consumermap.get(kind);
+		if (consumer != null && matches(helperVisitor.getConsumerData().get(kind), node)) {
+			consumer.accept(node, helperVisitor.dataholder);
+		}
+	}
+
+	/**
+	 * Applies the same filters as {@link LambdaASTVisitor} for visitors registered with additional
+	 * data.
+	 */
+	private static boolean matches(Object data, ASTNode node) {
+		if (data == null) {
+			return true;
+		}
+		switch (node.getNodeType()) {
+			case ASTNode.METHOD_INVOCATION:
+				return ((MethodInvocation) node).getName().getIdentifier().equals(data);
+			case ASTNode.VARIABLE_DECLARATION_STATEMENT:
+				VariableDeclarationFragment fragment= (VariableDeclarationFragment) ((VariableDeclarationStatement) node).fragments().get(0);
+				IVariableBinding binding= fragment.resolveBinding();
+				return binding == null || ((Class<?>) data).getCanonicalName().equals(binding.getType().getErasure().getQualifiedName());
+			default:
+				return true;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,6 +86,16 @@ public class JavaElementLabelComposerCore {
 		 */
 		public abstract int length();
 
+		/**
+		 * Returns the content of the buffer from the given offset to its end.
+		 *
+		 * @param start the start offset
+		 * @return the content from <code>start</code> on
+		 */
+		public String substring(int start) {
+			return toString().substring(start);
+		}
+
 	}
 
 	public static class FlexibleStringBufferCore extends FlexibleBufferCore {
@@ -116,6 +126,94 @@ public class JavaElementLabelComposerCore {
 		public String toString() {
 			return fStringBuffer.toString();
 		}
+
+		@Override
+		public String substring(int start) {
+			return fStringBuffer.substring(start);
+		}
+	}
+
+	/**
+	 * An unsynchronized buffer backed by a {@link StringBuilder}. Instances handed out by
+	 * {@link JavaElementLabelComposerCore#acquireBuffer()} are reused per thread.
+	 */
+	public static class FlexibleStringBuilderCore extends FlexibleBufferCore {
+		private final StringBuilder fStringBuilder;
+		private boolean fInUse;
+
+		public FlexibleStringBuilderCore(StringBuilder stringBuilder) {
+			fStringBuilder= stringBuilder;
+		}
+
+		@Override
+		public FlexibleBufferCore append(char ch) {
+			fStringBuilder.append(ch);
+			return this;
+		}
+
+		@Override
+		public FlexibleBufferCore append(String string) {
+			fStringBuilder.append(string);
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return fStringBuilder.length();
+		}
+
+		@Override
+		public String toString() {
+			return fStringBuilder.toString();
+		}
+
+		@Override
+		public String substring(int start) {
+			return fStringBuilder.substring(start);
+		}
+	}
+
+	/*
+	 * Larger buffers are not kept for reuse to avoid pinning memory after rendering a huge label.
+	 */
+	private static final int MAX_POOLED_BUFFER_CAPACITY= 1024;
+
+	private static final ThreadLocal<FlexibleStringBuilderCore> fgPooledBuffer= new ThreadLocal<>();
+
+	/**
+	 * Returns an empty buffer for rendering a label. The buffer is reused across calls on the same
+	 * thread and must be handed back with {@link #releaseBuffer(FlexibleStringBuilderCore)}. Nested
+	 * calls get a fresh buffer.
+	 *
+	 * @return an empty buffer
+	 */
+	public static FlexibleStringBuilderCore acquireBuffer() {
+		FlexibleStringBuilderCore buffer= fgPooledBuffer.get();
+		if (buffer == null || buffer.fInUse) {
+			buffer= new FlexibleStringBuilderCore(new StringBuilder());
+			if (fgPooledBuffer.get() == null) {
+				fgPooledBuffer.set(buffer);
+			}
+		}
+		buffer.fInUse= true;
+		return buffer;
+	}
+
+	/**
+	 * Returns the content of a buffer obtained from {@link #acquireBuffer()} and makes the buffer
+	 * available for reuse.
+	 *
+	 * @param buffer the buffer to release
+	 * @return the content of the buffer
+	 */
+	public static String releaseBuffer(FlexibleStringBuilderCore buffer) {
+		String result= buffer.fStringBuilder.toString();
+		buffer.fStringBuilder.setLength(0);
+		buffer.fInUse= false;
+		if (buffer.fStringBuilder.capacity() > MAX_POOLED_BUFFER_CAPACITY && fgPooledBuffer.get() == buffer) {
+			fgPooledBuffer.remove();
+		}
+		return result;
 	}
 
 	final static long QUALIFIER_FLAGS= JavaElementLabelsCore.P_COMPRESSED | JavaElementLabelsCore.USE_RESOLVED;
@@ -152,6 +250,15 @@ public class JavaElementLabelComposerCore {
 		this(new FlexibleStringBufferCore(buffer));
 	}
 
+	/**
+	 * Creates a new java element composer based on the given buffer.
+	 *
+	 * @param buffer the string builder
+	 */
+	public JavaElementLabelComposerCore(StringBuilder buffer) {
+		this(new FlexibleStringBuilderCore(buffer));
+	}
+
 	/**
 	 * Appends the label for a Java element with the flags as defined by this class.
 	 *
@@ -299,96 +406,19 @@ public class JavaElementLabelComposerCore {
 			}
 
 			// parameters
-			fBuffer.append('(');
-			String[] declaredParameterTypes= method.getParameterTypes();
-			if (getFlag(flags, JavaElementLabelsCore.M_PARAMETER_TYPES | JavaElementLabelsCore.M_PARAMETER_NAMES)) {
-				String[] types= null;
-				int nParams= 0;
-				boolean renderVarargs= false;
-				boolean isPolymorphic= false;
-				if (getFlag(flags, JavaElementLabelsCore.M_PARAMETER_TYPES)) {
-					if (resolvedSig != null) {
-						types= Signature.getParameterTypes(resolvedSig);
-					} else {
-						types= declaredParameterTypes;
-					}
-					nParams= types.length;
-					renderVarargs= method.exists() && Flags.isVarargs(method.getFlags());
-					if (renderVarargs
-							&& resolvedSig != null
-							&& declaredParameterTypes.length == 1
-							&& JavaModelUtil.isPolymorphicSignature(method)) {
-						renderVarargs= false;
-						isPolymorphic= true;
-					}
-				}
-				String[] names= null;
-				if (getFlag(flags, JavaElementLabelsCore.M_PARAMETER_NAMES) && method.exists()) {
-					names= method.getParameterNames();
-					if (isPolymorphic) {
-						// handled specially below
-					} else	if (types == null) {
-						nParams= names.length;
-					} else { // types != null
-						if (nParams != names.length) {
-							if (resolvedSig != null && types.length > names.length) {
-								// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=99137
-								nParams= names.length;
-								String[] typesWithoutSyntheticParams= new String[nParams];
-								System.arraycopy(types, types.length - nParams, typesWithoutSyntheticParams, 0, nParams);
-								types= typesWithoutSyntheticParams;
-							} else {
-								// https://bugs.eclipse.org/bugs/show_bug.cgi?id=101029
-								// JavaPlugin.logErrorMessage("JavaElementLabels: Number of param types(" + nParams + ") != number of names(" + names.length + "): " + method.getElementName());   //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
-								names= null; // no names rendered
-							}
-						}
-					}
-				}
-
-				ILocalVariable[] annotatedParameters= null;
-				if (nParams > 0 && getFlag(flags, JavaElementLabelsCore.M_PARAMETER_ANNOTATIONS)) {
-					annotatedParameters= method.getParameters();
-				}
-
-				for (int i= 0; i < nParams; i++) {
-					if (i > 0) {
-						fBuffer.append(JavaElementLabelsCore.COMMA_STRING);
-					}
-					if (annotatedParameters != null && i < annotatedParameters.length) {
-						appendAnnotationLabels(annotatedParameters[i].getAnnotations(), flags);
-					}
-
-					if (types != null) {
-						String paramSig= types[i];
-						if (renderVarargs && (i == nParams - 1)) {
-							int newDim= Signature.getArrayCount(paramSig) - 1;
-							appendTypeSignatureLabel(method, Signature.getElementType(paramSig), flags);
-							for (int k= 0; k < newDim; k++) {
-								fBuffer.append('[').append(']');
-							}
-							fBuffer.append(JavaElementLabelsCore.ELLIPSIS_STRING);
-						} else {
-							appendTypeSignatureLabel(method, paramSig, flags);
-						}
-					}
-					if (names != null) {
-						if (types != null) {
-							fBuffer.append(' ');
-						}
-						if (isPolymorphic) {
-							fBuffer.append(names[0] + i);
-						} else {
-							fBuffer.append(names[i]);
-						}
-					}
+			if (isFragmentCachingEnabled(flags) && method.isBinary() && !method.isResolved()) {
+				LabelFragmentCache fragmentCache= LabelFragmentCache.getDefault();
+				String parameters= fragmentCache.get(method, flags);
+				if (parameters != null) {
+					fBuffer.append(parameters);
+				} else {
+					int offset= fBuffer.length();
+					appendMethodParameters(method, resolvedSig, flags);
+					fragmentCache.put(method, flags, fBuffer.substring(offset));
 				}
 			} else {
-				if (declaredParameterTypes.length > 0) {
-					fBuffer.append(JavaElementLabelsCore.ELLIPSIS_STRING);
-				}
+				appendMethodParameters(method, resolvedSig, flags);
 			}
-			fBuffer.append(')');
 
 			if (getFlag(flags, JavaElementLabelsCore.M_EXCEPTIONS)) {
 				String[] types;
@@ -470,6 +500,119 @@ public class JavaElementLabelComposerCore {
 		}
 	}
 
+	/**
+	 * Appends the parameter list of a method, including the enclosing parentheses.
+	 *
+	 * @param method the method to render
+	 * @param resolvedSig the resolved signature of the method or <code>null</code>
+	 * @param flags the rendering flags
+	 * @throws JavaModelException if the method parameters cannot be accessed
+	 */
+	private void appendMethodParameters(IMethod method, String resolvedSig, long flags) throws JavaModelException {
+		fBuffer.append('(');
+		String[] declaredParameterTypes= method.getParameterTypes();
+		if (getFlag(flags, JavaElementLabelsCore.M_PARAMETER_TYPES | JavaElementLabelsCore.M_PARAMETER_NAMES)) {
+			String[] types= null;
+			int nParams= 0;
+			boolean renderVarargs= false;
+			boolean isPolymorphic= false;
+			if (getFlag(flags, JavaElementLabelsCore.M_PARAMETER_TYPES)) {
+				if (resolvedSig != null) {
+					types= Signature.getParameterTypes(resolvedSig);
+				} else {
+					types= declaredParameterTypes;
+				}
+				nParams= types.length;
+				renderVarargs= method.exists() && Flags.isVarargs(method.getFlags());
+				if (renderVarargs
+						&& resolvedSig != null
+						&& declaredParameterTypes.length == 1
+						&& JavaModelUtil.isPolymorphicSignature(method)) {
+					renderVarargs= false;
+					isPolymorphic= true;
+				}
+			}
+			String[] names= null;
+			if (getFlag(flags, JavaElementLabelsCore.M_PARAMETER_NAMES) && method.exists()) {
+				names= method.getParameterNames();
+				if (isPolymorphic) {
+					// handled specially below
+				} else	if (types == null) {
+					nParams= names.length;
+				} else { // types != null
+					if (nParams != names.length) {
+						if (resolvedSig != null && types.length > names.length) {
+							// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=99137
+							nParams= names.length;
+							String[] typesWithoutSyntheticParams= new String[nParams];
+							System.arraycopy(types, types.length - nParams, typesWithoutSyntheticParams, 0, nParams);
+							types= typesWithoutSyntheticParams;
+						} else {
+							// https://bugs.eclipse.org/bugs/show_bug.cgi?id=101029
+							// JavaPlugin.logErrorMessage("JavaElementLabels: Number of param types(" + nParams + ") != number of names(" + names.length + "): " + method.getElementName());   //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+							names= null; // no names rendered
+						}
+					}
+				}
+			}
+
+			ILocalVariable[] annotatedParameters= null;
+			if (nParams > 0 && getFlag(flags, JavaElementLabelsCore.M_PARAMETER_ANNOTATIONS)) {
+				annotatedParameters= method.getParameters();
+			}
+
+			for (int i= 0; i < nParams; i++) {
+				if (i > 0) {
+					fBuffer.append(JavaElementLabelsCore.COMMA_STRING);
+				}
+				if (annotatedParameters != null && i < annotatedParameters.length) {
+					appendAnnotationLabels(annotatedParameters[i].getAnnotations(), flags);
+				}
+
+				if (types != null) {
+					String paramSig= types[i];
+					if (renderVarargs && (i == nParams - 1)) {
+						int newDim= Signature.getArrayCount(paramSig) - 1;
+						appendTypeSignatureLabel(method, Signature.getElementType(paramSig), flags);
+						for (int k= 0; k < newDim; k++) {
+							fBuffer.append('[').append(']');
+						}
+						fBuffer.append(JavaElementLabelsCore.ELLIPSIS_STRING);
+					} else {
+						appendTypeSignatureLabel(method, paramSig, flags);
+					}
+				}
+				if (names != null) {
+					if (types != null) {
+						fBuffer.append(' ');
+					}
+					if (isPolymorphic) {
+						fBuffer.append(names[0] + i);
+					} else {
+						fBuffer.append(names[i]);
+					}
+				}
+			}
+		} else {
+			if (declaredParameterTypes.length > 0) {
+				fBuffer.append(JavaElementLabelsCore.ELLIPSIS_STRING);
+			}
+		}
+		fBuffer.append(')');
+	}
+
+	/**
+	 * Returns whether label fragments rendered with the given flags may be taken from and stored
+	 * in the {@link LabelFragmentCache}. This is only the case if subclasses do not alter the
+	 * rendering of type names and no styles are applied.
+	 *
+	 * @param flags the rendering flags
+	 * @return <code>true</code> if fragments can be cached
+	 */
+	protected boolean isFragmentCachingEnabled(long flags) {
+		return getClass() == JavaElementLabelComposerCore.class && !getFlag(flags, JavaElementLabelsCore.COLORIZE);
+	}
+
 	@SuppressWarnings("unused")
 	protected void appendCategoryLabel(IMember member, long flags) throws JavaModelException {
 		// core does not implement this
@@ -38,6 +38,7 @@ import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore.FlexibleStringBuilderCore;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 
 
@@ -398,9 +399,14 @@ public final class JavaElementLabelsCore {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		FlexibleStringBuilderCore result= JavaElementLabelComposerCore.acquireBuffer();
+		String label;
+		try {
+			new JavaElementLabelComposerCore(result).appendElementLabel(element, flags);
+		} finally {
+			label= JavaElementLabelComposerCore.releaseBuffer(result);
+		}
+		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(label);
 	}
 
 	/**
@@ -62,6 +62,7 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		LabelFragmentCache.dispose();
 		super.stop(context);
 		fgDefault= null;
 	}
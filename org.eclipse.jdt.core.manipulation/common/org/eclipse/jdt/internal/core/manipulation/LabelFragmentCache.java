@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+/**
+ * Bounded cache for label fragments rendered by {@link JavaElementLabelComposerCore}, such as the
+ * parameter list of a method. Only fragments of binary members are stored, since their content can
+ * only change when the class path, an archive or a source attachment changes. The cache is flushed
+ * on such changes.
+ */
+public final class LabelFragmentCache {
+
+	private static final int MAX_SIZE= 2000;
+
+	private static LabelFragmentCache fgInstance;
+
+	private static final class Key {
+		private final String fHandleIdentifier;
+		private final long fFlags;
+
+		Key(String handleIdentifier, long flags) {
+			fHandleIdentifier= handleIdentifier;
+			fFlags= flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fHandleIdentifier.hashCode() + Long.hashCode(fFlags);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fFlags == other.fFlags && fHandleIdentifier.equals(other.fHandleIdentifier);
+		}
+	}
+
+	private final LRUMap<Key, String> fFragments= new LRUMap<>(MAX_SIZE);
+
+	private final IElementChangedListener fListener= new IElementChangedListener() {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (affectsBinaries(event.getDelta())) {
+				flush();
+			}
+		}
+	};
+
+	private LabelFragmentCache() {
+		JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Returns the shared cache, creating it on first access.
+	 *
+	 * @return the shared label fragment cache
+	 */
+	public static synchronized LabelFragmentCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new LabelFragmentCache();
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Disposes the shared cache if it has been created.
+	 */
+	public static synchronized void dispose() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance.fListener);
+			fgInstance.flush();
+			fgInstance= null;
+		}
+	}
+
+	/**
+	 * Returns the cached fragment for the given element and rendering flags.
+	 *
+	 * @param element the rendered element
+	 * @param flags the rendering flags
+	 * @return the cached fragment or <code>null</code> if none is available
+	 */
+	public String get(IJavaElement element, long flags) {
+		Key key= new Key(element.getHandleIdentifier(), flags);
+		synchronized (fFragments) {
+			return fFragments.get(key);
+		}
+	}
+
+	/**
+	 * Stores the fragment for the given element and rendering flags.
+	 *
+	 * @param element the rendered element
+	 * @param flags the rendering flags
+	 * @param fragment the rendered fragment
+	 */
+	public void put(IJavaElement element, long flags, String fragment) {
+		Key key= new Key(element.getHandleIdentifier(), flags);
+		synchronized (fFragments) {
+			fFragments.put(key, fragment);
+		}
+	}
+
+	/**
+	 * Removes all cached fragments.
+	 */
+	public void flush() {
+		synchronized (fFragments) {
+			fFragments.clear();
+		}
+	}
+
+	private static boolean affectsBinaries(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		if ((flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+				| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+				| IJavaElementDelta.F_SOURCEATTACHED | IJavaElementDelta.F_SOURCEDETACHED)) != 0) {
+			return true;
+		}
+		int type= delta.getElement().getElementType();
+		if (type == IJavaElement.PACKAGE_FRAGMENT_ROOT) {
+			return delta.getKind() != IJavaElementDelta.CHANGED;
+		}
+		if (type == IJavaElement.JAVA_MODEL || type == IJavaElement.JAVA_PROJECT) {
+			if (type == IJavaElement.JAVA_PROJECT && delta.getKind() != IJavaElementDelta.CHANGED) {
+				return true;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsBinaries(child)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
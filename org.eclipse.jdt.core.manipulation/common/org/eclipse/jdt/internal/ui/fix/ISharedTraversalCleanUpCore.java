@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
+import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
+
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
+
+/**
+ * A clean up that can find its fixes in a traversal of the AST shared with other clean ups,
+ * instead of walking the AST on its own in <code>createFix</code>.
+ * <p>
+ * The clean up registers the node types it is interested in with the shared traversal. After the
+ * traversal the fix is created from the data collected.
+ * </p>
+ */
+public interface ISharedTraversalCleanUpCore {
+
+	/**
+	 * Creates the fix from the data collected during the shared traversal.
+	 */
+	@FunctionalInterface
+	public interface IFixCollector {
+
+		/**
+		 * Called once the shared traversal is complete.
+		 *
+		 * @return the fix or <code>null</code> if nothing has to be fixed
+		 * @throws CoreException if the fix cannot be created
+		 */
+		ICleanUpFixCore createFixCore() throws CoreException;
+	}
+
+	/**
+	 * Registers the interests of this clean up for the AST of the given context.
+	 *
+	 * @param context the context, its AST is not <code>null</code>
+	 * @param traversal the shared traversal to register with
+	 * @return the collector creating the fix, or <code>null</code> if this clean up does not take
+	 *         part in the shared traversal for this context; <code>createFix</code> is called
+	 *         instead in that case
+	 * @throws CoreException if the clean up cannot be prepared
+	 */
+	IFixCollector registerInterests(CleanUpContextCore context, FusedHelperVisitor traversal) throws CoreException;
+}
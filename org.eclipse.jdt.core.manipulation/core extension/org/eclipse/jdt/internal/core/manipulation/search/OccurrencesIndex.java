@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression.Operator;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import org.eclipse.jdt.internal.core.manipulation.Messages;
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.dom.Bindings;
+
+/**
+ * Answers occurrence queries for one AST without walking the AST for every query. The names of
+ * the AST are indexed by their identifier on the first name query. That walk resolves the binding
+ * of each name once, like a single run of {@link OccurrencesFinder}, but does not compute binding
+ * keys. A query compares the bindings of the names with the queried identifier only.
+ * <p>
+ * The other occurrences finders, such as {@link ExceptionOccurrencesFinder} or
+ * {@link MethodExitsFinder}, are not indexed. Their result depends on the node they are applied
+ * to, and indexing them would mean running them for every method, try statement and loop of the
+ * AST. They run on demand instead, and their results are remembered per selected node.
+ * </p>
+ * <p>
+ * {@link #getOccurrences(Name)} returns the same occurrences as {@link OccurrencesFinder}.
+ * </p>
+ */
+public final class OccurrencesIndex {
+
+	private static final OccurrenceLocation[] NO_OCCURRENCES= new OccurrenceLocation[0];
+
+	/**
+	 * A name referring to a binding.
+	 */
+	private static final class Usage {
+		final Name fName;
+		final String fIdentifier;
+		final IBinding fBinding;
+		final boolean fIsWrite;
+
+		Usage(Name name, String identifier, IBinding binding, boolean isWrite) {
+			fName= name;
+			fIdentifier= identifier;
+			fBinding= binding;
+			fIsWrite= isWrite;
+		}
+	}
+
+	/**
+	 * Collects the usages of all bindings with the same rules as {@link OccurrencesFinder} uses
+	 * for a single binding.
+	 */
+	private final class IndexBuilder extends ASTVisitor {
+
+		private final Set<Name> fWriteUsages= new HashSet<>();
+
+		/**
+		 * The enclosing qualified names and their usages, whose binding is not collected again in
+		 * the current subtree.
+		 */
+		private final List<QualifiedName> fSuppressingNodes= new ArrayList<>();
+		private final List<Usage> fSuppressingUsages= new ArrayList<>();
+
+		IndexBuilder() {
+			super(true);
+		}
+
+		@Override
+		public boolean visit(QualifiedName node) {
+			IBinding binding= node.resolveBinding();
+			if (binding instanceof IVariableBinding && ((IVariableBinding) binding).isField()) {
+				SimpleName name= node.getName();
+				suppress(node, addUsage(name, name.resolveBinding()));
+				return true;
+			}
+			if (binding instanceof IMethodBinding && OccurrencesFinder.isStaticImport(node)) {
+				addStaticImport(node.getName(), (IMethodBinding) binding);
+				// the name itself is only ever found as static import
+				node.getQualifier().accept(this);
+				return false;
+			}
+			suppress(node, addUsage(node, binding));
+			return true;
+		}
+
+		@Override
+		public void endVisit(QualifiedName node) {
+			int last= fSuppressingNodes.size() - 1;
+			if (last >= 0 && fSuppressingNodes.get(last) == node) {
+				fSuppressingNodes.remove(last);
+				fSuppressingUsages.remove(last);
+			}
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			addUsage(node, node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			Type type= node.getType();
+			if (type instanceof ParameterizedType) {
+				type= ((ParameterizedType) type).getType();
+			}
+			if (type instanceof SimpleType) {
+				Name name= ((SimpleType) type).getName();
+				if (name instanceof QualifiedName)
+					name= ((QualifiedName) name).getName();
+				addUsage(name, node.resolveConstructorBinding());
+			} else if (type instanceof NameQualifiedType) {
+				addUsage(((NameQualifiedType) type).getName(), node.resolveConstructorBinding());
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(Assignment node) {
+			addWrite(getSimpleName(node.getLeftHandSide()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(SingleVariableDeclaration node) {
+			addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationFragment node) {
+			if (node.getParent() instanceof FieldDeclaration || node.getInitializer() != null)
+				addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(PrefixExpression node) {
+			PrefixExpression.Operator operator= node.getOperator();
+			if (operator == Operator.INCREMENT || operator == Operator.DECREMENT)
+				addWrite(getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(PostfixExpression node) {
+			addWrite(getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		private void addWrite(SimpleName name) {
+			if (name != null)
+				fWriteUsages.add(name);
+		}
+
+		private Usage addUsage(Name node, IBinding binding) {
+			if (binding == null)
+				return null;
+			IBinding declaration= OccurrencesFinder.getBindingDeclaration(binding);
+			String identifier= getIdentifier(node);
+			for (Usage suppressing : fSuppressingUsages) {
+				if (suppressing.fIdentifier.equals(identifier) && Bindings.equals(suppressing.fBinding, declaration))
+					return null;
+			}
+			Usage usage= new Usage(node, identifier, declaration, fWriteUsages.contains(node));
+			fUsages.computeIfAbsent(identifier, k -> new ArrayList<>()).add(usage);
+			return usage;
+		}
+
+		private void addStaticImport(SimpleName name, IMethodBinding binding) {
+			if (Modifier.isStatic(binding.getModifiers())) {
+				String key= getStaticImportKey(binding);
+				if (key != null)
+					fStaticImports.computeIfAbsent(key, k -> new ArrayList<>()).add(name);
+			}
+		}
+
+		private void suppress(QualifiedName node, Usage usage) {
+			if (usage != null) {
+				fSuppressingNodes.add(node);
+				fSuppressingUsages.add(usage);
+			}
+		}
+
+		private SimpleName getSimpleName(Expression expression) {
+			if (expression instanceof SimpleName)
+				return ((SimpleName) expression);
+			else if (expression instanceof QualifiedName)
+				return (((QualifiedName) expression).getName());
+			else if (expression instanceof FieldAccess)
+				return ((FieldAccess) expression).getName();
+			return null;
+		}
+	}
+
+	private final CompilationUnit fRoot;
+
+	/** Usages by identifier of the name, <code>null</code> until the first query. */
+	private Map<String, List<Usage>> fUsages;
+
+	/** Names in static imports of methods, by declaring type and method name. */
+	private Map<String, List<SimpleName>> fStaticImports;
+
+	/** Results of the other finders by finder id and selected node. */
+	private final Map<String, Map<ASTNode, OccurrenceLocation[]>> fFinderResults= new HashMap<>();
+
+	/**
+	 * Creates an index for the given AST. The AST is not walked before the first query.
+	 *
+	 * @param root the AST, must have bindings
+	 */
+	public OccurrencesIndex(CompilationUnit root) {
+		fRoot= root;
+	}
+
+	/**
+	 * @return the AST this index has been created for
+	 */
+	public CompilationUnit getASTRoot() {
+		return fRoot;
+	}
+
+	/**
+	 * Returns the occurrences of the binding of the given name in the AST.
+	 *
+	 * @param selectedNode a name of the AST
+	 * @return the occurrences, or <code>null</code> if the name has no binding or no occurrences
+	 */
+	public synchronized OccurrenceLocation[] getOccurrences(Name selectedNode) {
+		IBinding binding= selectedNode.resolveBinding();
+		if (binding == null)
+			return null;
+		IBinding target= OccurrencesFinder.getBindingDeclaration(binding);
+		String key= target.getKey();
+		if (key == null || OccurrencesFinder.isStaticImport(selectedNode.getParent())) {
+			// static imports also match method invocations, not worth indexing
+			OccurrencesFinder finder= new OccurrencesFinder();
+			if (finder.initialize(fRoot, selectedNode) != null)
+				return null;
+			return finder.getOccurrences();
+		}
+
+		if (fUsages == null) {
+			fUsages= new HashMap<>();
+			fStaticImports= new HashMap<>();
+			fRoot.accept(new IndexBuilder());
+		}
+
+		String name= BasicElementLabels.getJavaElementName(target.getName());
+		String readDescription= Messages.format(SearchMessages.OccurrencesFinder_occurrence_description, name);
+		String writeDescription= Messages.format(SearchMessages.OccurrencesFinder_occurrence_write_description, name);
+
+		List<OccurrenceLocation> result= new ArrayList<>();
+		if (target instanceof IMethodBinding && Modifier.isStatic(target.getModifiers())) {
+			List<SimpleName> staticImports= fStaticImports.get(getStaticImportKey((IMethodBinding) target));
+			if (staticImports != null) {
+				for (SimpleName staticImport : staticImports) {
+					if (staticImport.getIdentifier().equals(target.getName()))
+						result.add(new OccurrenceLocation(staticImport.getStartPosition(), staticImport.getLength(), 0, readDescription));
+				}
+			}
+		}
+		List<Usage> usages= fUsages.get(getIdentifier(selectedNode));
+		if (usages != null) {
+			boolean isVariable= target instanceof IVariableBinding;
+			for (Usage usage : usages) {
+				if (!Bindings.equals(usage.fBinding, target))
+					continue;
+				int flag= 0;
+				String description= readDescription;
+				if (isVariable) {
+					flag= usage.fIsWrite ? IOccurrencesFinder.F_WRITE_OCCURRENCE : IOccurrencesFinder.F_READ_OCCURRENCE;
+					if (usage.fIsWrite)
+						description= writeDescription;
+				}
+				result.add(new OccurrenceLocation(usage.fName.getStartPosition(), usage.fName.getLength(), flag, description));
+			}
+		}
+		if (result.isEmpty())
+			return null;
+		return result.toArray(new OccurrenceLocation[result.size()]);
+	}
+
+	/**
+	 * Returns the occurrences the given kind of finder reports for the selected node. The finder
+	 * only runs the first time a node is queried.
+	 *
+	 * @param finderId the id of the finder, see {@link IOccurrencesFinder#getID()}
+	 * @param finderFactory creates the finder
+	 * @param selectedNode the selected node of the AST
+	 * @return the occurrences, or <code>null</code> if the finder cannot be applied to the node or
+	 *         found no occurrences
+	 */
+	public synchronized OccurrenceLocation[] getOccurrences(String finderId, Supplier<IOccurrencesFinder> finderFactory, ASTNode selectedNode) {
+		Map<ASTNode, OccurrenceLocation[]> results= fFinderResults.computeIfAbsent(finderId, k -> new IdentityHashMap<>());
+		OccurrenceLocation[] locations= results.get(selectedNode);
+		if (locations == null) {
+			IOccurrencesFinder finder= finderFactory.get();
+			if (finder.initialize(fRoot, selectedNode) == null)
+				locations= finder.getOccurrences();
+			if (locations == null)
+				locations= NO_OCCURRENCES;
+			results.put(selectedNode, locations);
+		}
+		return locations == NO_OCCURRENCES ? null : locations;
+	}
+
+	/*
+	 * All names referring to the same binding end with the same identifier, even for packages and
+	 * modules, whose binding names are qualified.
+	 */
+	private static String getIdentifier(Name name) {
+		if (name instanceof QualifiedName)
+			return ((QualifiedName) name).getName().getIdentifier();
+		return ((SimpleName) name).getIdentifier();
+	}
+
+	private static String getStaticImportKey(IMethodBinding binding) {
+		String typeKey= binding.getDeclaringClass().getTypeDeclaration().getKey();
+		if (typeKey == null)
+			return null;
+		return typeKey + '.' + binding.getName();
+	}
+}
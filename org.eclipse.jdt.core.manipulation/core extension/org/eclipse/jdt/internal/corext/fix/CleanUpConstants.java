@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2298,6 +2298,17 @@ public class CleanUpConstants {
 
 	public static final String CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS= "cleanup.on_save_use_additional_actions"; //$NON-NLS-1$
 
+	/**
+	 * Time in milliseconds clean up on save may block the save. Clean ups that are left when the
+	 * budget is exceeded are applied in the background.<br>
+	 * <br>
+	 * Possible values: int value, <code>0</code> for no limit<br>
+	 * Default value: <code>0</code><br>
+	 *
+	 * @since 1.17
+	 */
+	public static final String CLEANUP_ON_SAVE_TIME_BUDGET= "cleanup.on_save_time_budget"; //$NON-NLS-1$
+
 	/**
 	 * The id of the profile used as a default profile when executing clean up.<br>
 	 * <br>
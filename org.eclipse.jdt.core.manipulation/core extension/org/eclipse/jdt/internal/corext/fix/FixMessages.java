@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ public final class FixMessages extends NLS {
 	}
 
 	public static String CleanUpPostSaveListener_name;
+	public static String CleanUpPostSaveListener_FinishCleanUpsJob_name;
 	public static String CleanUpPostSaveListener_SaveAction_ChangeName;
 	public static String CleanUpPostSaveListener_SlowCleanUpDialog_link;
 	public static String CleanUpPostSaveListener_SlowCleanUpDialog_title;
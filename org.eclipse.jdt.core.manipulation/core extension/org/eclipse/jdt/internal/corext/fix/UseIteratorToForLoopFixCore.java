@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation;
 import org.eclipse.jdt.internal.corext.fix.helper.AbstractTool;
 import org.eclipse.jdt.internal.corext.fix.helper.WhileLoopToChangeHit;
@@ -60,6 +61,21 @@ public enum UseIteratorToForLoopFixCore {
 		iteratortofor.find(this, compilationUnit, operations, nodesprocessed, createForOnlyIfVarUsed);
 	}
 
+	/**
+	 * Register the search for supported situations with a traversal shared by several clean ups
+	 *
+	 * @param compilationUnit unit to search in
+	 * @param traversal shared traversal of the compilation unit
+	 * @param operations set of all CompilationUnitRewriteOperations created already
+	 * @param nodesprocessed list to remember nodes already processed
+	 * @param createForOnlyIfVarUsed true if for loop should be created only only if loop var used within
+	 * @return runnable adding the operations found, to be run after the traversal
+	 */
+	public Runnable registerOperations(final CompilationUnit compilationUnit, final FusedHelperVisitor traversal,
+			final Set<CompilationUnitRewriteOperation> operations, final Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed) {
+		return iteratortofor.register(this, compilationUnit, traversal, operations, nodesprocessed, createForOnlyIfVarUsed);
+	}
+
 	public CompilationUnitRewriteOperation rewrite(final WhileLoopToChangeHit hit) {
 		return new CompilationUnitRewriteOperation() {
 			@Override
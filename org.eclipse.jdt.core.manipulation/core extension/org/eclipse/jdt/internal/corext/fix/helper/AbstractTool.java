@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.Name;
 
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
 import org.eclipse.jdt.internal.corext.dom.AbortSearchException;
 import org.eclipse.jdt.internal.corext.dom.ScopeAnalyzer;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation;
@@ -48,6 +49,24 @@ public abstract class AbstractTool<T> {
 	public abstract void find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit, Set<CompilationUnitRewriteOperation> operations,
 			Set<ASTNode> nodesprocessed, boolean createForIfVarNotUsed);
 
+	/**
+	 * Registers the search of this tool with a traversal shared by several clean ups. The returned
+	 * runnable adds the operations found and must be run after the traversal. Tools that do not
+	 * override this method search the compilation unit on their own when the runnable is run.
+	 *
+	 * @param fixcore fix core the operations are created for
+	 * @param compilationUnit unit to search in
+	 * @param traversal shared traversal of the compilation unit
+	 * @param operations set of all CompilationUnitRewriteOperations created already
+	 * @param nodesprocessed list to remember nodes already processed
+	 * @param createForIfVarNotUsed true if for loop should be created only only if loop var used within
+	 * @return runnable adding the operations found to <code>operations</code>
+	 */
+	public Runnable register(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit, FusedHelperVisitor traversal,
+			Set<CompilationUnitRewriteOperation> operations, Set<ASTNode> nodesprocessed, boolean createForIfVarNotUsed) {
+		return () -> find(fixcore, compilationUnit, operations, nodesprocessed, createForIfVarNotUsed);
+	}
+
 	public abstract void rewrite(UseIteratorToForLoopFixCore useExplicitEncodingFixCore, T holder, CompilationUnitRewrite cuRewrite,
 			TextEditGroup group);
 
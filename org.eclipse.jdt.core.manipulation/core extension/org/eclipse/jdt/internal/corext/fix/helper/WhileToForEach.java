@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,7 @@ import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.TypeLocation;
 
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
 import org.eclipse.jdt.internal.common.HelperVisitor;
 import org.eclipse.jdt.internal.common.ReferenceHolder;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
@@ -77,10 +78,25 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 	@Override
 	public void find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit,
 			Set<CompilationUnitRewriteOperation> operations, Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed) {
-		ReferenceHolder<ASTNode, WhileLoopToChangeHit> dataholder= new ReferenceHolder<>();
 		Map<ASTNode, WhileLoopToChangeHit> operationsMap= new LinkedHashMap<>();
+		createVisitor(operationsMap, nodesprocessed, createForOnlyIfVarUsed).build(compilationUnit);
+		addOperations(fixcore, operationsMap, operations);
+	}
+
+	@Override
+	public Runnable register(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit, FusedHelperVisitor traversal,
+			Set<CompilationUnitRewriteOperation> operations, Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed) {
+		Map<ASTNode, WhileLoopToChangeHit> operationsMap= new LinkedHashMap<>();
+		traversal.add(createVisitor(operationsMap, nodesprocessed, createForOnlyIfVarUsed));
+		return () -> addOperations(fixcore, operationsMap, operations);
+	}
+
+	private static HelperVisitor<ReferenceHolder<ASTNode, WhileLoopToChangeHit>, ASTNode, WhileLoopToChangeHit> createVisitor(
+			Map<ASTNode, WhileLoopToChangeHit> operationsMap, Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed) {
+		ReferenceHolder<ASTNode, WhileLoopToChangeHit> dataholder= new ReferenceHolder<>();
 		WhileLoopToChangeHit invalidHit= new WhileLoopToChangeHit(true);
-		HelperVisitor.callVariableDeclarationStatementVisitor(Iterator.class, compilationUnit, dataholder, nodesprocessed, (init_iterator, holder_a) -> {
+		HelperVisitor<ReferenceHolder<ASTNode, WhileLoopToChangeHit>, ASTNode, WhileLoopToChangeHit> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		hv.addVariableDeclarationStatement(Iterator.class, (init_iterator, holder_a) -> {
 			List<Object> computeVarName= computeVarName(init_iterator);
 			MethodInvocation iteratorCall= computeIteratorCall(init_iterator);
 			if (computeVarName != null && iteratorCall != null) {
@@ -175,6 +191,11 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 			}
 			return true;
 		});
+		return hv;
+	}
+
+	private static void addOperations(UseIteratorToForLoopFixCore fixcore, Map<ASTNode, WhileLoopToChangeHit> operationsMap,
+			Set<CompilationUnitRewriteOperation> operations) {
 		for (WhileLoopToChangeHit hit : operationsMap.values()) {
 			if (!hit.isInvalid && validate(hit)) {
 				operations.add(fixcore.rewrite(hit));
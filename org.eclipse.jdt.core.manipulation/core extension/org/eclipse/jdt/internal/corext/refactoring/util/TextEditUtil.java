@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.util;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
 import org.eclipse.text.edits.MalformedTreeException;
 import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 
 import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
@@ -352,6 +360,131 @@ public class TextEditUtil {
 		}
 	}
 
+	/**
+	 * Create an edit which contains <code>edit</code> and <code>base</code> even if they overlap
+	 * in ways {@link #merge(TextEdit, TextEdit)} rejects, as long as the overlap does not change
+	 * the meaning of either edit. For each leaf of <code>edit</code> overlapping a leaf of
+	 * <code>base</code>:
+	 * <ul>
+	 * <li>a leaf equal to a leaf of <code>base</code> is dropped if <code>drop</code> is set</li>
+	 * <li>a leaf lying strictly inside text deleted by <code>base</code> is dropped if
+	 * <code>drop</code> is set</li>
+	 * <li>a non-empty leaf only touching a non-empty leaf of <code>base</code> is kept</li>
+	 * </ul>
+	 * Any other overlap is a conflict, and so is a leaf to drop if <code>drop</code> is not set.
+	 * <p><strong>If the edits can be rebased, they are modified and can no longer be used.</strong>
+	 * If they conflict, neither edit is modified.</p>
+	 *
+	 * @param edit the edit to rebase onto base
+	 * @param base the edit to rebase onto
+	 * @param drop <code>true</code> if leaves of <code>edit</code> may be dropped, which is only
+	 *            correct if the rest of <code>edit</code> does not depend on them
+	 * @param dropped map to which the dropped leaves of <code>edit</code> are added, each mapped
+	 *            to the equal leaf of <code>base</code> or to <code>null</code> if its text is
+	 *            deleted by <code>base</code>
+	 * @return the merged tree or <code>null</code> if the edits conflict
+	 * @see #overlaps(TextEdit, TextEdit)
+	 */
+	public static TextEdit rebase(TextEdit edit, TextEdit base, boolean drop, Map<TextEdit, TextEdit> dropped) {
+		List<TextEdit> units= new ArrayList<>();
+		collectUnits(edit, units);
+		List<TextEdit> baseUnits= new ArrayList<>();
+		collectUnits(base, baseUnits);
+
+		Map<TextEdit, TextEdit> result= new IdentityHashMap<>();
+		int first= 0;
+		for (TextEdit unit : units) {
+			while (first < baseUnits.size() && baseUnits.get(first).getExclusiveEnd() < unit.getOffset())
+				first++;
+
+			TextEdit duplicate= null;
+			boolean deleted= false;
+			boolean conflict= false;
+			for (int i= first; i < baseUnits.size(); i++) {
+				TextEdit baseUnit= baseUnits.get(i);
+				if (baseUnit.getOffset() > unit.getExclusiveEnd())
+					break;
+
+				if (isDuplicate(unit, baseUnit)) {
+					duplicate= baseUnit;
+				} else if (isDeletedBy(unit, baseUnit)) {
+					deleted= true;
+				} else if (!isAdjacent(unit, baseUnit)) {
+					conflict= true;
+				}
+			}
+
+			if ((duplicate != null || deleted) && !drop) {
+				return null;
+			} else if (duplicate != null) {
+				result.put(unit, duplicate);
+			} else if (deleted) {
+				result.put(unit, null);
+			} else if (conflict) {
+				return null;
+			}
+		}
+
+		MultiTextEdit kept= new MultiTextEdit();
+		for (TextEdit unit : units) {
+			if (!result.containsKey(unit)) {
+				TextEdit parent= unit.getParent();
+				if (parent != null)
+					parent.removeChild(unit);
+				kept.addChild(unit);
+			}
+		}
+		dropped.putAll(result);
+		return merge(kept, base);
+	}
+
+	private static void collectUnits(TextEdit edit, List<TextEdit> result) {
+		if (edit instanceof MultiTextEdit) {
+			for (TextEdit child : edit.getChildren()) {
+				collectUnits(child, result);
+			}
+		} else {
+			result.add(edit);
+		}
+	}
+
+	private static boolean isSimple(TextEdit edit) {
+		return !edit.hasChildren() && (edit instanceof ReplaceEdit || edit instanceof InsertEdit || edit instanceof DeleteEdit);
+	}
+
+	private static boolean isDuplicate(TextEdit edit1, TextEdit edit2) {
+		if (!isSimple(edit1) || edit1.getClass() != edit2.getClass() || !isSimple(edit2))
+			return false;
+
+		if (edit1.getOffset() != edit2.getOffset() || edit1.getLength() != edit2.getLength())
+			return false;
+
+		if (edit1 instanceof ReplaceEdit)
+			return ((ReplaceEdit) edit1).getText().equals(((ReplaceEdit) edit2).getText());
+
+		if (edit1 instanceof InsertEdit)
+			return ((InsertEdit) edit1).getText().equals(((InsertEdit) edit2).getText());
+
+		return true;
+	}
+
+	private static boolean isDeletedBy(TextEdit edit, TextEdit deletion) {
+		if (!isSimple(edit) || !isSimple(deletion))
+			return false;
+
+		if (!(deletion instanceof DeleteEdit) && !(deletion instanceof ReplaceEdit && ((ReplaceEdit) deletion).getText().isEmpty()))
+			return false;
+
+		return deletion.getOffset() < edit.getOffset() && edit.getExclusiveEnd() < deletion.getExclusiveEnd();
+	}
+
+	private static boolean isAdjacent(TextEdit edit1, TextEdit edit2) {
+		if (edit1.getLength() == 0 || edit2.getLength() == 0)
+			return false;
+
+		return edit1.getExclusiveEnd() == edit2.getOffset() || edit2.getExclusiveEnd() == edit1.getOffset();
+	}
+
 	private TextEditUtil() {
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -149,6 +149,32 @@ public class SuperTypeHierarchyCache {
 		return hierarchy;
 	}
 
+	/**
+	 * Returns a super type hierarchy on the given type. Unlike {@link #getTypeHierarchy(IType)},
+	 * the focus type of the returned hierarchy is always the given type.
+	 * <p>
+	 * A new hierarchy is only added to the cache if no cached hierarchy contains the type yet.
+	 * </p>
+	 *
+	 * @param type the focus type
+	 * @param progressMonitor progress monitor
+	 * @return a supertype hierarchy on <code>type</code>
+	 * @throws JavaModelException if a problem occurs
+	 */
+	public static ITypeHierarchy getFocusedTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		ITypeHierarchy cached= findTypeHierarchyInCache(type);
+		if (cached != null && type.equals(cached.getType())) {
+			fgCacheHits++;
+			return cached;
+		}
+		fgCacheMisses++;
+		ITypeHierarchy hierarchy= type.newSupertypeHierarchy(progressMonitor);
+		// a cached hierarchy on a subtype already serves getTypeHierarchy(type)
+		if (cached == null)
+			addTypeHierarchyToCache(hierarchy);
+		return hierarchy;
+	}
+
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
 		synchronized (fgHierarchyCache) {
 			int nEntries= fgHierarchyCache.size();
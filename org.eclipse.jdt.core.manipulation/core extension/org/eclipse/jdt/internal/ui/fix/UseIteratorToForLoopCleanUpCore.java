@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,12 +33,13 @@ import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
 import org.eclipse.jdt.core.manipulation.CleanUpRequirementsCore;
 import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation;
 import org.eclipse.jdt.internal.corext.fix.UseIteratorToForLoopFixCore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
-public class UseIteratorToForLoopCleanUpCore extends AbstractCleanUpCore {
+public class UseIteratorToForLoopCleanUpCore extends AbstractCleanUpCore implements ISharedTraversalCleanUpCore {
 	public UseIteratorToForLoopCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -71,6 +72,28 @@ public class UseIteratorToForLoopCleanUpCore extends AbstractCleanUpCore {
 		Set<CompilationUnitRewriteOperation> operations= new LinkedHashSet<>();
 		Set<ASTNode> nodesprocessed= new HashSet<>();
 		computeFixSet.forEach(i -> i.findOperations(compilationUnit, operations, nodesprocessed, isEnabled(CONTROL_STATEMENTS_CONVERT_FOR_LOOP_ONLY_IF_LOOP_VAR_USED)));
+		return createFix(compilationUnit, operations);
+	}
+
+	@Override
+	public IFixCollector registerInterests(final CleanUpContextCore context, final FusedHelperVisitor traversal) throws CoreException {
+		CompilationUnit compilationUnit= context.getAST();
+		EnumSet<UseIteratorToForLoopFixCore> computeFixSet= computeFixSet();
+		if (compilationUnit == null || computeFixSet.isEmpty()
+				|| !JavaModelUtil.is1d8OrHigher(compilationUnit.getJavaElement().getJavaProject())) {
+			return null;
+		}
+		Set<CompilationUnitRewriteOperation> operations= new LinkedHashSet<>();
+		Set<ASTNode> nodesprocessed= new HashSet<>();
+		List<Runnable> collectors= new ArrayList<>();
+		computeFixSet.forEach(i -> collectors.add(i.registerOperations(compilationUnit, traversal, operations, nodesprocessed, isEnabled(CONTROL_STATEMENTS_CONVERT_FOR_LOOP_ONLY_IF_LOOP_VAR_USED))));
+		return () -> {
+			collectors.forEach(Runnable::run);
+			return createFix(compilationUnit, operations);
+		};
+	}
+
+	private static ICleanUpFixCore createFix(CompilationUnit compilationUnit, Set<CompilationUnitRewriteOperation> operations) {
 		if (operations.isEmpty()) {
 			return null;
 		}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitDocumentProvider;
+
+/**
+ * Tests the reverse map of the annotation model of {@link CompilationUnitDocumentProvider}.
+ */
+public class CompilationUnitReverseMapTest {
+
+	/**
+	 * Gives access to the protected reverse map, the provider is never created.
+	 */
+	private static class Access extends CompilationUnitDocumentProvider {
+
+		static void testPutGetRemove() {
+			ReverseMap map= new ReverseMap();
+			Position p1= new Position(10, 5);
+			Position p2= new Position(10, 6);
+			Position p3= new Position(20, 5);
+			map.put(p1, "a");
+			map.put(p2, "b");
+			map.put(p3, "c");
+			assertEquals("a", map.get(new Position(10, 5)));
+			assertEquals("b", map.get(p2));
+			assertEquals("c", map.get(p3));
+
+			map.put(new Position(10, 5), "d");
+			assertEquals("d", map.get(p1));
+
+			map.remove(p1);
+			assertNull(map.get(p1));
+			assertEquals("b", map.get(p2));
+			assertEquals("c", map.get(p3));
+
+			map.clear();
+			assertNull(map.get(p2));
+		}
+
+		static void testPositionsMovedOntoEachOther() {
+			ReverseMap map= new ReverseMap();
+			Position p1= new Position(10, 5);
+			Position p2= new Position(20, 5);
+			map.revalidate(1);
+			map.put(p1, "a");
+			map.put(p2, "b");
+
+			// the positions are updated to the same range
+			DocumentEvent event= new DocumentEvent(new Document(), 10, 10, "");
+			map.documentAboutToBeChanged(event);
+			p2.setOffset(10);
+			map.documentChanged(event);
+			map.revalidate(2);
+
+			assertEquals("a", map.get(new Position(10, 5)));
+			map.remove(p1);
+			assertEquals("b", map.get(new Position(10, 5)));
+			map.remove(p2);
+			assertNull(map.get(new Position(10, 5)));
+		}
+
+		static void testRevalidate() {
+			ReverseMap map= new ReverseMap();
+			Position position= new Position(10, 5);
+			map.revalidate(1);
+			map.put(position, "a");
+
+			DocumentEvent event= new DocumentEvent(new Document(), 0, 0, "xxxxx");
+			map.documentAboutToBeChanged(event);
+			position.setOffset(15);
+			map.documentChanged(event);
+
+			map.revalidate(2);
+			assertEquals("a", map.get(new Position(15, 5)));
+			assertNull(map.get(new Position(10, 5)));
+		}
+
+		static void testRevalidateWhileDocumentChanges() {
+			ReverseMap map= new ReverseMap();
+			Position position= new Position(10, 5);
+			map.revalidate(1);
+			map.put(position, "a");
+
+			// the document sets the new stamp before it updates the positions
+			DocumentEvent event= new DocumentEvent(new Document(), 0, 0, "xxxxx");
+			map.documentAboutToBeChanged(event);
+			map.revalidate(2);
+			assertEquals("a", map.get(new Position(10, 5)));
+			position.setOffset(15);
+			map.documentChanged(event);
+
+			// same stamp, but the entries have been indexed with the old positions
+			map.revalidate(2);
+			assertEquals("a", map.get(new Position(15, 5)));
+			assertNull(map.get(new Position(10, 5)));
+		}
+
+		static void testInvalidate() {
+			ReverseMap map= new ReverseMap();
+			Position position= new Position(10, 5);
+			map.revalidate(1);
+			map.put(position, "a");
+
+			// modified in place without a document change
+			position.setOffset(30);
+			map.invalidate();
+			map.revalidate(1);
+			assertEquals("a", map.get(new Position(30, 5)));
+		}
+	}
+
+	@Test
+	public void testPutGetRemove() {
+		Access.testPutGetRemove();
+	}
+
+	@Test
+	public void testPositionsMovedOntoEachOther() {
+		Access.testPositionsMovedOntoEachOther();
+	}
+
+	@Test
+	public void testRevalidate() {
+		Access.testRevalidate();
+	}
+
+	@Test
+	public void testRevalidateWhileDocumentChanges() {
+		Access.testRevalidateWhileDocumentChanges();
+	}
+
+	@Test
+	public void testInvalidate() {
+		Access.testInvalidate();
+	}
+}
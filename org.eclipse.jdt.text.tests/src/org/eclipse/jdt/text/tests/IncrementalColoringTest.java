@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.custom.StyleRange;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.TextPresentation;
+import org.eclipse.jface.text.presentation.IPresentationReconciler;
+import org.eclipse.jface.text.tests.TestTextViewer;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+import org.eclipse.jdt.ui.text.JavaSourceViewerConfiguration;
+import org.eclipse.jdt.ui.text.JavaTextTools;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Tests that the presentation after edits which change the partitioning is the same as the one
+ * of a full scan of the document.
+ */
+public class IncrementalColoringTest {
+
+	private static final String SOURCE= "" +
+			"package p;\n" +
+			"public class A {\n" +
+			"	/** doc */\n" +
+			"	void m() {\n" +
+			"		String s= x;\n" +
+			"		int i= 1; // comment\n" +
+			"		char c= 'c';\n" +
+			"		/* block */ return;\n" +
+			"	}\n" +
+			"	int f= 2;\n" +
+			"}\n";
+
+	/**
+	 * Keeps the style of each character like a styled text widget: the styles move with the
+	 * document changes and are replaced by the applied presentations.
+	 */
+	private static class StyledTextViewer extends TestTextViewer implements IDocumentListener {
+		final List<StyleRange> fStyles= new ArrayList<>();
+
+		@Override
+		public void setDocument(IDocument document) {
+			fStyles.clear();
+			for (int i= 0; i < document.getLength(); i++)
+				fStyles.add(null);
+			document.addDocumentListener(this);
+			super.setDocument(document);
+		}
+
+		@Override
+		public void changeTextPresentation(TextPresentation presentation, boolean controlRedraw) {
+			super.changeTextPresentation(presentation, controlRedraw);
+			IRegion extent= presentation.getExtent();
+			for (int i= extent.getOffset(); i < extent.getOffset() + extent.getLength(); i++)
+				fStyles.set(i, presentation.getDefaultStyleRange());
+			Iterator<StyleRange> e= presentation.getNonDefaultStyleRangeIterator();
+			while (e.hasNext()) {
+				StyleRange range= e.next();
+				for (int i= range.start; i < range.start + range.length; i++)
+					fStyles.set(i, range);
+			}
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			fStyles.subList(event.getOffset(), event.getOffset() + event.getLength()).clear();
+			for (int i= 0; i < event.getText().length(); i++)
+				fStyles.add(event.getOffset(), null);
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+		}
+	}
+
+	private JavaTextTools fTextTools;
+	private IDocument fDocument;
+	private StyledTextViewer fTextViewer;
+	private IPresentationReconciler fReconciler;
+
+	@Before
+	public void setUp() {
+		fTextTools= JavaPlugin.getDefault().getJavaTextTools();
+		fDocument= createDocument(SOURCE);
+		fTextViewer= new StyledTextViewer();
+		fReconciler= createReconciler(fTextViewer);
+		fReconciler.install(fTextViewer);
+		fTextViewer.setDocument(fDocument);
+		assertSameAsFullScan();
+	}
+
+	@After
+	public void tearDown() {
+		fReconciler.uninstall();
+		fDocument.removeDocumentListener(fTextViewer);
+	}
+
+	@Test
+	public void testTypingStringDelimiters() throws Exception {
+		int offset= indexOf("x;");
+		type(offset, "\"");
+		type(offset + 2, "\"");
+		type(offset + 1, "a\"b");
+	}
+
+	@Test
+	public void testTypingCommentDelimiters() throws Exception {
+		type(indexOf("void m()"), "/*");
+		type(indexOf("int f") + 2, "*/");
+		type(indexOf("int i") + 2, "//");
+	}
+
+	@Test
+	public void testTypingJavadocStart() throws Exception {
+		type(indexOf("/** doc */") + 4, "*/ /**");
+	}
+
+	@Test
+	public void testDeletingAcrossPartitions() throws Exception {
+		replace(indexOf("comment"), indexOf("'c'") + 1 - indexOf("comment"), "");
+		replace(indexOf("doc */"), 6, "");
+		replace(0, indexOf("block"), "");
+	}
+
+	private int indexOf(String text) {
+		int offset= fDocument.get().indexOf(text);
+		assertTrue(offset != -1);
+		return offset;
+	}
+
+	private void type(int offset, String text) throws Exception {
+		for (int i= 0; i < text.length(); i++)
+			replace(offset + i, 0, text.substring(i, i + 1));
+	}
+
+	private void replace(int offset, int length, String text) throws Exception {
+		fDocument.replace(offset, length, text);
+		assertSameAsFullScan();
+	}
+
+	/**
+	 * Asserts that the styles of the viewer are the ones of a new viewer on the same content.
+	 */
+	private void assertSameAsFullScan() {
+		StyledTextViewer viewer= new StyledTextViewer();
+		IDocument document= createDocument(fDocument.get());
+		IPresentationReconciler reconciler= createReconciler(viewer);
+		reconciler.install(viewer);
+		try {
+			viewer.setDocument(document);
+		} finally {
+			reconciler.uninstall();
+			document.removeDocumentListener(viewer);
+		}
+
+		assertEquals(viewer.fStyles.size(), fTextViewer.fStyles.size());
+		for (int i= 0; i < viewer.fStyles.size(); i++) {
+			StyleRange expected= viewer.fStyles.get(i);
+			StyleRange actual= fTextViewer.fStyles.get(i);
+			String message= "style at " + i + " of:\n" + fDocument.get();
+			if (expected == null || actual == null)
+				assertTrue(message, expected == actual);
+			else
+				assertTrue(message, expected.similarTo(actual));
+		}
+	}
+
+	private IDocument createDocument(String content) {
+		IDocument document= new Document(content);
+		fTextTools.setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+		return document;
+	}
+
+	private IPresentationReconciler createReconciler(TestTextViewer viewer) {
+		JavaSourceViewerConfiguration configuration= new JavaSourceViewerConfiguration(fTextTools.getColorManager(), JavaPlugin.getDefault().getCombinedPreferenceStore(), null, IJavaPartitions.JAVA_PARTITIONING);
+		return configuration.getPresentationReconciler(viewer);
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.DisplayHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+
+/**
+ * Tests that the folding structure is only computed again for the members changed by an edit.
+ */
+public class IncrementalFoldingTest {
+
+	private static final String SOURCE= "" +
+			"package p;\n" +
+			"public class A {\n" +
+			"	void m1() {\n" +
+			"		int a= 1;\n" +
+			"	}\n" +
+			"	void m2() {\n" +
+			"		int b= 2;\n" +
+			"	}\n" +
+			"	void m3() {\n" +
+			"		int c= 3;\n" +
+			"	}\n" +
+			"}\n";
+
+	private IJavaProject fJavaProject;
+	private boolean fFoldingEnabled;
+	private JavaEditor fEditor;
+	private IDocument fDocument;
+	private ProjectionAnnotationModel fModel;
+
+	@Before
+	public void setUp() throws Exception {
+		fFoldingEnabled= EditorTestHelper.enableFolding(true);
+		fJavaProject= JavaProjectHelper.createJavaProject("P", "bin");
+		assertNotNull(JavaProjectHelper.addRTJar(fJavaProject));
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+		ICompilationUnit cu= pack.createCompilationUnit("A.java", SOURCE, true, null);
+
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor((IFile) cu.getResource(), true);
+		assertNotNull(fEditor);
+		fDocument= EditorTestHelper.getDocument(fEditor);
+		fModel= fEditor.getAdapter(ProjectionAnnotationModel.class);
+		assertNotNull(fModel);
+		waitFor(() -> find("m1") != null && find("m2") != null && find("m3") != null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+		EditorTestHelper.enableFolding(fFoldingEnabled);
+	}
+
+	@Test
+	public void testEditInsideMemberKeepsOtherAnnotations() throws Exception {
+		ProjectionAnnotation m1= find("m1");
+		ProjectionAnnotation m2= find("m2");
+		ProjectionAnnotation m3= find("m3");
+		fModel.collapse(m3);
+		assertTrue(m3.isCollapsed());
+		int m1Length= fModel.getPosition(m1).getLength();
+
+		IRegion line= fDocument.getLineInformation(3);
+		fDocument.replace(line.getOffset() + line.getLength(), 0, "\n\t\tint d= 4;");
+		waitFor(() -> {
+			ProjectionAnnotation annotation= find("m1");
+			return annotation != null && fModel.getPosition(annotation).getLength() > m1Length;
+		});
+
+		assertSame(m2, find("m2"));
+		assertSame(m3, find("m3"));
+		assertTrue(m3.isCollapsed());
+		assertFalse(m2.isCollapsed());
+	}
+
+	@Test
+	public void testAddMember() throws Exception {
+		ProjectionAnnotation m2= find("m2");
+		int offset= fDocument.getLineOffset(11);
+		fDocument.replace(offset, 0, "	void m4() {\n		int d= 4;\n	}\n");
+		waitFor(() -> find("m4") != null);
+
+		assertSame(m2, find("m2"));
+		assertNotNull(find("m1"));
+		assertNotNull(find("m3"));
+	}
+
+	@Test
+	public void testRemoveMember() throws Exception {
+		ProjectionAnnotation m3= find("m3");
+		int offset= fDocument.getLineOffset(5);
+		fDocument.replace(offset, fDocument.getLineOffset(8) - offset, "");
+		waitFor(() -> find("m2") == null);
+
+		assertNull(find("m2"));
+		assertSame(m3, find("m3"));
+		assertNotNull(find("m1"));
+	}
+
+	/**
+	 * Returns the projection annotation of the method with the given name.
+	 *
+	 * @param method the name of the method
+	 * @return the annotation, or <code>null</code> if none
+	 */
+	private ProjectionAnnotation find(String method) {
+		Iterator<Annotation> iter= fModel.getAnnotationIterator();
+		while (iter.hasNext()) {
+			Annotation annotation= iter.next();
+			Position position= fModel.getPosition(annotation);
+			if (!(annotation instanceof ProjectionAnnotation) || position == null || position.isDeleted())
+				continue;
+			try {
+				IRegion line= fDocument.getLineInformationOfOffset(position.getOffset());
+				if (fDocument.get(line.getOffset(), line.getLength()).contains("void " + method + "()"))
+					return (ProjectionAnnotation) annotation;
+			} catch (BadLocationException e) {
+				// not a current annotation
+			}
+		}
+		return null;
+	}
+
+	private interface Condition {
+		boolean holds();
+	}
+
+	private static void waitFor(Condition condition) {
+		assertTrue("folding structure not updated", new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return condition.holds();
+			}
+		}.waitForCondition(EditorTestHelper.getActiveDisplay(), 10000));
+	}
+}
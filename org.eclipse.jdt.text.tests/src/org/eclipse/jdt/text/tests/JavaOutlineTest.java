@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.DisplayHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ui.IPageLayout;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.part.IPage;
+import org.eclipse.ui.part.PageBookView;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+
+/**
+ * Tests that the Java outline follows the changes of the compilation unit.
+ */
+public class JavaOutlineTest {
+
+	private static final String LEXICAL_SORTING= "LexicalSortingAction.isChecked";
+
+	private IJavaProject fJavaProject;
+	private boolean fLexicalSorting;
+	private IViewPart fOutline;
+	private IDocument fDocument;
+	private Tree fTree;
+
+	@Before
+	public void setUp() throws Exception {
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		fLexicalSorting= store.getBoolean(LEXICAL_SORTING);
+		store.setValue(LEXICAL_SORTING, true);
+
+		fJavaProject= JavaProjectHelper.createJavaProject("P", "bin");
+		assertNotNull(JavaProjectHelper.addRTJar(fJavaProject));
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+		String source= "" +
+				"package p;\n" +
+				"public class A {\n" +
+				"	void a() {\n" +
+				"	}\n" +
+				"	void b() {\n" +
+				"	}\n" +
+				"	void c() {\n" +
+				"	}\n" +
+				"}\n";
+		ICompilationUnit cu= pack.createCompilationUnit("A.java", source, true, null);
+
+		JavaEditor editor= (JavaEditor) EditorTestHelper.openInEditor((IFile) cu.getResource(), true);
+		assertNotNull(editor);
+		fDocument= EditorTestHelper.getDocument(editor);
+		IWorkbenchPage page= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		fOutline= page.showView(IPageLayout.ID_OUTLINE);
+		IPage outlinePage= ((PageBookView) fOutline).getCurrentPage();
+		assertNotNull(outlinePage);
+		fTree= (Tree) outlinePage.getControl();
+		assertNotNull(fTree);
+		waitForMembers("a b c");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fOutline != null)
+			fOutline.getSite().getPage().hideView(fOutline);
+		EditorTestHelper.closeAllEditors();
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+		JavaPlugin.getDefault().getPreferenceStore().setValue(LEXICAL_SORTING, fLexicalSorting);
+	}
+
+	@Test
+	public void testModifiersChangeSortOrder() throws Exception {
+		// static methods are sorted before the other methods
+		int offset= fDocument.get().indexOf("void c()");
+		fDocument.replace(offset, 0, "static ");
+		waitForMembers("c a b");
+
+		offset= fDocument.get().indexOf("static ");
+		fDocument.replace(offset, "static ".length(), "");
+		waitForMembers("a b c");
+	}
+
+	@Test
+	public void testAddAndRemoveMember() throws Exception {
+		int offset= fDocument.get().indexOf("	void c()");
+		fDocument.replace(offset, 0, "	void aa() {\n	}\n");
+		waitForMembers("a aa b c");
+
+		offset= fDocument.get().indexOf("	void b()");
+		fDocument.replace(offset, fDocument.get().indexOf("	void c()") - offset, "");
+		waitForMembers("a aa c");
+	}
+
+	private void waitForMembers(String expected) {
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return expected.equals(getMembers());
+			}
+		}.waitForCondition(EditorTestHelper.getActiveDisplay(), 10000);
+		assertEquals(expected, getMembers());
+	}
+
+	/**
+	 * Returns the names of the members of type <code>A</code> in the order shown in the outline.
+	 *
+	 * @return the names separated by spaces, or <code>null</code> if the type is not shown
+	 */
+	private String getMembers() {
+		for (TreeItem item : fTree.getItems()) {
+			Object data= item.getData();
+			if (data instanceof IType && "A".equals(((IType) data).getElementName())) {
+				StringBuilder buf= new StringBuilder();
+				for (TreeItem child : item.getItems()) {
+					if (child.getData() instanceof IJavaElement) {
+						if (buf.length() > 0)
+							buf.append(' ');
+						buf.append(((IJavaElement) child.getData()).getElementName());
+					}
+				}
+				return buf.toString();
+			}
+		}
+		return null;
+	}
+}
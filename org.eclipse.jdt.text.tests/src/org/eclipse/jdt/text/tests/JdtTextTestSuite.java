@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	CompilationUnitDocumentProviderTest.class,
+	CompilationUnitReverseMapTest.class,
 	JavaHeuristicScannerTest.class,
 	JavaAutoIndentStrategyTest.class,
 	JavaBreakIteratorTest.class,
@@ -40,12 +41,16 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	JavaPairMatcherTest.class,
 	JavaPartitionerExtensionTest.class,
 	JavaColoringTest.class,
+	IncrementalColoringTest.class,
 	SmartSemicolonAutoEditStrategyTest.class,
 	JavaPartitionerTest.class,
 	PropertiesFilePartitionerTest.class,
 	PropertiesFileAutoEditStrategyTest.class,
 //	PartitionTokenScannerTest.class,
 	MarkOccurrenceTest.class,
+	ReconcilingListenerCancellationTest.class,
+	IncrementalFoldingTest.class,
+	JavaOutlineTest.class,
 	MarkOccurrenceTest1d7.class,
 	MarkOccurrenceTest1d8.class,
 	PluginsNotLoadedTest.class,
@@ -67,6 +72,8 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	JavaStringDoubleClickStrategyTest.class,
 	BreakContinueTargetFinderTest.class,
 	EnumConstructorTargetFinderTest.class,
+	OccurrencesIndexTest.class,
+	QuickOutlineImageTest.class,
 	ContentAssistTestSuite.class,
 	IndentActionTest.class,
 	TemplatesTestSuite.class,
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests that the {@link OccurrencesIndex} finds the same occurrences as the occurrences finders.
+ */
+public class OccurrencesIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private CompilationUnit createCompilationUnit(String source) throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java", source, false, null);
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(cu);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	private static List<SimpleName> getSimpleNames(CompilationUnit root) {
+		List<SimpleName> result= new ArrayList<>();
+		root.accept(new ASTVisitor(true) {
+			@Override
+			public boolean visit(SimpleName node) {
+				result.add(node);
+				return true;
+			}
+		});
+		return result;
+	}
+
+	private static String[] toStrings(OccurrenceLocation[] locations) {
+		if (locations == null)
+			return null;
+		String[] result= new String[locations.length];
+		for (int i= 0; i < locations.length; i++) {
+			OccurrenceLocation location= locations[i];
+			result[i]= location.getOffset() + "/" + location.getLength() + "/" + location.getFlags() + "/" + location.getDescription();
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	@Test
+	public void testSameAsOccurrencesFinder() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("import static java.lang.Math.max;\n");
+		buf.append("import java.util.ArrayList;\n");
+		buf.append("import java.util.List;\n");
+		buf.append("public class E {\n");
+		buf.append("    static int fCount;\n");
+		buf.append("    private List<String> fNames= new ArrayList<>();\n");
+		buf.append("    E fNext;\n");
+		buf.append("    public E(int count) {\n");
+		buf.append("        fCount= count;\n");
+		buf.append("        E.fCount++;\n");
+		buf.append("        this.fNext= new E(max(count, E.fCount));\n");
+		buf.append("    }\n");
+		buf.append("    int foo(int i) {\n");
+		buf.append("        int j= i;\n");
+		buf.append("        int fCount= E.fCount + j;\n");
+		buf.append("        j+= fNext.fNext.foo(--j);\n");
+		buf.append("        java.util.List<String> names= fNames;\n");
+		buf.append("        names.add(String.valueOf(Math.max(i, j)));\n");
+		buf.append("        return test1.E.fCount + names.size() + fCount;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		CompilationUnit root= createCompilationUnit(buf.toString());
+
+		OccurrencesIndex index= new OccurrencesIndex(root);
+		List<SimpleName> names= getSimpleNames(root);
+		assertFalse(names.isEmpty());
+		for (SimpleName name : names) {
+			OccurrencesFinder finder= new OccurrencesFinder();
+			OccurrenceLocation[] expected= finder.initialize(root, name) == null ? finder.getOccurrences() : null;
+			assertArrayEquals(name.getIdentifier() + " at " + name.getStartPosition(), toStrings(expected), toStrings(index.getOccurrences(name)));
+		}
+	}
+
+	@Test
+	public void testFinderResultsRemembered() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E {\n");
+		buf.append("    int foo(int i) {\n");
+		buf.append("        if (i > 0)\n");
+		buf.append("            return 1;\n");
+		buf.append("        return 2;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String source= buf.toString();
+		CompilationUnit root= createCompilationUnit(source);
+
+		OccurrencesIndex index= new OccurrencesIndex(root);
+		ASTNode returnType= NodeFinder.perform(root, source.indexOf("int foo"), 0);
+		OccurrenceLocation[] exits= index.getOccurrences(MethodExitsFinder.ID, MethodExitsFinder::new, returnType);
+		assertNotNull(exits);
+		MethodExitsFinder finder= new MethodExitsFinder();
+		assertNull(finder.initialize(root, returnType));
+		assertArrayEquals(toStrings(finder.getOccurrences()), toStrings(exits));
+		assertSame(exits, index.getOccurrences(MethodExitsFinder.ID, MethodExitsFinder::new, returnType));
+
+		ASTNode parameter= NodeFinder.perform(root, source.indexOf("i)"), 0);
+		assertNull(index.getOccurrences(MethodExitsFinder.ID, MethodExitsFinder::new, parameter));
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.actions.IJavaEditorActionDefinitionIds;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.JavaOutlineInformationControl;
+import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
+
+/**
+ * Tests that the quick outline hands back the images it has created when it is closed.
+ */
+public class QuickOutlineImageTest {
+	@Rule
+	public JUnitProjectTestSetup jpts= new JUnitProjectTestSetup();
+
+	private static final int RUNS= 5;
+
+	@Test
+	public void registrySizeStable() throws Exception {
+		IType type= JUnitProjectTestSetup.getProject().findType("junit.framework.TestCase");
+		assertNotNull(type);
+		ICompilationUnit unit= type.getCompilationUnit();
+		assertNotNull(unit);
+
+		ImageDescriptorRegistry registry= JavaPlugin.getImageDescriptorRegistry();
+		showQuickOutline(unit);
+		int count= registry.getLiveImageCount();
+		for (int i= 0; i < RUNS; i++) {
+			showQuickOutline(unit);
+			assertEquals(count, registry.getLiveImageCount());
+		}
+	}
+
+	private static void showQuickOutline(ICompilationUnit unit) {
+		Shell parent= EditorTestHelper.getActiveWorkbenchWindow().getShell();
+		JavaOutlineInformationControl control= new JavaOutlineInformationControl(parent, SWT.RESIZE, SWT.V_SCROLL | SWT.H_SCROLL, IJavaEditorActionDefinitionIds.SHOW_OUTLINE);
+		try {
+			control.setInput(unit);
+			control.setVisible(true);
+			EditorTestHelper.runEventQueue(parent);
+		} finally {
+			control.dispose();
+		}
+		EditorTestHelper.runEventQueue(parent);
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.text.tests.performance.DisplayHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
+import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
+
+/**
+ * Tests that the progress monitor passed to the Java reconciling listeners is canceled when the
+ * document changes during the notification.
+ */
+public class ReconcilingListenerCancellationTest {
+
+	@Rule
+	public JUnitProjectTestSetup jpts= new JUnitProjectTestSetup();
+
+	/**
+	 * Blocks the notification until its monitor is canceled.
+	 */
+	private static class BlockingListener implements IJavaReconcilingListener {
+		final CountDownLatch fStarted= new CountDownLatch(1);
+		final CountDownLatch fCanceled= new CountDownLatch(1);
+
+		@Override
+		public void aboutToBeReconciled() {
+		}
+
+		@Override
+		public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+			if (fStarted.getCount() == 0 || progressMonitor.isCanceled())
+				return;
+
+			fStarted.countDown();
+			long end= System.currentTimeMillis() + 10000;
+			while (!progressMonitor.isCanceled() && System.currentTimeMillis() < end) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+			if (progressMonitor.isCanceled())
+				fCanceled.countDown();
+		}
+	}
+
+	private CompilationUnitEditor fEditor;
+	private IDocument fDocument;
+	private BlockingListener fListener;
+
+	@Before
+	public void setUp() throws Exception {
+		IFile file= ResourcesPlugin.getWorkspace().getRoot().getFile(new Path("/" + JUnitProjectTestSetup.getProject().getElementName() + "/src/junit/framework/TestCase.java"));
+		fEditor= (CompilationUnitEditor) EditorTestHelper.openInEditor(file, true);
+		assertNotNull(fEditor);
+		fDocument= EditorTestHelper.getDocument(fEditor);
+		EditorTestHelper.joinReconciler(EditorTestHelper.getSourceViewer(fEditor), 0, 10000, 100);
+
+		fListener= new BlockingListener();
+		invokeListenerMethod("addReconcileListener", fListener);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		invokeListenerMethod("removeReconcileListener", fListener);
+		EditorTestHelper.closeAllEditors();
+	}
+
+	private void invokeListenerMethod(String name, IJavaReconcilingListener listener) throws Exception {
+		Method method= CompilationUnitEditor.class.getDeclaredMethod(name, IJavaReconcilingListener.class);
+		method.setAccessible(true);
+		method.invoke(fEditor, listener);
+	}
+
+	@Test
+	public void testCanceledWhenDocumentChanges() throws Exception {
+		fDocument.replace(0, 0, "// first change\n");
+		assertTrue("listener not notified", new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fListener.fStarted.getCount() == 0;
+			}
+		}.waitForCondition(EditorTestHelper.getActiveDisplay(), 10000));
+		assertFalse(fListener.fCanceled.getCount() == 0);
+
+		fDocument.replace(0, 0, "// second change\n");
+		assertTrue("listener not canceled", new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fListener.fCanceled.getCount() == 0;
+			}
+		}.waitForCondition(EditorTestHelper.getActiveDisplay(), 10000));
+	}
+}
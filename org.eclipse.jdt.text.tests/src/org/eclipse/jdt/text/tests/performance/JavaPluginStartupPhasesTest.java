@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import java.util.Map;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.internal.ui.StartupPhases;
+
+/**
+ * Measures the startup with an open Java editor until the deferred initialization phases of the
+ * Java UI plug-in have finished. The time of each phase is reported to the performance event
+ * {@link StartupPhases#PERF_STARTUP}.
+ */
+public class JavaPluginStartupPhasesTest extends StartupPerformanceTestCase {
+
+	private static final String SHORT_NAME= "Eclipse SDK startup with Java editor open until the Java UI is initialized";
+
+	public static Test suite() {
+		return new TestSuite(JavaPluginStartupPhasesTest.class);
+	}
+
+	public void testStartupPhases() throws Exception {
+		PerformanceMeter perfMeter= createPerformanceMeterForSummary(SHORT_NAME, Dimension.ELAPSED_PROCESS);
+		EditorTestHelper.joinBackgroundActivities();
+
+		Map<String, Long> phaseTimes= StartupPhases.getPhaseTimes();
+		assertTrue(phaseTimes.containsKey(StartupPhases.MEMBERS_ORDER));
+		assertTrue(phaseTimes.containsKey(StartupPhases.PREFERENCES));
+		assertTrue(phaseTimes.containsKey(StartupPhases.OPEN_TYPE_HISTORY));
+
+		measureStartup(perfMeter);
+	}
+}
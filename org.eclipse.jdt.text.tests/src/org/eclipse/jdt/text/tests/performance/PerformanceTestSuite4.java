@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ public class PerformanceTestSuite4 extends TestSuite {
 
 	public PerformanceTestSuite4() {
 		addTest(OpenJavaEditorStartupTest.suiteForMeasurement());
+		addTest(JavaPluginStartupPhasesTest.suite());
 		addTest(new OpenTextEditorStartupTest.Setup(EmptyTestCase.suite(), true, false)); // the actual test runs in its own workbench (see test.xml)
 	}
 }
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.rules.DefaultDamagerRepairer;
+import org.eclipse.jface.text.rules.ITokenScanner;
+import org.eclipse.jface.text.tests.TestTextViewer;
+
+import org.eclipse.jdt.ui.text.IColorManager;
+import org.eclipse.jdt.ui.text.IJavaColorConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.CachingDamagerRepairer;
+import org.eclipse.jdt.internal.ui.text.JavaCommentScanner;
+import org.eclipse.jdt.internal.ui.text.JavaPresentationReconciler;
+import org.eclipse.jdt.internal.ui.text.SingleTokenJavaScanner;
+import org.eclipse.jdt.internal.ui.text.java.JavaCodeScanner;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavaDocScanner;
+
+/**
+ * Measures the time to type a statement with string, comment and character literals into a
+ * compilation unit with 50000 lines, with and without caching the tokens of the syntax coloring.
+ */
+public class SyntaxColoringTypingTest extends TextPerformanceTestCase {
+
+	private static final Class<SyntaxColoringTypingTest> THIS= SyntaxColoringTypingTest.class;
+
+	private static final int MEMBERS= 2000;
+
+	private static final String MEMBER=
+			"	/**\n" +
+			"	 * Returns the value of a member.\n" +
+			"	 * @param value the value\n" +
+			"	 * @return the result\n" +
+			"	 */\n" +
+			"	public int member(int value) {\n" +
+			"		int result= value;\n" +
+			"		for (int i= 0; i < value; i++) {\n" +
+			"			result+= i * 31;\n" +
+			"			if (result > 1000) {\n" +
+			"				result-= 1000;\n" +
+			"			} else {\n" +
+			"				result*= 2;\n" +
+			"			}\n" +
+			"		}\n" +
+			"		while (result > 100) {\n" +
+			"			result/= 2;\n" +
+			"		}\n" +
+			"		switch (result) {\n" +
+			"			case 0:\n" +
+			"				return -1;\n" +
+			"			default:\n" +
+			"				return result;\n" +
+			"		}\n" +
+			"	}\n";
+
+	private static final String TYPED= "		String s= \"typed\"; /* comment */ char c= 'c';\n";
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 10;
+
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	public void testTypingWithTokenCache() throws Exception {
+		measure(true);
+	}
+
+	public void testTypingWithoutTokenCache() throws Exception {
+		measure(false);
+	}
+
+	private void measure(boolean cacheTokens) throws Exception {
+		IDocument document= createDocument();
+		assertEquals(MEMBERS * 25 + 5, document.getNumberOfLines());
+
+		TestTextViewer viewer= new TestTextViewer();
+		JavaPresentationReconciler reconciler= createReconciler(cacheTokens);
+		reconciler.install(viewer);
+		try {
+			viewer.setDocument(document);
+
+			// the first statement of the member in the middle of the file
+			int offset= document.getLineOffset(3 + MEMBERS / 2 * 25 + 6);
+			PerformanceMeter performanceMeter= createPerformanceMeter();
+			int warmUpRuns= getWarmUpRuns();
+			int measuredRuns= getMeasuredRuns();
+			for (int i= 0; i < warmUpRuns + measuredRuns; i++) {
+				if (i >= warmUpRuns)
+					performanceMeter.start();
+
+				for (int j= 0; j < TYPED.length(); j++)
+					document.replace(offset + j, 0, TYPED.substring(j, j + 1));
+
+				if (i >= warmUpRuns)
+					performanceMeter.stop();
+
+				document.replace(offset, TYPED.length(), "");
+			}
+			commitAllMeasurements();
+			assertAllPerformance();
+		} finally {
+			reconciler.uninstall();
+		}
+	}
+
+	private static IDocument createDocument() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test;\n\npublic class Big {\n");
+		for (int i= 0; i < MEMBERS; i++)
+			buf.append(MEMBER);
+		buf.append("}\n");
+
+		IDocument document= new Document(buf.toString());
+		JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+		return document;
+	}
+
+	private static JavaPresentationReconciler createReconciler(boolean cacheTokens) {
+		IColorManager manager= JavaPlugin.getDefault().getJavaTextTools().getColorManager();
+		IPreferenceStore store= JavaPlugin.getDefault().getCombinedPreferenceStore();
+
+		JavaPresentationReconciler reconciler= new JavaPresentationReconciler();
+		reconciler.setDocumentPartitioning(IJavaPartitions.JAVA_PARTITIONING);
+		setDamagerRepairer(reconciler, new JavaCodeScanner(manager, store), IDocument.DEFAULT_CONTENT_TYPE, cacheTokens);
+		setDamagerRepairer(reconciler, new JavaDocScanner(manager, store), IJavaPartitions.JAVA_DOC, cacheTokens);
+		setDamagerRepairer(reconciler, new JavaCommentScanner(manager, store, IJavaColorConstants.JAVA_MULTI_LINE_COMMENT), IJavaPartitions.JAVA_MULTI_LINE_COMMENT, cacheTokens);
+		setDamagerRepairer(reconciler, new JavaCommentScanner(manager, store, IJavaColorConstants.JAVA_SINGLE_LINE_COMMENT), IJavaPartitions.JAVA_SINGLE_LINE_COMMENT, cacheTokens);
+		SingleTokenJavaScanner stringScanner= new SingleTokenJavaScanner(manager, store, IJavaColorConstants.JAVA_STRING);
+		setDamagerRepairer(reconciler, stringScanner, IJavaPartitions.JAVA_STRING, cacheTokens);
+		setDamagerRepairer(reconciler, stringScanner, IJavaPartitions.JAVA_CHARACTER, cacheTokens);
+		setDamagerRepairer(reconciler, stringScanner, IJavaPartitions.JAVA_MULTI_LINE_STRING, cacheTokens);
+		return reconciler;
+	}
+
+	private static void setDamagerRepairer(JavaPresentationReconciler reconciler, ITokenScanner scanner, String contentType, boolean cacheTokens) {
+		DefaultDamagerRepairer dr= cacheTokens ? new CachingDamagerRepairer(scanner) : new DefaultDamagerRepairer(scanner);
+		reconciler.setDamager(dr, contentType);
+		reconciler.setRepairer(dr, contentType);
+	}
+}
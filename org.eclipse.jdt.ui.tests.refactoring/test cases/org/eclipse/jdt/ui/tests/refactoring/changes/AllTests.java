@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,9 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	TrackPositionTest.class,
-	TextDiffContentTest.class
+	TextDiffContentTest.class,
+	TextEditUtilTest.class,
+	CleanUpRebaseTest.class
 })
 public class AllTests {
 }
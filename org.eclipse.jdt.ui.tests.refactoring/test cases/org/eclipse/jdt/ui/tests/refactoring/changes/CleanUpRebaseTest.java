@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.CheckConditionsOperation;
+import org.eclipse.ltk.core.refactoring.CreateChangeOperation;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+import org.eclipse.jdt.internal.ui.fix.ICommutativeCleanUp;
+
+/**
+ * Tests that clean ups whose edits overlap give the same result whether they are merged in one
+ * round or deferred to the next one.
+ */
+public class CleanUpRebaseTest {
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private static final String SOURCE= "" +
+			"package p;\n" +
+			"public class A {\n" +
+			"	void foo() {\n" +
+			"	}\n" +
+			"	void unused() {\n" +
+			"		foo();\n" +
+			"	}\n" +
+			"	void used() {\n" +
+			"		foo();\n" +
+			"	}\n" +
+			"}\n";
+
+	private static final String EXPECTED= "" +
+			"package p;\n" +
+			"public class A {\n" +
+			"	void bar() {\n" +
+			"	}\n" +
+			"	void used() {\n" +
+			"		bar();\n" +
+			"	}\n" +
+			"}\n";
+
+	/**
+	 * Base class of the clean ups computing their edits from the source.
+	 */
+	private abstract static class SourceCleanUp implements ICleanUp {
+		int fFixCount;
+
+		@Override
+		public void setOptions(CleanUpOptions options) {
+		}
+
+		@Override
+		public String[] getStepDescriptions() {
+			return new String[0];
+		}
+
+		@Override
+		public CleanUpRequirements getRequirements() {
+			return new CleanUpRequirements(false, false, false, null);
+		}
+
+		@Override
+		public RefactoringStatus checkPreConditions(IJavaProject project, ICompilationUnit[] compilationUnits, IProgressMonitor monitor) throws CoreException {
+			return new RefactoringStatus();
+		}
+
+		@Override
+		public ICleanUpFix createFix(CleanUpContext context) throws CoreException {
+			fFixCount++;
+			ICompilationUnit unit= context.getCompilationUnit();
+			MultiTextEdit edit= new MultiTextEdit();
+			addEdits(unit.getSource(), edit);
+			if (!edit.hasChildren())
+				return null;
+
+			return progressMonitor -> {
+				CompilationUnitChange change= new CompilationUnitChange(getClass().getSimpleName(), unit);
+				change.setEdit(edit);
+				return change;
+			};
+		}
+
+		@Override
+		public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
+			return new RefactoringStatus();
+		}
+
+		protected abstract void addEdits(String source, MultiTextEdit edit);
+	}
+
+	/**
+	 * Deletes the method <code>unused</code>.
+	 */
+	private static class DeleteUnusedCleanUp extends SourceCleanUp {
+		private static final String UNUSED= "	void unused() {\n		foo();\n	}\n";
+
+		@Override
+		protected void addEdits(String source, MultiTextEdit edit) {
+			int offset= source.indexOf(UNUSED);
+			if (offset != -1)
+				edit.addChild(new DeleteEdit(offset, UNUSED.length()));
+		}
+	}
+
+	/**
+	 * Renames <code>foo</code> to <code>bar</code>.
+	 */
+	private static class RenameCleanUp extends SourceCleanUp {
+		@Override
+		protected void addEdits(String source, MultiTextEdit edit) {
+			int offset= source.indexOf("foo");
+			while (offset != -1) {
+				edit.addChild(new ReplaceEdit(offset, 3, "bar"));
+				offset= source.indexOf("foo", offset + 3);
+			}
+		}
+	}
+
+	private static class CommutativeRenameCleanUp extends RenameCleanUp implements ICommutativeCleanUp {
+	}
+
+	private ICompilationUnit fCompilationUnit;
+
+	@Before
+	public void setUp() throws Exception {
+		fCompilationUnit= rts.getPackageP().createCompilationUnit("A.java", SOURCE, true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fCompilationUnit.exists())
+			fCompilationUnit.delete(true, null);
+	}
+
+	@Test
+	public void testNonCommutativeDeferred() throws Exception {
+		RenameCleanUp rename= new RenameCleanUp();
+		performCleanUp(new DeleteUnusedCleanUp(), rename);
+		assertEquals(EXPECTED, fCompilationUnit.getSource());
+		assertEquals(2, rename.fFixCount);
+	}
+
+	@Test
+	public void testCommutativeMergedInOneRound() throws Exception {
+		RenameCleanUp rename= new CommutativeRenameCleanUp();
+		performCleanUp(new DeleteUnusedCleanUp(), rename);
+		assertEquals(EXPECTED, fCompilationUnit.getSource());
+		assertEquals(1, rename.fFixCount);
+	}
+
+	private void performCleanUp(ICleanUp... cleanUps) throws Exception {
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.addCompilationUnit(fCompilationUnit);
+		for (ICleanUp cleanUp : cleanUps) {
+			ref.addCleanUp(cleanUp);
+		}
+
+		CreateChangeOperation create= new CreateChangeOperation(
+				new CheckConditionsOperation(ref, CheckConditionsOperation.ALL_CONDITIONS),
+				RefactoringStatus.FATAL);
+		PerformChangeOperation perform= new PerformChangeOperation(create);
+		ResourcesPlugin.getWorkspace().run(perform, new NullProgressMonitor());
+		assertFalse(create.getConditionCheckingStatus().hasFatalError());
+		assertTrue("Change wasn't executed", perform.changeExecuted());
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.internal.corext.refactoring.util.TextEditUtil;
+
+public class TextEditUtilTest {
+
+	private static final String CONTENT= "0123456789";
+
+	private static MultiTextEdit multi(TextEdit... children) {
+		MultiTextEdit result= new MultiTextEdit();
+		for (TextEdit child : children) {
+			result.addChild(child);
+		}
+		return result;
+	}
+
+	private static String apply(TextEdit edit) throws Exception {
+		IDocument document= new Document(CONTENT);
+		edit.apply(document);
+		return document.get();
+	}
+
+	@Test
+	public void rebaseDuplicate() throws Exception {
+		InsertEdit insert= new InsertEdit(3, "x");
+		InsertEdit baseInsert= new InsertEdit(3, "x");
+		TextEdit edit= multi(insert, new ReplaceEdit(7, 1, "y"));
+		TextEdit base= multi(baseInsert);
+		assertTrue(TextEditUtil.overlaps(edit, base));
+
+		Map<TextEdit, TextEdit> dropped= new IdentityHashMap<>();
+		TextEdit merged= TextEditUtil.rebase(edit, base, true, dropped);
+		assertNotNull(merged);
+		assertEquals("012x3456y89", apply(merged));
+		assertSame(baseInsert, dropped.get(insert));
+	}
+
+	@Test
+	public void rebaseInsideDeletion() throws Exception {
+		ReplaceEdit replace= new ReplaceEdit(4, 1, "x");
+		TextEdit edit= multi(replace, new InsertEdit(9, "y"));
+		TextEdit base= multi(new DeleteEdit(2, 5));
+
+		Map<TextEdit, TextEdit> dropped= new IdentityHashMap<>();
+		TextEdit merged= TextEditUtil.rebase(edit, base, true, dropped);
+		assertNotNull(merged);
+		assertEquals("0178y9", apply(merged));
+		assertTrue(dropped.containsKey(replace));
+		assertNull(dropped.get(replace));
+	}
+
+	@Test
+	public void rebaseAdjacent() throws Exception {
+		TextEdit edit= multi(new ReplaceEdit(5, 2, "ab"));
+		TextEdit base= multi(new ReplaceEdit(3, 2, "cd"), new DeleteEdit(7, 1));
+
+		Map<TextEdit, TextEdit> dropped= new IdentityHashMap<>();
+		TextEdit merged= TextEditUtil.rebase(edit, base, true, dropped);
+		assertNotNull(merged);
+		assertEquals("012cdab89", apply(merged));
+		assertTrue(dropped.isEmpty());
+	}
+
+	@Test
+	public void rebaseWithoutDropConflicts() throws Exception {
+		TextEdit edit= multi(new ReplaceEdit(4, 1, "x"), new InsertEdit(9, "y"));
+		TextEdit base= multi(new DeleteEdit(2, 5));
+
+		assertNull(TextEditUtil.rebase(edit, base, false, new IdentityHashMap<>()));
+		assertEquals(2, edit.getChildrenSize());
+	}
+
+	@Test
+	public void rebaseAdjacentWithoutDrop() throws Exception {
+		TextEdit edit= multi(new ReplaceEdit(5, 2, "ab"));
+		TextEdit base= multi(new ReplaceEdit(3, 2, "cd"));
+
+		TextEdit merged= TextEditUtil.rebase(edit, base, false, new IdentityHashMap<>());
+		assertNotNull(merged);
+		assertEquals("012cdab789", apply(merged));
+	}
+
+	@Test
+	public void rebaseInsertionAtDeletionConflicts() throws Exception {
+		TextEdit edit= multi(new InsertEdit(2, "final "));
+		TextEdit base= multi(new DeleteEdit(2, 5));
+
+		assertNull(TextEditUtil.rebase(edit, base, true, new IdentityHashMap<>()));
+		assertEquals(1, edit.getChildrenSize());
+	}
+
+	@Test
+	public void rebaseOverlapConflicts() throws Exception {
+		TextEdit edit= multi(new ReplaceEdit(2, 4, "x"));
+		TextEdit base= multi(new ReplaceEdit(4, 4, "y"));
+
+		assertNull(TextEditUtil.rebase(edit, base, true, new IdentityHashMap<>()));
+		assertEquals(1, edit.getChildrenSize());
+		assertEquals(1, base.getChildrenSize());
+	}
+
+	@Test
+	public void rebaseDeletionContainingBaseConflicts() throws Exception {
+		TextEdit edit= multi(new DeleteEdit(2, 5));
+		TextEdit base= multi(new ReplaceEdit(4, 1, "x"));
+
+		assertNull(TextEditUtil.rebase(edit, base, true, new IdentityHashMap<>()));
+	}
+}
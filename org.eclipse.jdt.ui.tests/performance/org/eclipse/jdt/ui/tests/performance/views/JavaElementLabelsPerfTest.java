@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures rendering of labels for the members of a large project, as done when painting the
+ * package explorer, the outline and search results.
+ */
+public class JavaElementLabelsPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final long MEMBER_FLAGS= JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_POST_QUALIFIED;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists()) {
+					JavaProjectHelper.delete(fJProject1);
+				}
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testRenderMemberLabels() throws Exception {
+		List<IMember> members= new ArrayList<>();
+		for (IPackageFragmentRoot root : MyTestSetup.fJProject1.getPackageFragmentRoots()) {
+			for (IJavaElement pack : root.getChildren()) {
+				String name= pack.getElementName();
+				if (root.getKind() == IPackageFragmentRoot.K_SOURCE || name.startsWith("java.util") || name.startsWith("java.lang")) {
+					addMembers((IPackageFragment) pack, members);
+				}
+			}
+		}
+		assertFalse(members.isEmpty());
+
+		tagAsSummary("Render Java element labels", Dimension.ELAPSED_PROCESS);
+
+		measure(members, Performance.getDefault().getNullPerformanceMeter(), 2);
+		measure(members, fPerformanceMeter, 10);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(List<IMember> members, PerformanceMeter performanceMeter, int runs) throws Exception {
+		for (int j= 0; j < runs; j++) {
+			joinBackgroudActivities();
+
+			performanceMeter.start();
+			for (IMember member : members) {
+				JavaElementLabels.getElementLabel(member, MEMBER_FLAGS);
+				JavaElementLabels.getStyledElementLabel(member, MEMBER_FLAGS | JavaElementLabels.COLORIZE);
+			}
+			performanceMeter.stop();
+		}
+	}
+
+	private static void addMembers(IPackageFragment pack, List<IMember> result) throws JavaModelException {
+		for (IJavaElement child : pack.getChildren()) {
+			if (child instanceof ICompilationUnit) {
+				for (IType type : ((ICompilationUnit) child).getAllTypes()) {
+					addMembers(type, result);
+				}
+			} else if (child instanceof IOrdinaryClassFile) {
+				addMembers(((IOrdinaryClassFile) child).getType(), result);
+			}
+		}
+	}
+
+	private static void addMembers(IType type, List<IMember> result) throws JavaModelException {
+		result.add(type);
+		for (IJavaElement child : type.getChildren()) {
+			if (child instanceof IMember) {
+				result.add((IMember) child);
+			}
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
+import org.eclipse.jdt.internal.common.HelperVisitor;
+import org.eclipse.jdt.internal.common.ReferenceHolder;
+import org.eclipse.jdt.internal.common.VisitorEnum;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Compares clean ups walking the AST of each compilation unit on their own with clean ups sharing
+ * a single walk per compilation unit.
+ */
+public class SharedCleanUpTraversalPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final VisitorEnum[] INTERESTS= {
+			VisitorEnum.MethodInvocation,
+			VisitorEnum.WhileStatement,
+			VisitorEnum.VariableDeclarationStatement,
+			VisitorEnum.EnhancedForStatement,
+			VisitorEnum.InfixExpression,
+			VisitorEnum.SimpleName
+	};
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists()) {
+					JavaProjectHelper.delete(fJProject1);
+				}
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testSeparateWalks() throws Exception {
+		List<CompilationUnit> asts= parseAll();
+
+		tagAsSummary("Clean up traversal, one walk per clean up and compilation unit", Dimension.ELAPSED_PROCESS);
+
+		measureSeparate(asts, Performance.getDefault().getNullPerformanceMeter(), 2);
+		measureSeparate(asts, fPerformanceMeter, 10);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testSharedWalk() throws Exception {
+		List<CompilationUnit> asts= parseAll();
+		assertEquals("shared walk must find the same nodes", countSeparate(asts), countShared(asts));
+
+		tagAsSummary("Clean up traversal, one shared walk per compilation unit", Dimension.ELAPSED_PROCESS);
+
+		measureShared(asts, Performance.getDefault().getNullPerformanceMeter(), 2);
+		measureShared(asts, fPerformanceMeter, 10);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measureSeparate(List<CompilationUnit> asts, PerformanceMeter performanceMeter, int runs) throws Exception {
+		for (int j= 0; j < runs; j++) {
+			joinBackgroudActivities();
+
+			performanceMeter.start();
+			countSeparate(asts);
+			performanceMeter.stop();
+		}
+	}
+
+	private void measureShared(List<CompilationUnit> asts, PerformanceMeter performanceMeter, int runs) throws Exception {
+		for (int j= 0; j < runs; j++) {
+			joinBackgroudActivities();
+
+			performanceMeter.start();
+			countShared(asts);
+			performanceMeter.stop();
+		}
+	}
+
+	private static int countSeparate(List<CompilationUnit> asts) {
+		int count= 0;
+		for (CompilationUnit ast : asts) {
+			for (VisitorEnum kind : INTERESTS) {
+				ReferenceHolder<VisitorEnum, Integer> holder= new ReferenceHolder<>();
+				createCounter(kind, holder).build(ast);
+				count+= holder.getOrDefault(kind, 0);
+			}
+		}
+		return count;
+	}
+
+	private static int countShared(List<CompilationUnit> asts) {
+		int count= 0;
+		for (CompilationUnit ast : asts) {
+			FusedHelperVisitor traversal= new FusedHelperVisitor();
+			List<ReferenceHolder<VisitorEnum, Integer>> holders= new ArrayList<>();
+			for (VisitorEnum kind : INTERESTS) {
+				ReferenceHolder<VisitorEnum, Integer> holder= new ReferenceHolder<>();
+				traversal.add(createCounter(kind, holder));
+				holders.add(holder);
+			}
+			traversal.accept(ast);
+			assertEquals("walks per compilation unit", 1, traversal.getWalkCount());
+			for (int i= 0; i < INTERESTS.length; i++) {
+				count+= holders.get(i).getOrDefault(INTERESTS[i], 0);
+			}
+		}
+		return count;
+	}
+
+	private static HelperVisitor<ReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> createCounter(VisitorEnum kind, ReferenceHolder<VisitorEnum, Integer> holder) {
+		HelperVisitor<ReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> helperVisitor= new HelperVisitor<>(new HashSet<>(), holder);
+		helperVisitor.add(kind, (node, dataholder) -> {
+			dataholder.merge(kind, 1, Integer::sum);
+			return true;
+		});
+		return helperVisitor;
+	}
+
+	private static List<CompilationUnit> parseAll() throws JavaModelException {
+		List<CompilationUnit> result= new ArrayList<>();
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		for (IPackageFragmentRoot root : MyTestSetup.fJProject1.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+				continue;
+			for (IJavaElement pack : root.getChildren()) {
+				for (ICompilationUnit unit : ((IPackageFragment) pack).getCompilationUnits()) {
+					parser.setSource(unit);
+					parser.setResolveBindings(true);
+					result.add((CompilationUnit) parser.createAST(null));
+				}
+			}
+		}
+		assertFalse(result.isEmpty());
+		return result;
+	}
+}
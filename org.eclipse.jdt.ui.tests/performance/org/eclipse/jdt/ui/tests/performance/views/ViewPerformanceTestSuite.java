@@ -18,12 +18,14 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+	JavaElementLabelsPerfTest.class,
 	PackageExplorerPerfTest.class,
 	PackageExplorerColdPerfTest.class,
 	PackageExplorerEmptyPerfTest.class,
 	PackageExplorerWarmPerfTest.class,
 	PackageExplorerWorkspacePerfTest.class,
 	PackageExplorerWorkspaceWarmPerfTest.class,
+	SharedCleanUpTraversalPerfTest.class,
 	TypeHierarchyPerfTest.class
 })
 public class ViewPerformanceTestSuite {
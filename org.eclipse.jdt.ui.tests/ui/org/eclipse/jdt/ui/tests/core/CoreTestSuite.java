@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,8 +49,11 @@ ScopeAnalyzerTest.class,
 TemplateStoreTest.class,
 TypeHierarchyTest.class,
 TypeHierarchyViewPartTest.class,
+TypeHierarchyLifeCycleTest.class,
 TypeRulesTest.class,
 TypeInfoTest.class,
+OpenTypeHistoryTest.class,
+JavaStructureCreatorTest.class,
 StringsTest.class,
 IndentManipulationTest.class,
 SelectionHistoryTest.class,
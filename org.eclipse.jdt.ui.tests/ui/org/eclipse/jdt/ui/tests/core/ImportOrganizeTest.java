@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.TypeNameMatchCache;
 import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -3621,6 +3622,69 @@ public class ImportOrganizeTest extends CoreTests {
 		assertEqualString(cu1.getSource(), buf1.toString());
 	}
 
+	@Test
+	public void testSharedTypeNameMatchCache() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("pack1", false, null);
+
+		StringBuilder buf= new StringBuilder();
+		buf.append("package pack1;\n");
+		buf.append("public class C1 {\n");
+		buf.append("    Vector v;\n");
+		buf.append("    HashMap<String, Vector> map;\n");
+		buf.append("}\n");
+		ICompilationUnit cu1= pack1.createCompilationUnit("C1.java", buf.toString(), false, null);
+
+		buf= new StringBuilder();
+		buf.append("package pack1;\n");
+		buf.append("public class C2 {\n");
+		buf.append("    Vector v;\n");
+		buf.append("    Properties properties;\n");
+		buf.append("}\n");
+		ICompilationUnit cu2= pack1.createCompilationUnit("C2.java", buf.toString(), false, null);
+
+		buf= new StringBuilder();
+		buf.append("package pack1;\n");
+		buf.append("public class C3 {\n");
+		buf.append("    Properties properties;\n");
+		buf.append("    HashMap<String, Vector> map;\n");
+		buf.append("}\n");
+		ICompilationUnit cu3= pack1.createCompilationUnit("C3.java", buf.toString(), false, null);
+
+		String[] order= new String[0];
+		IChooseImportQuery query= createQuery("C", new String[] {}, new int[] {});
+		TypeNameMatchCache cache= new TypeNameMatchCache();
+
+		OrganizeImportsOperation op= createOperation(cu1, order, 99, false, true, true, query);
+		op.setTypeNameMatchCache(cache);
+		op.run(null);
+		assertEquals(1, cache.getQueryCount());
+
+		op= createOperation(cu2, order, 99, false, true, true, query);
+		op.setTypeNameMatchCache(cache);
+		op.run(null);
+		assertEquals("only Properties must be searched", 2, cache.getQueryCount());
+
+		op= createOperation(cu3, order, 99, false, true, true, query);
+		op.setTypeNameMatchCache(cache);
+		op.run(null);
+		assertEquals("all names must be found in the cache", 2, cache.getQueryCount());
+
+		assertImports(cu1, new String[] {
+			"java.util.HashMap",
+			"java.util.Vector"
+		});
+		assertImports(cu2, new String[] {
+			"java.util.Properties",
+			"java.util.Vector"
+		});
+		assertImports(cu3, new String[] {
+			"java.util.HashMap",
+			"java.util.Properties",
+			"java.util.Vector"
+		});
+	}
+
 	protected OrganizeImportsOperation createOperation(ICompilationUnit cu, String[] order, int threshold, boolean ignoreLowerCaseNames, boolean save, boolean allowSyntaxErrors, IChooseImportQuery chooseImportQuery) {
 		setOrganizeImportSettings(order, threshold, threshold, cu.getJavaProject());
 		return new OrganizeImportsOperation(cu, null, ignoreLowerCaseNames, save, allowSyntaxErrors, chooseImportQuery);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,10 +38,14 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.LabelFragmentCache;
+
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelComposer;
+
 public class JavaElementLabelsTest extends CoreTests {
 
 	@Rule
@@ -62,6 +70,20 @@ public class JavaElementLabelsTest extends CoreTests {
 		assertEqualString(lab, expectedLabel);
 	}
 
+	private static String getCachedLabel(IJavaElement element, long flags) {
+		StringBuffer buf= new StringBuffer();
+		JavaElementLabels.getElementLabel(element, flags, buf);
+		return buf.toString();
+	}
+
+	private static String getUncachedLabel(IJavaElement element, long flags) {
+		StringBuffer buf= new StringBuffer();
+		new JavaElementLabelComposer(buf) {
+			// subclasses do not use the label fragment cache
+		}.appendElementLabel(element, flags);
+		return buf.toString();
+	}
+
 	@Test
 	public void testTypeLabelOuter() throws Exception {
 
@@ -670,4 +692,51 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testMethodLabelFragmentCache() throws Exception {
+		IType type= fJProject1.findType("java.util.Vector");
+		assertNotNull(type);
+		long[] flagsList= {
+				JavaElementLabels.ALL_DEFAULT,
+				JavaElementLabels.M_PARAMETER_NAMES,
+				JavaElementLabels.M_PARAMETER_TYPES,
+				JavaElementLabels.M_PARAMETER_NAMES | JavaElementLabels.M_PARAMETER_TYPES,
+				JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.M_PRE_RETURNTYPE | JavaElementLabels.ALL_FULLY_QUALIFIED,
+				JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.M_APP_TYPE_PARAMETERS | JavaElementLabels.USE_RESOLVED
+		};
+		LabelFragmentCache cache= LabelFragmentCache.getDefault();
+		for (IMethod method : type.getMethods()) {
+			for (long flags : flagsList) {
+				String expected= getUncachedLabel(method, flags);
+				assertEqualString(getCachedLabel(method, flags), expected);
+				assertNotNull(cache.get(method, flags));
+				assertEqualString(getCachedLabel(method, flags), expected);
+			}
+		}
+	}
+
+	@Test
+	public void testMethodLabelFragmentCacheFlushedOnClasspathChange() throws Exception {
+		IType type= fJProject1.findType("java.util.Vector");
+		assertNotNull(type);
+		IMethod method= null;
+		for (IMethod candidate : type.getMethods()) {
+			if (candidate.getNumberOfParameters() > 0) {
+				method= candidate;
+				break;
+			}
+		}
+		assertNotNull(method);
+
+		long flags= JavaElementLabels.M_PARAMETER_TYPES;
+		String expected= getUncachedLabel(method, flags);
+		LabelFragmentCache cache= LabelFragmentCache.getDefault();
+		cache.put(method, flags, "(stale)");
+		assertTrue(getCachedLabel(method, flags).contains("(stale)"));
+
+		JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		assertNull(cache.get(method, flags));
+		assertEqualString(getCachedLabel(method, flags), expected);
+	}
 }
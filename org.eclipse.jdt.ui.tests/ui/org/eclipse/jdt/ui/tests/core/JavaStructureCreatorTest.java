@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.compare.IEncodedStreamContentAccessor;
+import org.eclipse.compare.ITypedElement;
+import org.eclipse.compare.structuremergeviewer.IStructureComparator;
+
+import org.eclipse.jdt.internal.ui.compare.JavaStructureCreator;
+
+public class JavaStructureCreatorTest {
+
+	private static final class StringInput implements IEncodedStreamContentAccessor, ITypedElement {
+		private final String fContents;
+
+		StringInput(String contents) {
+			fContents= contents;
+		}
+
+		@Override
+		public InputStream getContents() {
+			return new ByteArrayInputStream(fContents.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String getCharset() {
+			return StandardCharsets.UTF_8.name();
+		}
+
+		@Override
+		public String getName() {
+			return "A.java";
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+
+		@Override
+		public String getType() {
+			return "java";
+		}
+	}
+
+	@Test
+	public void unchangedNodesReused() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("public class A {\n");
+		buf.append("    void foo() {\n");
+		buf.append("        int i =  1; // one\n");
+		buf.append("    }\n");
+		buf.append("    void bar() {\n");
+		buf.append("        int j = 2;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String before= buf.toString();
+		String after= before.replace("int j = 2;", "int j = 3;");
+
+		JavaStructureCreator creator= new JavaStructureCreator();
+		IStructureComparator root= creator.getStructure(new StringInput(before));
+		String foo= creator.getContents(findNode(root, "foo"), true);
+		String bar= creator.getContents(findNode(root, "bar"), true);
+		assertNotNull(foo);
+
+		// the structure is created anew for the changed document
+		root= creator.getStructure(new StringInput(after));
+		assertSame(foo, creator.getContents(findNode(root, "foo"), true));
+		assertNotEquals(bar, creator.getContents(findNode(root, "bar"), true));
+	}
+
+	private static Object findNode(IStructureComparator root, String name) {
+		Object node= find(root, name);
+		assertNotNull(name, node);
+		return node;
+	}
+
+	private static Object find(Object node, String name) {
+		if (node instanceof ITypedElement && ((ITypedElement) node).getName().startsWith(name + "("))
+			return node;
+		if (node instanceof IStructureComparator) {
+			Object[] children= ((IStructureComparator) node).getChildren();
+			if (children != null) {
+				for (Object child : children) {
+					Object found= find(child, name);
+					if (found != null)
+						return found;
+				}
+			}
+		}
+		return null;
+	}
+}
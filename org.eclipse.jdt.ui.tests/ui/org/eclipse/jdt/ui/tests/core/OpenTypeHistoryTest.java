@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+public class OpenTypeHistoryTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragment fPack;
+	private OpenTypeHistory fHistory;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		assertNotNull("jre is null", JavaProjectHelper.addRTJar(fJProject1));
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack= root.createPackageFragment("p", true, null);
+
+		fHistory= OpenTypeHistory.getInstance();
+		fHistory.checkConsistency(new NullProgressMonitor());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (TypeNameMatch match : fHistory.getTypeInfos()) {
+			if (fJProject1.equals(match.getType().getJavaProject()))
+				fHistory.remove(match);
+		}
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	@Test
+	public void testBinaryRoundTrip() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public final class B {\n}\n");
+		fHistory.accessed(SearchEngine.createTypeNameMatch(a, a.getFlags()));
+		fHistory.accessed(SearchEngine.createTypeNameMatch(b, b.getFlags()));
+
+		fHistory.save();
+
+		File stateLocation= JavaPlugin.getDefault().getStateLocation().toFile();
+		assertTrue(new File(stateLocation, "OpenTypeHistory.dat").exists());
+		assertFalse(new File(stateLocation, "OpenTypeHistory.dat.tmp").exists());
+		assertFalse(new File(stateLocation, "OpenTypeHistory.xml").exists());
+
+		fHistory.remove(SearchEngine.createTypeNameMatch(a, a.getFlags()));
+		fHistory.remove(SearchEngine.createTypeNameMatch(b, b.getFlags()));
+		assertEquals(-1, indexOf(a));
+		assertEquals(-1, indexOf(b));
+
+		fHistory.load();
+
+		TypeNameMatch[] infos= fHistory.getTypeInfos();
+		int indexA= indexOf(a);
+		int indexB= indexOf(b);
+		assertTrue(indexA != -1 && indexB != -1);
+		// the most recently accessed type comes first
+		assertTrue(indexB < indexA);
+		assertEquals(Flags.AccPublic, infos[indexA].getModifiers());
+		assertEquals(Flags.AccPublic | Flags.AccFinal, infos[indexB].getModifiers());
+	}
+
+	@Test
+	public void testInvalidateSingleEntry() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public class B {\n}\n");
+		fHistory.accessed(SearchEngine.createTypeNameMatch(a, a.getFlags()));
+		// wrong modifiers, which a check of the entry of B would correct
+		fHistory.accessed(SearchEngine.createTypeNameMatch(b, Flags.AccPublic | Flags.AccFinal));
+		fHistory.checkConsistency(new NullProgressMonitor());
+		assertFalse(fHistory.needConsistencyCheck());
+
+		// without a delta, only a check of the entry of B sees the new time stamp
+		File fileB= b.getResource().getLocation().toFile();
+		assertTrue(fileB.setLastModified(fileB.lastModified() + 10000));
+
+		a.getCompilationUnit().getBuffer().setContents("package p;\npublic final class A {\n}\n");
+		a.getCompilationUnit().save(null, true);
+		fHistory.checkConsistency(new NullProgressMonitor());
+
+		TypeNameMatch[] infos= fHistory.getTypeInfos();
+		assertEquals(Flags.AccPublic | Flags.AccFinal, infos[indexOf(a)].getModifiers());
+		assertEquals(Flags.AccPublic | Flags.AccFinal, infos[indexOf(b)].getModifiers());
+	}
+
+	private IType createType(String name, String source) throws Exception {
+		ICompilationUnit cu= fPack.createCompilationUnit(name + ".java", "package p;\n" + source, true, null);
+		return cu.getType(name);
+	}
+
+	private int indexOf(IType type) {
+		TypeNameMatch[] infos= fHistory.getTypeInfos();
+		for (int i= 0; i < infos.length; i++) {
+			if (type.equals(infos[i].getType()))
+				return i;
+		}
+		return -1;
+	}
+}
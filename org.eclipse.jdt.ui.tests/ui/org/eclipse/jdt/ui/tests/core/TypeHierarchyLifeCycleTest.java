@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
+
+public class TypeHierarchyLifeCycleTest {
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IType fBase;
+	private IType fSub;
+
+	/**
+	 * Blocks the computation of the full hierarchy until it is released.
+	 */
+	private static class BlockingLifeCycle extends TypeHierarchyLifeCycle {
+		final CountDownLatch fRelease= new CountDownLatch(1);
+
+		BlockingLifeCycle() {
+			super(false);
+		}
+
+		@Override
+		public void doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
+			try {
+				fRelease.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			super.doHierarchyRefresh(elements, pm);
+		}
+
+		void refreshInBackground(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
+			doHierarchyRefreshBackground(elements, pm);
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= projectSetup.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+		fBase= pack.createCompilationUnit("Base.java", "package p;\npublic class Base {\n}\n", true, null).getType("Base");
+		fSub= pack.createCompilationUnit("Sub.java", "package p;\npublic class Sub extends Base {\n}\n", true, null).getType("Sub");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, projectSetup.getDefaultClasspath());
+	}
+
+	@Test
+	public void testSupertypesShownBeforeFullHierarchy() throws Exception {
+		BlockingLifeCycle lifeCycle= new BlockingLifeCycle();
+		Exception[] failure= new Exception[1];
+		Thread refresh= new Thread(() -> {
+			try {
+				lifeCycle.refreshInBackground(new IJavaElement[] { fBase }, new NullProgressMonitor());
+			} catch (Exception e) {
+				failure[0]= e;
+			}
+		});
+		refresh.start();
+		try {
+			long end= System.currentTimeMillis() + 10000;
+			while (lifeCycle.getHierarchy() == null && System.currentTimeMillis() < end)
+				Thread.sleep(10);
+
+			ITypeHierarchy partial= lifeCycle.getHierarchy();
+			assertEquals(fBase, partial.getType());
+			assertEquals(0, partial.getAllSubtypes(fBase).length);
+		} finally {
+			lifeCycle.fRelease.countDown();
+			refresh.join(10000);
+		}
+		if (failure[0] != null)
+			throw failure[0];
+
+		ITypeHierarchy full= lifeCycle.getHierarchy();
+		assertEquals(fBase, full.getType());
+		assertTrue(Arrays.asList(full.getAllSubtypes(fBase)).contains(fSub));
+		lifeCycle.freeHierarchy();
+	}
+
+	@Test
+	public void testFocusedHierarchyNotCachedTwice() throws Exception {
+		ITypeHierarchy subHierarchy= SuperTypeHierarchyCache.getTypeHierarchy(fSub);
+		assertSame(subHierarchy, SuperTypeHierarchyCache.getTypeHierarchy(fBase));
+
+		ITypeHierarchy baseHierarchy= SuperTypeHierarchyCache.getFocusedTypeHierarchy(fBase, null);
+		assertEquals(fBase, baseHierarchy.getType());
+		assertNotSame(subHierarchy, baseHierarchy);
+
+		// the cached hierarchy on the subtype still serves the type
+		assertSame(subHierarchy, SuperTypeHierarchyCache.getTypeHierarchy(fBase));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 GK Software SE and others.
+ * Copyright (c) 2020, 2026 GK Software SE and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.hover;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
@@ -35,6 +37,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.IType;
@@ -47,6 +50,7 @@ import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.text.java.hover.JavadocBrowserInformationControlInput;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavadocHover;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentAccess2;
 
 public class JavadocHoverTests extends CoreTests {
 
@@ -140,4 +144,70 @@ public class JavadocHoverTests extends CoreTests {
 		// Should not throw ClassCastException
 		JavadocHover.getHoverInfo(elements, myEnumCu, new Region(range.getOffset(), range.getLength()), null);
 	}
+
+	@Test
+	public void testInheritedJavadocCacheInvalidation() throws Exception {
+		String superSource=
+				"package p;\n" +
+				"public class Super {\n" +
+				"  /**\n" +
+				"   * Original description.\n" +
+				"   */\n" +
+				"  public void foo() {\n" +
+				"  }\n" +
+				"}\n";
+		String subSource=
+				"package p;\n" +
+				"public class Sub extends Super {\n" +
+				"  /**\n" +
+				"   * {@inheritDoc}\n" +
+				"   */\n" +
+				"  @Override\n" +
+				"  public void foo() {\n" +
+				"  }\n" +
+				"  /**\n" +
+				"   * Returns {@value Other#CONST}.\n" +
+				"   */\n" +
+				"  public int bar() {\n" +
+				"    return Other.CONST;\n" +
+				"  }\n" +
+				"}\n";
+		String otherSource=
+				"package p;\n" +
+				"public class Other {\n" +
+				"  public static final int CONST= 4711;\n" +
+				"}\n";
+		ICompilationUnit superCu= getWorkingCopy("/TestSetupProject/src/p/Super.java", superSource, null);
+		ICompilationUnit otherCu= getWorkingCopy("/TestSetupProject/src/p/Other.java", otherSource, null);
+		ICompilationUnit subCu= getWorkingCopy("/TestSetupProject/src/p/Sub.java", subSource, null);
+		try {
+			IMethod method= subCu.getType("Sub").getMethod("foo", new String[0]);
+			String content= JavadocContentAccess2.getHTMLContent(method, true);
+			assertTrue(content, content.contains("Original description."));
+			assertSame(content, JavadocContentAccess2.getHTMLContent(method, true));
+
+			superCu.getBuffer().setContents(superSource.replace("Original", "Changed"));
+			superCu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			content= JavadocContentAccess2.getHTMLContent(method, true);
+			assertTrue(content, content.contains("Changed description."));
+			assertFalse(content, content.contains("Original description."));
+
+			IMethod bar= subCu.getType("Sub").getMethod("bar", new String[0]);
+			content= JavadocContentAccess2.getHTMLContent(bar, true);
+			assertTrue(content, content.contains("4711"));
+			assertSame(content, JavadocContentAccess2.getHTMLContent(bar, true));
+
+			otherCu.getBuffer().setContents(otherSource.replace("4711", "31337"));
+			otherCu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			content= JavadocContentAccess2.getHTMLContent(bar, true);
+			assertTrue(content, content.contains("31337"));
+			assertFalse(content, content.contains("4711"));
+		} finally {
+			subCu.discardWorkingCopy();
+			otherCu.discardWorkingCopy();
+			superCu.discardWorkingCopy();
+		}
+	}
 }
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.IAdaptable;
+
+import org.eclipse.ui.IWorkingSet;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.ui.workingsets.DynamicSourcesWorkingSetUpdater;
+
+public class DynamicSourcesWorkingSetUpdaterTest {
+
+	private IJavaProject fProject1;
+	private IJavaProject fProject2;
+	private DynamicSourcesWorkingSetUpdater fUpdater;
+	private IWorkingSet fWorkingSet;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject1= JavaProjectHelper.createJavaProject("Test1", "bin");
+		fUpdater= new DynamicSourcesWorkingSetUpdater();
+		fWorkingSet= PlatformUI.getWorkbench().getWorkingSetManager().createWorkingSet(DynamicSourcesWorkingSetUpdater.MAIN_NAME, new IAdaptable[0]);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fUpdater.dispose();
+		JavaProjectHelper.delete(fProject1);
+		if (fProject2 != null)
+			JavaProjectHelper.delete(fProject2);
+	}
+
+	@Test
+	public void testRestoreAfterRemove() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fProject1, "src");
+		fUpdater.add(fWorkingSet);
+		assertTrue(restore().contains(root1));
+
+		// changes while no working set is managed are not tracked
+		fUpdater.remove(fWorkingSet);
+		fProject2= JavaProjectHelper.createJavaProject("Test2", "bin");
+		IPackageFragmentRoot root2= JavaProjectHelper.addSourceContainer(fProject2, "src");
+		JavaProjectHelper.removeSourceContainer(fProject1, "src");
+
+		fUpdater.add(fWorkingSet);
+		List<IAdaptable> elements= restore();
+		assertTrue(elements.contains(root2));
+		assertFalse(elements.contains(root1));
+	}
+
+	private List<IAdaptable> restore() {
+		return Arrays.asList(fUpdater.restore(fWorkingSet));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import org.junit.runners.Suite;
 	ContentProviderTests7.class,
 	PackageExplorerShowInTests.class,
 	WorkingSetDropAdapterTest.class,
+	DynamicSourcesWorkingSetUpdaterTest.class,
 	HierarchicalContentProviderTests.class,
 	PackageCacheTest.class
 })
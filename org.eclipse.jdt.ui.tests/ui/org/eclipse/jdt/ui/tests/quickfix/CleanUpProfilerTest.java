@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpProfiler;
+import org.eclipse.jdt.internal.corext.fix.CleanUpProfiler.Phase;
+import org.eclipse.jdt.internal.corext.fix.CleanUpProfiler.Sample;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+public class CleanUpProfilerTest extends CleanUpTestCase {
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	@Override
+	protected IJavaProject getProject() {
+		return projectSetup.getProject();
+	}
+
+	@Override
+	protected IClasspathEntry[] getDefaultClasspath() throws CoreException {
+		return projectSetup.getDefaultClasspath();
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		CleanUpProfiler profiler= CleanUpProfiler.DISABLED;
+		assertFalse(profiler.isEnabled());
+		assertNull(profiler.start());
+
+		profiler.record(getProject(), null, Phase.ITERATION, profiler.start());
+		assertNull(profiler.getReport());
+	}
+
+	@Test
+	public void testRecord() throws Exception {
+		CleanUpProfiler profiler= createProfiler();
+		assertTrue(profiler.isEnabled());
+		assertNull(profiler.getReport());
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", "package test1;\npublic class E1 {\n}\n", false, null);
+
+		profiler.record(cu1, null, Phase.PARSE, profiler.start());
+		profiler.record(cu1, null, Phase.PARSE, profiler.start());
+		profiler.record(getProject(), null, Phase.ITERATION, profiler.start());
+
+		String[] lines= profiler.getReport().split("\n");
+		assertEquals(3, lines.length);
+		assertEquals("element,clean_up,phase,count,time_ns,allocated_bytes", lines[0]);
+		assertEquals(2, getCount(lines, cu1.getPath().toString(), Phase.PARSE));
+		assertEquals(1, getCount(lines, getProject().getPath().toString(), Phase.ITERATION));
+	}
+
+	@Test
+	public void testResume() throws Exception {
+		CleanUpProfiler profiler= createProfiler();
+
+		Sample start= profiler.start();
+		Sample pause= profiler.start();
+		Thread.sleep(200);
+		start= profiler.resume(start, pause);
+		profiler.record(getProject(), null, Phase.PARSE, start);
+
+		String[] lines= profiler.getReport().split("\n");
+		long time= Long.parseLong(getRow(lines, getProject().getPath().toString(), Phase.PARSE)[4]);
+		assertTrue("paused time not excluded: " + time, time < 200_000_000L);
+	}
+
+	@Test
+	public void testParseTimePerBatch() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit[] cus= new ICompilationUnit[3];
+		String[] expected= new String[cus.length];
+		for (int i= 0; i < cus.length; i++) {
+			String sample= "" //
+					+ "package test1;\n" //
+					+ "import java.util.List;\n" //
+					+ "public class E" + i + " {\n" //
+					+ "}\n";
+			cus[i]= pack1.createCompilationUnit("E" + i + ".java", sample, false, null);
+
+			sample= "" //
+					+ "package test1;\n" //
+					+ "public class E" + i + " {\n" //
+					+ "}\n";
+			expected[i]= sample;
+		}
+
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS);
+
+		File dir= JavaPlugin.getDefault().getStateLocation().append("cleanup-profiles").toFile();
+		Set<String> oldReports= new HashSet<>(Arrays.asList(listReports(dir)));
+		boolean enabled= JavaPlugin.DEBUG_CLEAN_UP_PROFILER;
+		JavaPlugin.DEBUG_CLEAN_UP_PROFILER= true;
+		try {
+			assertRefactoringResultAsExpected(cus, expected, null);
+		} finally {
+			JavaPlugin.DEBUG_CLEAN_UP_PROFILER= enabled;
+		}
+
+		String report= null;
+		for (String name : listReports(dir)) {
+			if (!oldReports.contains(name)) {
+				File file= new File(dir, name);
+				report= new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+				file.delete();
+			}
+		}
+		assertNotNull("no report written", report);
+
+		// the units are parsed in one batch, which is charged to the project
+		String[] lines= report.split("\n");
+		assertEquals(1, getCount(lines, getProject().getPath().toString(), Phase.PARSE));
+		for (ICompilationUnit cu : cus) {
+			assertNull(getRow(lines, cu.getPath().toString(), Phase.PARSE));
+		}
+	}
+
+	private static CleanUpProfiler createProfiler() {
+		boolean enabled= JavaPlugin.DEBUG_CLEAN_UP_PROFILER;
+		JavaPlugin.DEBUG_CLEAN_UP_PROFILER= true;
+		try {
+			return CleanUpProfiler.create();
+		} finally {
+			JavaPlugin.DEBUG_CLEAN_UP_PROFILER= enabled;
+		}
+	}
+
+	private static String[] listReports(File dir) {
+		String[] names= dir.list((d, name) -> name.startsWith("refactoring-"));
+		return names != null ? names : new String[0];
+	}
+
+	private static String[] getRow(String[] lines, String element, Phase phase) {
+		for (String line : lines) {
+			String[] fields= line.split(",");
+			if (fields[0].equals(element) && fields[1].isEmpty() && fields[2].equals(phase.name()))
+				return fields;
+		}
+		return null;
+	}
+
+	private static int getCount(String[] lines, String element, Phase phase) {
+		String[] row= getRow(lines, element, phase);
+		assertNotNull("no " + phase + " row for " + element, row);
+		return Integer.parseInt(row[3]);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.quickfix;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
 import java.util.Hashtable;
 
@@ -39,6 +40,7 @@ import org.eclipse.jdt.internal.corext.fix.CleanUpPostSaveListener;
 import org.eclipse.jdt.internal.corext.fix.CleanUpPreferenceUtil;
 
 import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.SharedASTProvider;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -1123,4 +1125,40 @@ public class SaveParticipantTest extends CleanUpTestCase {
 		// Then
 		assertEquals(expected1, cu1.getBuffer().getContents());
 	}
+
+	@Test
+	public void testSharedAstOfOtherContentNotReused() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String reconciled= "" //
+				+ "package test1;\n" //
+				+ "import java.util.List;\n" //
+				+ "public class E1 {\n" //
+				+ "    List<String> list;\n" //
+				+ "}\n";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", reconciled, false, null);
+
+		String saved= "" //
+				+ "package test1;\n" //
+				+ "import java.util.List;\n" //
+				+ "public class E1 {\n" //
+				+ "    String list;\n" //
+				+ "}\n";
+
+		String expected1= "" //
+				+ "package test1;\n" //
+				+ "public class E1 {\n" //
+				+ "    String list;\n" //
+				+ "}\n";
+
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS);
+
+		// the editor has an AST of the content before the change, in which the import is used
+		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(cu1);
+		assertNotNull(SharedASTProvider.getAST(cu1, SharedASTProvider.WAIT_YES, null));
+
+		cu1.getBuffer().setContents(saved);
+		editor.doSave(null);
+
+		assertEquals(expected1, cu1.getBuffer().getContents());
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2020 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -643,4 +643,44 @@ public class NLSSearchTest {
 		NLSSearchTestHelper.assertNumberOfProblems(accessor, propertiesFile, 1);
 	}
 
+	@Test
+	public void testSeveralAccessors() throws Exception {
+		int count= 6;
+		ICompilationUnit[] accessors= new ICompilationUnit[count];
+		IFile[] propertiesFiles= new IFile[count];
+		for (int i= 0; i < count; i++) {
+			IPackageFragment pack= fSourceFolder.createPackageFragment("test" + i, false, null);
+			StringBuilder buf= new StringBuilder();
+			buf.append("package test" + i + ";\n");
+			buf.append("import org.eclipse.osgi.util.NLS;\n");
+			buf.append("public class Accessor extends NLS {\n");
+			buf.append("\n");
+			buf.append("    public static String Client_s1;\n");
+			buf.append("    public static String Client_s2;\n");
+			buf.append("\n");
+			buf.append("    private Accessor() {}\n");
+			buf.append("    private static final String BUNDLE_NAME = \"test" + i + ".Accessor\"; //$NON-NLS-1$\n");
+			buf.append("    static {NLS.initializeMessages(BUNDLE_NAME, Accessor.class);}\n");
+			buf.append("}\n");
+			accessors[i]= pack.createCompilationUnit("Accessor.java", buf.toString(), false, null);
+
+			buf= new StringBuilder();
+			buf.append("package test" + i + ";\n");
+			buf.append("public class Client {\n");
+			buf.append("    public String s1= Accessor.Client_s1;\n");
+			buf.append("    public String s2= Accessor.Client_s2;\n");
+			buf.append("}\n");
+			pack.createCompilationUnit("Client.java", buf.toString(), false, null);
+
+			// every other accessor misses a key
+			buf= new StringBuilder();
+			buf.append("Client_s1=s1\n");
+			if (i % 2 == 0)
+				buf.append("Client_s2=s2\n");
+			propertiesFiles[i]= write((IFolder)pack.getCorrespondingResource(), buf.toString(), "Accessor.properties");
+		}
+
+		// three accessors miss a key, each reported in the accessor and in the client
+		NLSSearchTestHelper.assertNumberOfProblems(accessors, propertiesFiles, 6);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,24 +16,39 @@ package org.eclipse.jdt.ui.tests.search;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IProject;
 
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
 
+import org.eclipse.jdt.ui.search.IMatchPresentation;
 import org.eclipse.jdt.ui.search.IQueryParticipant;
+import org.eclipse.jdt.ui.search.ISearchRequestor;
+import org.eclipse.jdt.ui.search.PatternQuerySpecification;
+import org.eclipse.jdt.ui.search.QuerySpecification;
 import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
 
 import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
 import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
 import org.eclipse.jdt.internal.ui.search.SearchParticipantDescriptor;
 import org.eclipse.jdt.internal.ui.search.SearchParticipantRecord;
 import org.eclipse.jdt.internal.ui.search.SearchParticipantsExtensionPoint;
@@ -45,11 +60,60 @@ public class ParticipantTest {
 	@Rule
 	public JUnitSourceSetup projectSetup = new JUnitSourceSetup(new TestExtensionPoint());
 
+	/**
+	 * A participant searched in addition to the {@link TestParticipant}, or <code>null</code>.
+	 */
+	static volatile IQueryParticipant fgAdditionalParticipant;
+
 	static class TestExtensionPoint extends SearchParticipantsExtensionPoint {
 		@Override
 		public SearchParticipantRecord[] getSearchParticipants(IProject[] concernedProjects) {
-			return new SearchParticipantRecord[] { new SearchParticipantRecord(new TestParticipantRecord(), new TestParticipant()) };
+			SearchParticipantRecord record= new SearchParticipantRecord(new TestParticipantRecord(), new TestParticipant());
+			IQueryParticipant additional= fgAdditionalParticipant;
+			if (additional == null)
+				return new SearchParticipantRecord[] { record };
+			return new SearchParticipantRecord[] { record, new SearchParticipantRecord(new TestParticipantRecord(), additional) };
+		}
+	}
+
+	/**
+	 * A participant which searches until it is canceled.
+	 */
+	static class BlockingParticipant implements IQueryParticipant {
+		final CountDownLatch fStarted= new CountDownLatch(1);
+		final CountDownLatch fCanceled= new CountDownLatch(1);
+		volatile Job fJob;
+
+		@Override
+		public void search(ISearchRequestor requestor, QuerySpecification querySpecification, IProgressMonitor monitor) throws CoreException {
+			fJob= Job.getJobManager().currentJob();
+			fStarted.countDown();
+			long end= System.currentTimeMillis() + 30000;
+			while (!monitor.isCanceled() && System.currentTimeMillis() < end) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+			if (monitor.isCanceled())
+				fCanceled.countDown();
+		}
+
+		@Override
+		public int estimateTicks(QuerySpecification data) {
+			return 100;
 		}
+
+		@Override
+		public IMatchPresentation getUIParticipant() {
+			return null;
+		}
+	}
+
+	@After
+	public void tearDown() {
+		fgAdditionalParticipant= null;
 	}
 
 	static class TestParticipantRecord extends SearchParticipantDescriptor {
@@ -90,4 +154,33 @@ public class ParticipantTest {
 		}
 	}
 
+	@Test
+	public void testCanceledQueryCancelsParticipants() throws Exception {
+		BlockingParticipant participant= new BlockingParticipant();
+		fgAdditionalParticipant= participant;
+
+		JavaSearchQuery query= new JavaSearchQuery(new PatternQuerySpecification("frufru", IJavaSearchConstants.METHOD, true, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		Thread canceler= new Thread(() -> {
+			try {
+				if (participant.fStarted.await(30, TimeUnit.SECONDS))
+					monitor.setCanceled(true);
+			} catch (InterruptedException e) {
+				// the query is not canceled
+			}
+		});
+		canceler.start();
+		try {
+			query.run(monitor);
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		canceler.join();
+
+		// the participant runs in a job which is canceled with the query
+		assertNotNull(participant.fJob);
+		assertTrue(participant.fCanceled.await(10, TimeUnit.SECONDS));
+		assertTrue(participant.fJob.join(10000, null));
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -395,6 +395,7 @@ public class CleanUpConstantsOptions extends CleanUpConstants {
 		store.setDefault(SHOW_CLEAN_UP_WIZARD, true);
 		store.setDefault(CLEANUP_PROFILE, DEFAULT_PROFILE);
 		store.setDefault(CLEANUP_ON_SAVE_PROFILE, DEFAULT_SAVE_PARTICIPANT_PROFILE);
+		store.setDefault(CLEANUP_ON_SAVE_TIME_BUDGET, 0);
 	}
 
 	public static void setDefaultOptions(int kind, CleanUpOptions options) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
@@ -92,6 +93,8 @@ import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
+import org.eclipse.jdt.internal.corext.fix.CleanUpProfiler.Phase;
+import org.eclipse.jdt.internal.corext.fix.CleanUpProfiler.Sample;
 import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.CleanUpChange;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -107,6 +110,7 @@ import org.eclipse.jdt.internal.ui.actions.ActionUtil;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
 import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp.MultiLineCleanUpContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
+import org.eclipse.jdt.internal.ui.javaeditor.ASTProvider;
 import org.eclipse.jdt.internal.ui.javaeditor.saveparticipant.IPostSaveListener;
 import org.eclipse.jdt.internal.ui.preferences.BulletListBlock;
 import org.eclipse.jdt.internal.ui.preferences.SaveParticipantPreferencePage;
@@ -301,6 +305,132 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		}
 	}
 
+	/**
+	 * The AST of a compilation unit during one save. It is only created again if the content of
+	 * the document or the required compiler options changed.
+	 */
+	private final class SaveAST {
+
+		private final ICompilationUnit fUnit;
+		private CompilationUnit fAST;
+		private long fDocumentStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		private Map<String, String> fOptions;
+		private final CleanUpProfiler fProfiler;
+
+		public SaveAST(ICompilationUnit unit, CleanUpProfiler profiler) {
+			fUnit= unit;
+			fProfiler= profiler;
+		}
+
+		public CompilationUnit get(Map<String, String> options, IProgressMonitor monitor) throws CoreException {
+			monitor.beginTask("", 12); //$NON-NLS-1$
+			try {
+				long documentStamp= getDocumentStamp((IFile)fUnit.getResource(), new SubProgressMonitor(monitor, 2));
+				if (fAST == null || documentStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || documentStamp != fDocumentStamp || !options.equals(fOptions)) {
+					Sample sample= fProfiler.start();
+					fAST= createAst(fUnit, options, documentStamp, new SubProgressMonitor(monitor, 10));
+					fProfiler.record(fUnit, null, Phase.PARSE, sample);
+					fDocumentStamp= documentStamp;
+					fOptions= options;
+				}
+				return fAST;
+			} finally {
+				monitor.done();
+			}
+		}
+	}
+
+	/**
+	 * Applies the clean ups which did not finish within the time budget of the save. The job
+	 * gives up as soon as the document is modified by someone else.
+	 */
+	private final class FinishCleanUpsJob extends Job {
+
+		private final ICompilationUnit fUnit;
+		private ICleanUp[] fCleanUps;
+		private IRegion[] fChangedRegions;
+		private long fDocumentStamp;
+
+		public FinishCleanUpsJob(ICompilationUnit unit, ICleanUp[] cleanUps, IRegion[] changedRegions, long documentStamp) {
+			super(Messages.format(FixMessages.CleanUpPostSaveListener_FinishCleanUpsJob_name, unit.getElementName()));
+			fUnit= unit;
+			fCleanUps= cleanUps;
+			fChangedRegions= changedRegions;
+			fDocumentStamp= documentStamp;
+			setRule(unit.getSchedulingRule());
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			monitor.beginTask(getName(), IProgressMonitor.UNKNOWN);
+			try {
+				IFile file= (IFile)fUnit.getResource();
+				CleanUpProfiler profiler= CleanUpProfiler.create();
+				SaveAST saveAST= new SaveAST(fUnit, profiler);
+				do {
+					if (monitor.isCanceled() || getDocumentStamp(file, new SubProgressMonitor(monitor, 1)) != fDocumentStamp)
+						return Status.CANCEL_STATUS;
+
+					RefactoringStatus preCondition= new RefactoringStatus();
+					for (ICleanUp cleanUp : fCleanUps) {
+						preCondition.merge(cleanUp.checkPreConditions(fUnit.getJavaProject(), new ICompilationUnit[] {fUnit}, new SubProgressMonitor(monitor, 5)));
+					}
+					if (preCondition.hasError())
+						return Status.CANCEL_STATUS;
+
+					Map<String, String> options= getCompilerOptions(fCleanUps);
+					CompilationUnit ast= null;
+					if (requiresAST(fCleanUps)) {
+						ast= saveAST.get(options, new SubProgressMonitor(monitor, 12));
+					}
+
+					CleanUpContext context;
+					if (fChangedRegions == null) {
+						context= new CleanUpContext(fUnit, ast);
+					} else {
+						context= new MultiLineCleanUpContext(fUnit, ast, fChangedRegions);
+					}
+
+					ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
+					CleanUpChange change= CleanUpRefactoring.calculateChange(context, fCleanUps, undoneCleanUps, null, profiler);
+
+					RefactoringStatus postCondition= new RefactoringStatus();
+					for (ICleanUp cleanUp : fCleanUps) {
+						postCondition.merge(cleanUp.checkPostConditions(new SubProgressMonitor(monitor, 1)));
+					}
+					if (postCondition.hasError())
+						return Status.CANCEL_STATUS;
+
+					fCleanUps= undoneCleanUps.toArray(new ICleanUp[undoneCleanUps.size()]);
+					if (change != null) {
+						change.setSaveMode(TextFileChange.KEEP_SAVE_STATE);
+						change.initializeValidationData(new NullProgressMonitor());
+
+						PerformChangeOperation performChangeOperation= new PerformChangeOperation(change);
+						performChangeOperation.setUndoManager(RefactoringCore.getUndoManager(), change.getName());
+						performChangeOperation.setSchedulingRule(fUnit.getSchedulingRule());
+
+						if (fChangedRegions != null && fChangedRegions.length > 0 && requiresChangedRegions(fCleanUps)) {
+							fChangedRegions= performWithChangedRegionUpdate(performChangeOperation, fChangedRegions, fUnit, new SubProgressMonitor(monitor, 5));
+						} else {
+							performChangeOperation.run(new SubProgressMonitor(monitor, 5));
+						}
+						if (performChangeOperation.getValidationStatus() != null && performChangeOperation.getValidationStatus().hasFatalError())
+							return Status.CANCEL_STATUS;
+
+						fDocumentStamp= getDocumentStamp(file, new SubProgressMonitor(monitor, 1));
+					}
+				} while (fCleanUps.length > 0);
+				profiler.writeReport("finish-save"); //$NON-NLS-1$
+				return Status.OK_STATUS;
+			} catch (CoreException e) {
+				return e.getStatus();
+			} finally {
+				monitor.done();
+			}
+		}
+	}
+
 	public static final String POSTSAVELISTENER_ID= "org.eclipse.jdt.ui.postsavelistener.cleanup"; //$NON-NLS-1$
 	private static final String WARNING_VALUE= "warning"; //$NON-NLS-1$
 	private static final String ERROR_VALUE= "error"; //$NON-NLS-1$
@@ -346,6 +476,10 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 				slowCleanUps= null;
 			}
 			IUndoManager manager= RefactoringCore.getUndoManager();
+			CleanUpProfiler profiler= CleanUpProfiler.create();
+			SaveAST saveAST= new SaveAST(unit, profiler);
+			int timeBudget= JavaPlugin.getDefault().getPreferenceStore().getInt(CleanUpConstants.CLEANUP_ON_SAVE_TIME_BUDGET);
+			long startTime= System.currentTimeMillis();
 
 			boolean success= false;
 			try {
@@ -360,17 +494,11 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     				if (showStatus(preCondition) != Window.OK)
     					return;
 
-    				Map<String, String> options= new HashMap<>();
-					for (ICleanUp cleanUp : cleanUps) {
-						Map<String, String> map= cleanUp.getRequirements().getCompilerOptions();
-						if (map != null) {
-							options.putAll(map);
-						}
-					}
+    				Map<String, String> options= getCompilerOptions(cleanUps);
 
     				CompilationUnit ast= null;
     				if (requiresAST(cleanUps)) {
-    					ast= createAst(unit, options, new SubProgressMonitor(monitor, 10));
+    					ast= saveAST.get(options, new SubProgressMonitor(monitor, 12));
     				}
 
     				CleanUpContext context;
@@ -381,7 +509,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     				}
 
     				ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
-					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps);
+					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps, profiler);
 
     				RefactoringStatus postCondition= new RefactoringStatus();
 					for (ICleanUp cleanUp : cleanUps) {
@@ -410,10 +538,17 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     					performChangeOperation.getUndoChange();
     					undoEdits.addFirst(change.getUndoEdit());
     				}
+
+    				if (cleanUps.length > 0 && timeBudget > 0 && System.currentTimeMillis() - startTime > timeBudget) {
+    					long documentStamp= getDocumentStamp((IFile)unit.getResource(), new SubProgressMonitor(monitor, 2));
+    					new FinishCleanUpsJob(unit, cleanUps, changedRegions, documentStamp).schedule();
+    					break;
+    				}
     			} while (cleanUps.length > 0);
     			success= true;
 			} finally {
 				manager.changePerformed(result, success);
+				profiler.writeReport("save"); //$NON-NLS-1$
 			}
 
 			if (undoEdits.size() > 0) {
@@ -568,6 +703,17 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 	    return false;
     }
 
+	private static Map<String, String> getCompilerOptions(ICleanUp[] cleanUps) {
+		Map<String, String> options= new HashMap<>();
+		for (ICleanUp cleanUp : cleanUps) {
+			Map<String, String> map= cleanUp.getRequirements().getCompilerOptions();
+			if (map != null) {
+				options.putAll(map);
+			}
+		}
+		return options;
+	}
+
 	private boolean requiresChangedRegions(ICleanUp[] cleanUps) {
 		for (ICleanUp cleanUp : cleanUps) {
 			CleanUpRequirements requirements= cleanUp.getRequirements();
@@ -578,11 +724,13 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		return false;
 	}
 
-	private CompilationUnit createAst(ICompilationUnit unit, Map<String, String> cleanUpOptions, IProgressMonitor monitor) {
+	private CompilationUnit createAst(ICompilationUnit unit, Map<String, String> cleanUpOptions, long documentStamp, IProgressMonitor monitor) {
 		IJavaProject project= unit.getJavaProject();
-		if (compatibleOptions(project, cleanUpOptions)) {
+		if (documentStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && compatibleOptions(project, cleanUpOptions)) {
+			// Never wait for a reconcile here, saving blocks the UI thread
 			CompilationUnit ast= SharedASTProviderCore.getAST(unit, SharedASTProviderCore.WAIT_NO, monitor);
-			if (ast != null)
+			// The shared AST can only be used if it has been reconciled from the current content
+			if (ast != null && ASTProvider.getDocumentStamp(ast) == documentStamp)
 				return ast;
 		}
 
@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.jdt.core.IJavaElement;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Records the time and the memory allocated by a clean up run per compilation unit, clean up and
+ * phase, and writes them to a CSV report in the state location of the plug-in.
+ * <p>
+ * Profiling is enabled with the debug option <code>org.eclipse.jdt.ui/debug/CleanUpProfiler</code>.
+ * Otherwise {@link #create()} returns a profiler which does not record anything.
+ * </p>
+ * <p>
+ * The report has one row per compilation unit, clean up and phase with the number of
+ * measurements, the elapsed time in nanoseconds and the allocated bytes, or <code>-1</code> if the
+ * VM does not support measuring allocations. Rows of the phase {@link Phase#ITERATION} count the
+ * fixpoint iterations of a compilation unit, or of a project if the element is a project.
+ * Rows of the phase {@link Phase#PARSE} are per project when the compilation units have been parsed
+ * in batches, since the parser creates all ASTs of a batch before the first one is accepted. They
+ * count the batches and exclude the time spent in the clean ups while the batch was parsed. Fix rows without a clean up contain the traversal shared by the clean ups.
+ * </p>
+ */
+public final class CleanUpProfiler {
+
+	/**
+	 * The phases of a clean up run.
+	 */
+	public enum Phase {
+		/** Creating the AST of a compilation unit or a batch of compilation units. */
+		PARSE,
+		/** Computing the fix of a clean up. */
+		FIX,
+		/** Creating the change of a fix. */
+		CHANGE,
+		/** Merging the change of a clean up with the changes of the previous clean ups. */
+		MERGE,
+		/** One iteration over the clean ups of a compilation unit or a project. */
+		ITERATION
+	}
+
+	/**
+	 * The values at the start of a measurement.
+	 */
+	public static final class Sample {
+		private final long fTime;
+		private final long fAllocatedBytes;
+
+		private Sample(long time, long allocatedBytes) {
+			fTime= time;
+			fAllocatedBytes= allocatedBytes;
+		}
+	}
+
+	private static final class Row {
+		private final String fElement;
+		private final String fCleanUp;
+		private final Phase fPhase;
+		private int fCount;
+		private long fTime;
+		private long fAllocatedBytes;
+
+		private Row(String element, String cleanUp, Phase phase) {
+			fElement= element;
+			fCleanUp= cleanUp;
+			fPhase= phase;
+		}
+	}
+
+	private static final String REPORT_DIR= "cleanup-profiles"; //$NON-NLS-1$
+
+	private static final String REPORT_HEADER= "element,clean_up,phase,count,time_ns,allocated_bytes"; //$NON-NLS-1$
+
+	/**
+	 * A profiler which does not record anything.
+	 */
+	public static final CleanUpProfiler DISABLED= new CleanUpProfiler(false);
+
+	private static Method fgAllocatedBytesMethod;
+	private static boolean fgAllocatedBytesMethodInitialized;
+
+	private final boolean fEnabled;
+	private final Map<String, Row> fRows;
+
+	private CleanUpProfiler(boolean enabled) {
+		fEnabled= enabled;
+		fRows= enabled ? new LinkedHashMap<>() : null;
+	}
+
+	/**
+	 * Creates a profiler for a clean up run.
+	 *
+	 * @return a new profiler if profiling is enabled, a profiler which does not record anything
+	 *         otherwise
+	 */
+	public static CleanUpProfiler create() {
+		return JavaPlugin.DEBUG_CLEAN_UP_PROFILER ? new CleanUpProfiler(true) : DISABLED;
+	}
+
+	/**
+	 * @return <code>true</code> if this profiler records measurements
+	 */
+	public boolean isEnabled() {
+		return fEnabled;
+	}
+
+	/**
+	 * Starts a measurement.
+	 *
+	 * @return the sample to pass to {@link #record(IJavaElement, ICleanUp, Phase, Sample)}, or
+	 *         <code>null</code> if this profiler is not enabled
+	 */
+	public Sample start() {
+		if (!fEnabled)
+			return null;
+
+		return new Sample(System.nanoTime(), getAllocatedBytes());
+	}
+
+	/**
+	 * Excludes the time and the memory allocated since the given pause from a measurement.
+	 *
+	 * @param start the sample returned by {@link #start()} when the measurement started
+	 * @param pause the sample returned by {@link #start()} when the measurement has been paused
+	 * @return the sample to continue the measurement with, or <code>null</code> if this profiler is
+	 *         not enabled
+	 */
+	public Sample resume(Sample start, Sample pause) {
+		if (!fEnabled || start == null || pause == null)
+			return start;
+
+		Sample now= start();
+		long allocatedBytes= start.fAllocatedBytes == -1 || pause.fAllocatedBytes == -1 ? -1 : start.fAllocatedBytes + now.fAllocatedBytes - pause.fAllocatedBytes;
+		return new Sample(start.fTime + now.fTime - pause.fTime, allocatedBytes);
+	}
+
+	/**
+	 * Ends a measurement and adds it to the report.
+	 *
+	 * @param element the compilation unit or project measured
+	 * @param cleanUp the clean up measured or <code>null</code> if the measurement is not
+	 *            specific to a clean up
+	 * @param phase the phase measured
+	 * @param start the sample returned by {@link #start()} when the measurement started
+	 */
+	public void record(IJavaElement element, ICleanUp cleanUp, Phase phase, Sample start) {
+		if (!fEnabled || start == null)
+			return;
+
+		long time= System.nanoTime() - start.fTime;
+		long allocatedBytes= start.fAllocatedBytes == -1 ? -1 : getAllocatedBytes() - start.fAllocatedBytes;
+
+		String elementName= element != null ? element.getPath().toString() : ""; //$NON-NLS-1$
+		String cleanUpName= cleanUp != null ? cleanUp.getClass().getName() : ""; //$NON-NLS-1$
+		String key= elementName + '\0' + cleanUpName + '\0' + phase.name();
+		synchronized (fRows) {
+			Row row= fRows.computeIfAbsent(key, k -> new Row(elementName, cleanUpName, phase));
+			row.fCount++;
+			row.fTime+= time;
+			row.fAllocatedBytes= allocatedBytes == -1 || row.fAllocatedBytes == -1 ? -1 : row.fAllocatedBytes + allocatedBytes;
+		}
+	}
+
+	/**
+	 * Returns the measurements in the format of the report.
+	 *
+	 * @return the report, or <code>null</code> if this profiler is not enabled or nothing has been
+	 *         recorded
+	 */
+	public String getReport() {
+		if (!fEnabled)
+			return null;
+
+		StringBuilder buf= new StringBuilder();
+		buf.append(REPORT_HEADER).append('\n');
+		synchronized (fRows) {
+			if (fRows.isEmpty())
+				return null;
+
+			for (Row row : fRows.values()) {
+				appendField(buf, row.fElement).append(',');
+				appendField(buf, row.fCleanUp).append(',');
+				buf.append(row.fPhase.name()).append(',');
+				buf.append(row.fCount).append(',');
+				buf.append(row.fTime).append(',');
+				buf.append(row.fAllocatedBytes).append('\n');
+			}
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Writes the measurements to a new report file in the state location of the plug-in.
+	 *
+	 * @param name the name of the clean up run, used as prefix of the report file name
+	 */
+	public void writeReport(String name) {
+		String report= getReport();
+		if (report == null)
+			return;
+
+		File dir= JavaPlugin.getDefault().getStateLocation().append(REPORT_DIR).toFile();
+		String timeStamp= new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date()); //$NON-NLS-1$
+		File file= new File(dir, name + '-' + timeStamp + ".csv"); //$NON-NLS-1$
+		try {
+			Files.createDirectories(dir.toPath());
+			try (BufferedWriter writer= Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+				writer.write(report);
+			}
+			JavaPlugin.log(new Status(IStatus.INFO, JavaPlugin.getPluginId(), "Clean up profile written to " + file.getAbsolutePath())); //$NON-NLS-1$
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	private static StringBuilder appendField(StringBuilder buf, String value) {
+		if (value.indexOf(',') == -1 && value.indexOf('"') == -1)
+			return buf.append(value);
+
+		return buf.append('"').append(value.replace("\"", "\"\"")).append('"'); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the bytes allocated by the current thread so far. The method is looked up
+	 * reflectively since <code>com.sun.management.ThreadMXBean</code> is not available on all VMs.
+	 *
+	 * @return the allocated bytes or <code>-1</code> if the VM does not support measuring them
+	 */
+	private static long getAllocatedBytes() {
+		Method method;
+		synchronized (CleanUpProfiler.class) {
+			if (!fgAllocatedBytesMethodInitialized) {
+				fgAllocatedBytesMethodInitialized= true;
+				try {
+					Class<?> beanClass= Class.forName("com.sun.management.ThreadMXBean", false, ClassLoader.getPlatformClassLoader()); //$NON-NLS-1$
+					if (beanClass.isInstance(ManagementFactory.getThreadMXBean()))
+						fgAllocatedBytesMethod= beanClass.getMethod("getCurrentThreadAllocatedBytes"); //$NON-NLS-1$
+				} catch (ReflectiveOperationException | LinkageError e) {
+					// not supported by this VM
+				}
+			}
+			method= fgAllocatedBytesMethod;
+		}
+		if (method == null)
+			return -1;
+
+		try {
+			return ((Long) method.invoke(ManagementFactory.getThreadMXBean())).longValue();
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return -1;
+		}
+	}
+}
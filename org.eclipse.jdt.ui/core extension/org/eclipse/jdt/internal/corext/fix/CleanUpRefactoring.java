@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,11 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -69,9 +72,12 @@ import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.fix.CleanUpProfiler.Phase;
+import org.eclipse.jdt.internal.corext.fix.CleanUpProfiler.Sample;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationStateChange;
 import org.eclipse.jdt.internal.corext.refactoring.changes.MultiStateCompilationUnitChange;
@@ -88,7 +94,11 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.CleanUpFixWrapper;
+import org.eclipse.jdt.internal.ui.fix.ICommutativeCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
+import org.eclipse.jdt.internal.ui.fix.ISharedTraversalCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.ISharedTraversalCleanUpCore.IFixCollector;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
 
@@ -250,10 +260,14 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ParseListElement> fCompilationUnitParseElementMap;
 		private final CleanUpRefactoringProgressMonitor fMonitor;
+		private final CleanUpProfiler fProfiler;
+		private IJavaProject fBatchProject;
+		private Sample fBatchStart;
 
-		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
+		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor, CleanUpProfiler profiler) {
 			fSolutions= solutions;
 			fMonitor= monitor;
+			fProfiler= profiler;
 			fUndoneElements= new ArrayList<>();
 			fCompilationUnitParseElementMap= new Hashtable<>(parseList.size());
 			for (ParseListElement element : parseList) {
@@ -261,8 +275,34 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 		}
 
+		/**
+		 * Starts measuring the parse time of a batch of compilation units. The parser creates all
+		 * ASTs of a batch before the first one is accepted, so the time is recorded for the project
+		 * and not for the compilation units.
+		 *
+		 * @param project the project of the batch
+		 */
+		public void startBatch(IJavaProject project) {
+			endBatch();
+			fBatchProject= project;
+			fBatchStart= fProfiler.start();
+		}
+
+		/**
+		 * Ends measuring the parse time of the current batch, if any.
+		 */
+		public void endBatch() {
+			if (fBatchProject != null) {
+				fProfiler.record(fBatchProject, null, Phase.PARSE, fBatchStart);
+				fBatchProject= null;
+				fBatchStart= null;
+			}
+		}
+
 		@Override
 		public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+			// the clean ups are not part of the parse time of the batch
+			Sample pause= fProfiler.start();
 
 			fMonitor.subTask(fMonitor.getSubTaskMessage(source));
 
@@ -284,6 +324,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			} else {
 				fMonitor.flush();
 			}
+			fBatchStart= fProfiler.resume(fBatchStart, pause);
 		}
 
 		public void acceptSource(ICompilationUnit source) {
@@ -298,7 +339,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			List<ICleanUp>result= new ArrayList<>();
 			CleanUpChange solution;
 			try {
-				solution= calculateChange(context, cleanUps, result, null);
+				solution= calculateChange(context, cleanUps, result, null, fProfiler);
 			} catch (CoreException e) {
 				throw new FixCalculationException(e);
 			}
@@ -330,8 +371,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private final Map<String, String> fCleanUpOptions;
 		private final int fSize;
 		private int fIndex;
+		private final CleanUpProfiler fProfiler;
 
-		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps, CleanUpProfiler profiler) {
+			fProfiler= profiler;
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
@@ -380,11 +423,12 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
-				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor, fProfiler);
 				if (parseList.size() > 0) {
 					ASTBatchParser parser= new ASTBatchParser() {
 						@Override
 						protected ASTParser createParser(IJavaProject project) {
+							requestor.startBatch(project);
 							ASTParser result= createCleanUpASTParser();
 							result.setProject(project);
 
@@ -397,6 +441,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					try {
 						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
 						parser.createASTs(units, new String[0], requestor, cuMonitor);
+						requestor.endBatch();
 					} catch (FixCalculationException e) {
 						throw e.getException();
 					}
@@ -509,6 +554,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private CleanUpProfiler fProfiler;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -624,6 +671,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 		ICleanUp[] cleanUps= getCleanUps();
 		pm.beginTask("", cuCount * 2 * fCleanUps.size() + 4 * cleanUps.length); //$NON-NLS-1$
+		fProfiler= CleanUpProfiler.create();
 		try {
 			DynamicValidationStateChange change= new DynamicValidationStateChange(getName());
 			change.setSchedulingRule(getSchedulingRule());
@@ -653,6 +701,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			findFilesToBeModified(change, files);
 			result.merge(Checks.validateModifiesFiles(files.toArray(new IFile[files.size()]), getValidationContext(), pm));
 		} finally {
+			fProfiler.writeReport("refactoring"); //$NON-NLS-1$
+			fProfiler= null;
 			pm.done();
 		}
 
@@ -672,14 +722,16 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
+		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps, fProfiler);
 
 		SubProgressMonitor subMonitor= new SubProgressMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
 		subMonitor.subTask(Messages.format(FixMessages.CleanUpRefactoring_Parser_Startup_message, BasicElementLabels.getResourceName(project.getProject())));
 		try {
 			while (iter.hasNext()) {
+				Sample sample= fProfiler.start();
 				iter.next(subMonitor);
+				fProfiler.record(project, null, Phase.ITERATION, sample);
 			}
 
 			return iter.getResult();
@@ -755,35 +807,73 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps) throws CoreException {
+		return calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps, CleanUpProfiler.DISABLED);
+	}
+
+	/**
+	 * Computes the changes of the given clean ups up to the first clean up requiring a fresh AST.
+	 *
+	 * @param context the context of the clean ups
+	 * @param cleanUps the clean ups to compute
+	 * @param undoneCleanUps the clean ups which could not be computed on this AST are added to
+	 *            this list
+	 * @param slowCleanUps the clean ups which took longer than {@link #SLOW_CLEAN_UP_THRESHOLD}
+	 *            are added to this set, can be <code>null</code>
+	 * @param profiler the profiler to record the phases of the clean ups with
+	 * @return the combined change or <code>null</code> if there is nothing to change
+	 * @throws CoreException if a fix cannot be computed
+	 */
+	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps, CleanUpProfiler profiler) throws CoreException {
 		if (cleanUps.length == 0)
 			return null;
 
+		ICompilationUnit unit= context.getCompilationUnit();
+		Sample iteration= profiler.start();
 		CleanUpChange solution= null;
+		Sample sample= profiler.start();
+		Map<ICleanUp, IFixCollector> collectors= walkSharedTraversal(context, cleanUps);
+		if (!collectors.isEmpty())
+			profiler.record(unit, null, Phase.FIX, sample);
 		int i= 0;
 		do {
 			ICleanUp cleanUp= cleanUps[i];
 			ICleanUpFix fix;
+			sample= profiler.start();
 			if (slowCleanUps != null) {
 				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
+				fix= createFix(cleanUp, context, collectors);
 				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
 					slowCleanUps.add(cleanUp);
 			} else {
-				fix= cleanUp.createFix(context);
+				fix= createFix(cleanUp, context, collectors);
 			}
+			profiler.record(unit, cleanUp, Phase.FIX, sample);
 			if (fix != null) {
+				sample= profiler.start();
 				CompilationUnitChange current= fix.createChange(null);
 				TextEdit currentEdit= current.getEdit();
+				profiler.record(unit, cleanUp, Phase.CHANGE, sample);
 
+				sample= profiler.start();
 				if (solution != null) {
-					if (TextEditUtil.overlaps(currentEdit, solution.getEdit())) {
+					Map<TextEdit, TextEdit> dropped= Collections.emptyMap();
+					TextEdit mergedEdit;
+					if (!TextEditUtil.overlaps(currentEdit, solution.getEdit())) {
+						mergedEdit= TextEditUtil.merge(currentEdit, solution.getEdit());
+					} else {
+						// only the edits of a commutative clean up can be partly dropped, the others are deferred
+						dropped= new IdentityHashMap<>();
+						mergedEdit= TextEditUtil.rebase(currentEdit, solution.getEdit(), cleanUp instanceof ICommutativeCleanUp, dropped);
+					}
+
+					if (mergedEdit == null) {
 						undoneCleanUps.add(cleanUp);
 					} else {
 						CleanUpChange merge= new CleanUpChange(FixMessages.CleanUpRefactoring_clean_up_multi_chang_name, context.getCompilationUnit());
-						merge.setEdit(TextEditUtil.merge(currentEdit, solution.getEdit()));
+						merge.setEdit(mergedEdit);
 
-						copyChangeGroups(merge, solution);
-						copyChangeGroups(merge, current);
+						copyChangeGroups(merge, solution, Collections.emptyMap());
+						copyChangeGroups(merge, current, dropped);
 
 						solution= merge;
 					}
@@ -791,8 +881,9 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					solution= new CleanUpChange(current.getName(), context.getCompilationUnit());
 					solution.setEdit(currentEdit);
 
-					copyChangeGroups(solution, current);
+					copyChangeGroups(solution, current, Collections.emptyMap());
 				}
+				profiler.record(unit, cleanUp, Phase.MERGE, sample);
 			}
 			i++;
 		} while (i < cleanUps.length && (context.getAST() == null || !cleanUps[i].getRequirements().requiresFreshAST()));
@@ -800,10 +891,58 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		for (; i < cleanUps.length; i++) {
 			undoneCleanUps.add(cleanUps[i]);
 		}
+		profiler.record(unit, null, Phase.ITERATION, iteration);
 		return solution;
 	}
 
-	private static void copyChangeGroups(CompilationUnitChange target, CompilationUnitChange source) {
+	/**
+	 * Lets the clean ups that support it register with a single traversal of the AST and performs
+	 * that traversal. Only the clean ups computed on the current AST take part, that is the ones
+	 * before the first clean up requiring a fresh AST.
+	 *
+	 * @param context the context of the clean ups
+	 * @param cleanUps the clean ups to compute
+	 * @return the collectors of the clean ups that took part in the traversal
+	 * @throws CoreException if a clean up cannot register
+	 */
+	private static Map<ICleanUp, IFixCollector> walkSharedTraversal(CleanUpContext context, ICleanUp[] cleanUps) throws CoreException {
+		CompilationUnit ast= context.getAST();
+		if (ast == null)
+			return Collections.emptyMap();
+
+		Map<ICleanUp, IFixCollector> result= new HashMap<>();
+		FusedHelperVisitor traversal= new FusedHelperVisitor();
+		int i= 0;
+		do {
+			if (cleanUps[i] instanceof ISharedTraversalCleanUpCore) {
+				IFixCollector collector= ((ISharedTraversalCleanUpCore) cleanUps[i]).registerInterests(context, traversal);
+				if (collector != null)
+					result.put(cleanUps[i], collector);
+			}
+			i++;
+		} while (i < cleanUps.length && !cleanUps[i].getRequirements().requiresFreshAST());
+
+		traversal.accept(ast);
+		return result;
+	}
+
+	private static ICleanUpFix createFix(ICleanUp cleanUp, CleanUpContext context, Map<ICleanUp, IFixCollector> collectors) throws CoreException {
+		IFixCollector collector= collectors.get(cleanUp);
+		if (collector == null)
+			return cleanUp.createFix(context);
+
+		return CleanUpFixWrapper.create(collector.createFixCore());
+	}
+
+	/**
+	 * Copies the change groups of <code>source</code> to <code>target</code>.
+	 *
+	 * @param target the change to copy the groups to
+	 * @param source the change to copy the groups from
+	 * @param dropped the edits of <code>source</code> that have been dropped while rebasing it onto
+	 *            another change, mapped to the edit replacing them or to <code>null</code>
+	 */
+	private static void copyChangeGroups(CompilationUnitChange target, CompilationUnitChange source, Map<TextEdit, TextEdit> dropped) {
 		for (TextEditBasedChangeGroup changeGroup : source.getChangeGroups()) {
 			TextEditGroup textEditGroup= changeGroup.getTextEditGroup();
 			TextEditGroup newGroup;
@@ -814,9 +953,14 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				newGroup= new TextEditGroup(textEditGroup.getName());
 			}
 			for (TextEdit textEdit : textEditGroup.getTextEdits()) {
-				newGroup.addTextEdit(textEdit);
+				if (!dropped.containsKey(textEdit)) {
+					newGroup.addTextEdit(textEdit);
+				} else if (dropped.get(textEdit) != null) {
+					newGroup.addTextEdit(dropped.get(textEdit));
+				}
 			}
-			target.addTextEditGroup(newGroup);
+			if (!newGroup.isEmpty() || textEditGroup.isEmpty())
+				target.addTextEditGroup(newGroup);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,26 @@
  *******************************************************************************/
  package org.eclipse.jdt.internal.corext.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.w3c.dom.Element;
 
@@ -54,28 +67,36 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.corext.CorextMessages;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 /**
  * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
+ * <p>
+ * Java element deltas only cause the entries below the changed compilation units, class files,
+ * package fragment roots or projects to be checked again. The history is stored in a binary file,
+ * the XML file of older versions is only read if there is no binary file yet and is deleted once the
+ * binary file has been written.
+ * </p>
  */
 public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (processDelta(event.getDelta())) {
-				OpenTypeHistory.getInstance().markAsInconsistent();
+			Set<IJavaElement> changedElements= new HashSet<>();
+			processDelta(event.getDelta(), changedElements);
+			if (!changedElements.isEmpty()) {
+				OpenTypeHistory.getInstance().markAsInconsistent(changedElements);
 			}
 		}
 
 		/**
-		 * Computes whether the history needs a consistency check or not.
+		 * Collects the elements whose history entries need a consistency check.
 		 *
 		 * @param delta the Java element delta
-		 *
-		 * @return <code>true</code> if consistency must be checked
-		 *  <code>false</code> otherwise.
+		 * @param changedElements the set to add the changed elements to
 		 */
-		private boolean processDelta(IJavaElementDelta delta) {
+		private void processDelta(IJavaElementDelta delta, Set<IJavaElement> changedElements) {
 			IJavaElement elem= delta.getElement();
 
 			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
@@ -85,44 +106,55 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				case IJavaElement.JAVA_PROJECT:
 					if (isRemoved || (isChanged &&
 							(delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0)) {
-						return true;
+						changedElements.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changedElements);
+					return;
 				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
 					if (isRemoved || (isChanged && (
 							(delta.getFlags() & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0 ||
 							(delta.getFlags() & IJavaElementDelta.F_REMOVED_FROM_CLASSPATH) != 0))) {
-						return true;
+						changedElements.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changedElements);
+					return;
 				case IJavaElement.TYPE:
 					if (isChanged && (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0) {
-						return true;
+						changedElements.add(elem);
+						return;
 					}
 					if (isRemoved) {
-						return true;
+						changedElements.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changedElements);
+					return;
 				case IJavaElement.JAVA_MODEL:
 				case IJavaElement.PACKAGE_FRAGMENT:
 				case IJavaElement.CLASS_FILE:
 					if (isRemoved) {
-						return true;
+						changedElements.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changedElements);
+					return;
 				case IJavaElement.COMPILATION_UNIT:
 					// Not the primary compilation unit. Ignore it
 					if (!JavaModelUtil.isPrimary((ICompilationUnit) elem)) {
-						return false;
+						return;
 					}
 
 					if (isRemoved || (isChanged && isUnknownStructuralChange(delta.getFlags()))) {
-						return true;
+						changedElements.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changedElements);
+					return;
 				default:
 					// fields, methods, imports ect
-					return false;
+					return;
 			}
 		}
 
@@ -138,13 +170,10 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 		*/
 
-		private boolean processChildrenDelta(IJavaElementDelta delta) {
+		private void processChildrenDelta(IJavaElementDelta delta, Set<IJavaElement> changedElements) {
 			for (IJavaElementDelta child : delta.getAffectedChildren()) {
-				if (processDelta(child)) {
-					return true;
-				}
+				processDelta(child, changedElements);
 			}
-			return false;
 		}
 	}
 
@@ -167,6 +196,8 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	// Needs to be volatile since accesses aren't synchronized.
 	private volatile boolean fNeedsConsistencyCheck;
+	// Elements whose entries need a consistency check, accessed only when synchronized on the set
+	private final Set<IJavaElement> fChangedElements= new HashSet<>();
 	// Map of cached time stamps
 	private Map<TypeNameMatch, Long> fTimestampMapping;
 
@@ -180,6 +211,10 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private static final String NODE_MODIFIERS= "modifiers";  //$NON-NLS-1$
 	private static final String NODE_TIMESTAMP= "timestamp"; //$NON-NLS-1$
 
+	private static final String BINARY_FILENAME= "OpenTypeHistory.dat"; //$NON-NLS-1$
+	private static final String BINARY_TEMP_FILENAME= "OpenTypeHistory.dat.tmp"; //$NON-NLS-1$
+	private static final int BINARY_FORMAT_VERSION= 1;
+
 	private static OpenTypeHistory fgInstance;
 
 	public static synchronized OpenTypeHistory getInstance() {
@@ -217,12 +252,30 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		fUpdateJob.schedule();
 	}
 
+	/**
+	 * Marks the entries of the given elements and their children as inconsistent.
+	 *
+	 * @param changedElements the changed elements
+	 */
+	private void markAsInconsistent(Set<IJavaElement> changedElements) {
+		synchronized (fChangedElements) {
+			fChangedElements.addAll(changedElements);
+		}
+		// cancel the old job. If no job is running this is a NOOP.
+		fUpdateJob.cancel();
+		fUpdateJob.schedule();
+	}
+
 	public boolean needConsistencyCheck() {
-		return fNeedsConsistencyCheck;
+		if (fNeedsConsistencyCheck)
+			return true;
+		synchronized (fChangedElements) {
+			return !fChangedElements.isEmpty();
+		}
 	}
 
 	public void checkConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		if (!fNeedsConsistencyCheck)
+		if (!needConsistencyCheck())
 			return;
 		if (fUpdateJob.getState() == Job.RUNNING) {
 			try {
@@ -232,7 +285,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				// waiting for the update job.
 			}
 		}
-		if (!fNeedsConsistencyCheck)
+		if (!needConsistencyCheck())
 			return;
 		internalCheckConsistency(monitor);
 	}
@@ -294,39 +347,67 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		// Setting fNeedsConsistencyCheck is necessary here since
-		// markAsInconsistent isn't synchronized.
-		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
+		boolean fullCheck= fNeedsConsistencyCheck;
+		Set<IJavaElement> changedElements;
+		synchronized (fChangedElements) {
+			changedElements= new HashSet<>(fChangedElements);
+			fChangedElements.clear();
+		}
+		List<TypeNameMatch> typesToCheck= new ArrayList<>();
+		for (TypeNameMatch type : getKeys()) {
+			if (fullCheck || isAffected(type, changedElements))
+				typesToCheck.add(type);
+		}
 		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
 		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
-		for (TypeNameMatch type : typesToCheck) {
-			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
-				continue;
-			try {
-				IType jType= type.getType();
-				if (jType == null || !jType.exists()) {
-					remove(type);
-				} else {
-					// copy over the modifiers since they may have changed
-					int modifiers= jType.getFlags();
-					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+		boolean completed= false;
+		try {
+			for (TypeNameMatch type : typesToCheck) {
+				long currentTimestamp= getContainerTimestamp(type);
+				Long lastTested= fTimestampMapping.get(type);
+				if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
+					continue;
+				try {
+					IType jType= type.getType();
+					if (jType == null || !jType.exists()) {
+						remove(type);
 					} else {
-						fTimestampMapping.put(type, currentTimestamp);
+						// copy over the modifiers since they may have changed
+						int modifiers= jType.getFlags();
+						if (modifiers != type.getModifiers()) {
+							replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+						} else {
+							fTimestampMapping.put(type, currentTimestamp);
+						}
 					}
+				} catch (JavaModelException e) {
+					remove(type);
+				}
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				monitor.worked(1);
+			}
+			completed= true;
+		} finally {
+			if (!completed) {
+				synchronized (fChangedElements) {
+					fChangedElements.addAll(changedElements);
 				}
-			} catch (JavaModelException e) {
-				remove(type);
 			}
-			if (monitor.isCanceled())
-				throw new OperationCanceledException();
-			monitor.worked(1);
 		}
 		monitor.done();
-		fNeedsConsistencyCheck= false;
+		if (fullCheck)
+			fNeedsConsistencyCheck= false;
+	}
+
+	private static boolean isAffected(TypeNameMatch match, Set<IJavaElement> changedElements) {
+		if (changedElements.isEmpty())
+			return false;
+		for (IJavaElement element= match.getType(); element != null; element= element.getParent()) {
+			if (changedElements.contains(element))
+				return true;
+		}
+		return false;
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
@@ -381,23 +462,73 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		save();
 	}
 
+	@Override
+	public synchronized void load() {
+		File file= JavaPlugin.getDefault().getStateLocation().append(BINARY_FILENAME).toFile();
+		if (!file.exists()) {
+			// read the XML file written by older versions
+			super.load();
+			return;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != BINARY_FORMAT_VERSION)
+				return;
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				String handle= in.readUTF();
+				int modifiers= in.readInt();
+				long timestamp= in.readLong();
+				TypeNameMatch info= createTypeNameMatch(handle, modifiers, timestamp);
+				if (info != null)
+					super.accessed(info);
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	@Override
+	public synchronized void save() {
+		// write a temporary file first, so that a crash while saving does not lose the history
+		Path stateLocation= JavaPlugin.getDefault().getStateLocation().toFile().toPath();
+		Path file= stateLocation.resolve(BINARY_FILENAME);
+		Path tempFile= stateLocation.resolve(BINARY_TEMP_FILENAME);
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				Collection<TypeNameMatch> values= getValues();
+				out.writeInt(BINARY_FORMAT_VERSION);
+				out.writeInt(values.size());
+				for (TypeNameMatch type : values) {
+					Long timestamp= fTimestampMapping.get(type);
+					out.writeUTF(type.getType().getHandleIdentifier());
+					out.writeInt(type.getModifiers());
+					out.writeLong(timestamp == null ? IResource.NULL_STAMP : timestamp.longValue());
+				}
+			}
+			try {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			// the XML file of older versions is not read anymore
+			Files.deleteIfExists(stateLocation.resolve(FILENAME));
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
 	@Override
 	protected TypeNameMatch createFromElement(Element type) {
 		String handle= type.getAttribute(NODE_HANDLE);
 		if (handle == null )
 			return null;
 
-		IJavaElement element= JavaCore.create(handle);
-		if (!(element instanceof IType))
-			return null;
-
 		int modifiers= 0;
 		try {
 			modifiers= Integer.parseInt(type.getAttribute(NODE_MODIFIERS));
 		} catch (NumberFormatException e) {
 			// take zero
 		}
-		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		long timestamp= IResource.NULL_STAMP;
 		String timestampValue= type.getAttribute(NODE_TIMESTAMP);
 		if (timestampValue != null && timestampValue.length() > 0) {
@@ -407,6 +538,15 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				// take null stamp
 			}
 		}
+		return createTypeNameMatch(handle, modifiers, timestamp);
+	}
+
+	private TypeNameMatch createTypeNameMatch(String handle, int modifiers, long timestamp) {
+		IJavaElement element= JavaCore.create(handle);
+		if (!(element instanceof IType))
+			return null;
+
+		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		if (timestamp != IResource.NULL_STAMP) {
 			fTimestampMapping.put(info, timestamp);
 		}
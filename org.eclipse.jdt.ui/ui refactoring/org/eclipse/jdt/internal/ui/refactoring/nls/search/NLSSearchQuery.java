@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,17 @@
 
 package org.eclipse.jdt.internal.ui.refactoring.nls.search;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 
 import org.eclipse.core.resources.IFile;
 
@@ -53,6 +59,11 @@ import org.eclipse.jdt.internal.ui.JavaUIStatus;
 
 public class NLSSearchQuery implements ISearchQuery {
 
+	/**
+	 * Maximal number of accessor classes that are checked concurrently.
+	 */
+	private static final int MAX_PARALLEL_CHECKS= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
 	private NLSSearchResult fResult;
 	private IJavaElement[] fWrapperClass;
 	private IFile[] fPropertiesFile;
@@ -84,49 +95,138 @@ public class NLSSearchQuery implements ISearchQuery {
 					return JavaUIStatus.createError(0, Messages.format(NLSSearchMessages.NLSSearchQuery_wrapperNotExists, JavaElementLabels.getElementLabel(wrapperClass, JavaElementLabels.ALL_DEFAULT)), null);
 				if (! propertieFile.exists())
 					return JavaUIStatus.createError(0, Messages.format(NLSSearchMessages.NLSSearchQuery_propertiesNotExists, BasicElementLabels.getResourceName(propertieFile)), null);
+			}
+
+			if (fWrapperClass.length == 0)
+				return Status.OK_STATUS;
+			if (fWrapperClass.length == 1)
+				return checkAccessor(fWrapperClass[0], fPropertiesFile[0], new SubProgressMonitor(monitor, 5));
 
-				SearchPattern pattern= SearchPattern.createPattern(wrapperClass, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-				if (pattern == null) {
-					continue;
+			return checkAccessorsInParallel(monitor);
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Checks all accessor classes in a group of jobs which runs at most
+	 * {@link #MAX_PARALLEL_CHECKS} of them at the same time. Matches are added to the result as
+	 * soon as they are found, so that the view can show them while the search is still running.
+	 *
+	 * @param monitor the progress monitor, only used by the calling thread
+	 * @return the status of the first failed check, or an OK status
+	 */
+	private IStatus checkAccessorsInParallel(final IProgressMonitor monitor) {
+		// progress monitors are not thread safe, the join only forwards cancellation
+		final IProgressMonitor cancellationMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+
+		final JobGroup group= new JobGroup(getLabel(), Math.min(MAX_PARALLEL_CHECKS, fWrapperClass.length), fWrapperClass.length);
+		final AtomicReferenceArray<IStatus> results= new AtomicReferenceArray<>(fWrapperClass.length);
+		for (int i= 0; i < fWrapperClass.length; i++) {
+			final int index= i;
+			Job job= new Job(getLabel()) {
+				@Override
+				protected IStatus run(IProgressMonitor jobMonitor) {
+					IStatus status;
+					try {
+						status= checkAccessor(fWrapperClass[index], fPropertiesFile[index], jobMonitor);
+					} catch (OperationCanceledException e) {
+						status= Status.CANCEL_STATUS;
+					}
+					results.set(index, status);
+					if (status.matches(IStatus.ERROR | IStatus.CANCEL))
+						group.cancel();
+					// the status is reported by the query, not by the job manager
+					return Status.OK_STATUS;
 				}
-				SearchParticipant[] participants= new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
-
-				NLSSearchResultRequestor requestor= new NLSSearchResultRequestor(propertieFile, fResult);
-				try {
-					SearchEngine engine= new SearchEngine();
-					engine.search(pattern, participants, fScope, requestor, new SubProgressMonitor(monitor, 4));
-					requestor.reportUnusedPropertyNames(new SubProgressMonitor(monitor, 1));
-
-					ICompilationUnit compilationUnit= ((IType)wrapperClass).getCompilationUnit();
-					CompilationUnitEntry groupElement= new CompilationUnitEntry(NLSSearchMessages.NLSSearchResultCollector_unusedKeys, compilationUnit);
-
-					boolean hasUnusedPropertie= false;
-					for (IField field : ((IType)wrapperClass).getFields()) {
-						if (isNLSField(field)) {
-							ISourceRange sourceRange= field.getSourceRange();
-							if (sourceRange != null) {
-								String fieldName= field.getElementName();
-								if (!requestor.hasPropertyKey(fieldName)) {
-									fResult.addMatch(new Match(compilationUnit, sourceRange.getOffset(), sourceRange.getLength()));
-								}
-								if (!requestor.isUsedPropertyKey(fieldName)) {
-									hasUnusedPropertie= true;
-									fResult.addMatch(new Match(groupElement, sourceRange.getOffset(), sourceRange.getLength()));
-								}
+			};
+			job.setSystem(true);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+
+		try {
+			int reported= 0;
+			while (!group.join(100, cancellationMonitor)) {
+				reported= reportFinished(results, reported, monitor);
+			}
+			reportFinished(results, reported, monitor);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			group.cancel();
+			return Status.CANCEL_STATUS;
+		} catch (OperationCanceledException e) {
+			group.cancel();
+			return Status.CANCEL_STATUS;
+		}
+
+		for (int i= 0; i < results.length(); i++) {
+			IStatus status= results.get(i);
+			if (status != null && !status.isOK())
+				return status;
+		}
+		return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+	}
+
+	private static int reportFinished(AtomicReferenceArray<IStatus> results, int reported, IProgressMonitor monitor) {
+		int finished= 0;
+		for (int i= 0; i < results.length(); i++) {
+			if (results.get(i) != null)
+				finished++;
+		}
+		monitor.worked(5 * (finished - reported));
+		return finished;
+	}
+
+	private IStatus checkAccessor(IJavaElement wrapperClass, IFile propertieFile, IProgressMonitor monitor) {
+		monitor.beginTask("", 5); //$NON-NLS-1$
+		try {
+			SearchPattern pattern= SearchPattern.createPattern(wrapperClass, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			if (pattern == null) {
+				return Status.OK_STATUS;
+			}
+			SearchParticipant[] participants= new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+
+			NLSSearchResultRequestor requestor= new NLSSearchResultRequestor(propertieFile, fResult);
+			try {
+				SearchEngine engine= new SearchEngine();
+				engine.search(pattern, participants, fScope, requestor, new SubProgressMonitor(monitor, 4));
+				requestor.reportUnusedPropertyNames(new SubProgressMonitor(monitor, 1));
+
+				ICompilationUnit compilationUnit= ((IType)wrapperClass).getCompilationUnit();
+				CompilationUnitEntry groupElement= new CompilationUnitEntry(NLSSearchMessages.NLSSearchResultCollector_unusedKeys, compilationUnit);
+
+				boolean hasUnusedPropertie= false;
+				for (IField field : ((IType)wrapperClass).getFields()) {
+					if (isNLSField(field)) {
+						ISourceRange sourceRange= field.getSourceRange();
+						if (sourceRange != null) {
+							String fieldName= field.getElementName();
+							if (!requestor.hasPropertyKey(fieldName)) {
+								fResult.addMatch(new Match(compilationUnit, sourceRange.getOffset(), sourceRange.getLength()));
+							}
+							if (!requestor.isUsedPropertyKey(fieldName)) {
+								hasUnusedPropertie= true;
+								fResult.addMatch(new Match(groupElement, sourceRange.getOffset(), sourceRange.getLength()));
 							}
 						}
 					}
-					if (hasUnusedPropertie)
-						fResult.addCompilationUnitGroup(groupElement);
-
-				} catch (CoreException e) {
-					return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
 				}
+				if (hasUnusedPropertie)
+					fResult.addCompilationUnitGroup(groupElement);
+
+			} catch (CoreException e) {
+				return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
 			}
+			return Status.OK_STATUS;
 		} finally {
 			monitor.done();
 		}
-		return 	Status.OK_STATUS;
 	}
 
 	private boolean isNLSField(IField field) throws JavaModelException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,7 +36,7 @@ public class InitializeAfterLoadJob extends UIJob {
 		protected IStatus run(IProgressMonitor monitor) {
 			SubMonitor subMonitor= SubMonitor.convert(monitor, 10);
 			try {
-				JavaCore.initializeAfterLoad(subMonitor.split(6));
+				StartupPhases.run(StartupPhases.JAVA_CORE, () -> JavaCore.initializeAfterLoad(subMonitor.split(6)));
 				JavaPlugin.initializeAfterLoad(subMonitor.split(4));
 			} catch (CoreException e) {
 				JavaPlugin.log(e);
@@ -56,6 +56,12 @@ public class InitializeAfterLoadJob extends UIJob {
 	}
 	@Override
 	public IStatus runInUIThread(IProgressMonitor monitor) {
+		try {
+			StartupPhases.run(StartupPhases.WORKING_SETS, JavaPlugin::initializeWorkingSets);
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+		}
+
 		Job job = new RealJob(JavaUIMessages.JavaPlugin_initializing_ui);
 		job.setPriority(Job.SHORT);
 		job.schedule();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -124,6 +124,7 @@ import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.folding.JavaFoldingStructureProviderRegistry;
 import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaEditorTextHoverDescriptor;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImagesOnFileSystemRegistry;
@@ -167,6 +168,8 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	public static boolean DEBUG_RESULT_COLLECTOR;
 
+	public static boolean DEBUG_CLEAN_UP_PROFILER;
+
 	private static JavaPlugin fgJavaPlugin;
 
 	private static LinkedHashMap<String, Long> fgRepeatedMessages= new LinkedHashMap<String, Long>(20, 0.75f, true) {
@@ -186,7 +189,7 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 * The code template context type registry for the java editor.
 	 * @since 3.0
 	 */
-	private ContextTypeRegistry fCodeTemplateContextTypeRegistry;
+	private volatile ContextTypeRegistry fCodeTemplateContextTypeRegistry;
 
 	/**
 	 * The template store for the java editor.
@@ -197,7 +200,13 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 * The coded template store for the java editor.
 	 * @since 3.0
 	 */
-	private TemplateStore fCodeTemplateStore;
+	private volatile TemplateStore fCodeTemplateStore;
+	/**
+	 * Guards the creation of the code template store and its context type registry, which can be
+	 * requested from any thread.
+	 * @since 3.27
+	 */
+	private final Object fCodeTemplateLock= new Object();
 
 	/**
 	 * Default instance of the appearance type filters.
@@ -233,6 +242,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 */
 	private volatile ASTProvider fASTProvider;
 
+	/**
+	 * The cache of rendered Javadoc.
+	 */
+	private volatile JavadocContentCache fJavadocContentCache;
+
 	/**
 	 * The combined preference store.
 	 * @since 3.0
@@ -385,9 +399,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		fBundleContext= context;
 
 		// register debug options listener
-		Hashtable<String, String> properties= new Hashtable<>(2);
-		properties.put(DebugOptions.LISTENER_SYMBOLICNAME, getPluginId());
-		fDebugRegistration= context.registerService(DebugOptionsListener.class, this, properties);
+		StartupPhases.run(StartupPhases.DEBUG_OPTIONS, () -> {
+			Hashtable<String, String> properties= new Hashtable<>(2);
+			properties.put(DebugOptions.LISTENER_SYMBOLICNAME, getPluginId());
+			fDebugRegistration= context.registerService(DebugOptionsListener.class, this, properties);
+		});
 
 		WorkingCopyOwner.setPrimaryBufferProvider(new WorkingCopyOwner() {
 			@Override
@@ -407,13 +423,15 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		IPreferenceStore store= getPreferenceStore();
 
 		// must add here to guarantee that it is the first in the listener list
-		fMembersOrderPreferenceCache= new MembersOrderPreferenceCache();
-		fMembersOrderPreferenceCache.install(store);
+		StartupPhases.run(StartupPhases.MEMBERS_ORDER, () -> {
+			fMembersOrderPreferenceCache= new MembersOrderPreferenceCache();
+			fMembersOrderPreferenceCache.install(store);
+		});
 
 		// set core methods for MethodWrapper
 		MethodWrapper.setMethodWrapperDynamic(new MethodWrapperDynamic());
 
-		FormatterProfileStore.checkCurrentOptionsVersion();
+		StartupPhases.run(StartupPhases.FORMATTER_PROFILES, FormatterProfileStore::checkCurrentOptionsVersion);
 
 		// make sure org.eclipse.jdt.core.manipulation is loaded too
 		// can be removed if JavaElementPropertyTester is moved down to jdt.core (bug 127085)
@@ -421,7 +439,7 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 		if (PlatformUI.isWorkbenchRunning()) {
 			// Initialize AST provider
-			getASTProvider();
+			StartupPhases.run(StartupPhases.AST_PROVIDER, this::getASTProvider);
 
 			fThemeListener= event -> {
 				if (IThemeManager.CHANGE_CURRENT_THEME.equals(event.getProperty()))
@@ -429,16 +447,21 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			};
 			PlatformUI.getWorkbench().getThemeManager().addPropertyChangeListener(fThemeListener);
 
-			createOrUpdateWorkingSet(DynamicSourcesWorkingSetUpdater.MAIN_NAME, DynamicSourcesWorkingSetUpdater.MAIN_OLD_NAME, WorkingSetMessages.JavaMainSourcesWorkingSet_name, IWorkingSetIDs.DYNAMIC_SOURCES);
-			createOrUpdateWorkingSet(DynamicSourcesWorkingSetUpdater.TEST_NAME, DynamicSourcesWorkingSetUpdater.TEST_OLD_NAME, WorkingSetMessages.JavaTestSourcesWorkingSet_name, IWorkingSetIDs.DYNAMIC_SOURCES);
-
 			new InitializeAfterLoadJob().schedule(); // last call in start, see bug 191193
 		}
 
-		JavaManipulation.setCodeTemplateStore(getCodeTemplateStore());
-		JavaManipulation.setCodeTemplateContextRegistry(getCodeTemplateContextRegistry());
-		disableNewCodeAssistCategoryPreferences();
-		setTypeFilterPreferences();
+		// the code templates are only loaded when first used
+		JavaManipulation.setCodeTemplateStoreProvider(this::getCodeTemplateStore);
+		JavaManipulation.setCodeTemplateContextRegistryProvider(this::getCodeTemplateContextRegistry);
+		StartupPhases.run(StartupPhases.PREFERENCES, () -> {
+			disableNewCodeAssistCategoryPreferences();
+			setTypeFilterPreferences();
+		});
+	}
+
+	/* package */ static void initializeWorkingSets() {
+		getDefault().createOrUpdateWorkingSet(DynamicSourcesWorkingSetUpdater.MAIN_NAME, DynamicSourcesWorkingSetUpdater.MAIN_OLD_NAME, WorkingSetMessages.JavaMainSourcesWorkingSet_name, IWorkingSetIDs.DYNAMIC_SOURCES);
+		getDefault().createOrUpdateWorkingSet(DynamicSourcesWorkingSetUpdater.TEST_NAME, DynamicSourcesWorkingSetUpdater.TEST_OLD_NAME, WorkingSetMessages.JavaTestSourcesWorkingSet_name, IWorkingSetIDs.DYNAMIC_SOURCES);
 	}
 
 	private void createOrUpdateWorkingSet(String name, String oldname, String label, final String id) {
@@ -463,8 +486,8 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		}
 	}
 
-	/* package */ static void initializeAfterLoad(IProgressMonitor monitor) {
-		OpenTypeHistory.getInstance().checkConsistency(monitor);
+	/* package */ static void initializeAfterLoad(IProgressMonitor monitor) throws CoreException {
+		StartupPhases.run(StartupPhases.OPEN_TYPE_HISTORY, () -> OpenTypeHistory.getInstance().checkConsistency(monitor));
 	}
 
 	/*
@@ -493,6 +516,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 				fASTProvider= null;
 			}
 
+			if (fJavadocContentCache != null) {
+				fJavadocContentCache.dispose();
+				fJavadocContentCache= null;
+			}
+
 			if (fWorkingCopyManager != null) {
 				fWorkingCopyManager.shutdown();
 				fWorkingCopyManager= null;
@@ -702,6 +730,24 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		}
 	}
 
+	/**
+	 * Returns the cache of the Javadoc rendered for hovers and the Javadoc view.
+	 *
+	 * @return the Javadoc content cache
+	 */
+	public JavadocContentCache getJavadocContentCache() {
+		JavadocContentCache result= fJavadocContentCache;
+		if (result != null) { // First check (no locking)
+			return result;
+		}
+		synchronized(this) {
+			if (fJavadocContentCache == null) { // Second check (with locking)
+				fJavadocContentCache= new JavadocContentCache();
+			}
+			return fJavadocContentCache;
+		}
+	}
+
 	public MembersOrderPreferenceCache getMemberOrderPreferenceCache() {
 		// initialized on startup
 		return fMembersOrderPreferenceCache;
@@ -890,13 +936,18 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 * @since 3.0
 	 */
 	public ContextTypeRegistry getCodeTemplateContextRegistry() {
-		if (fCodeTemplateContextTypeRegistry == null) {
-			fCodeTemplateContextTypeRegistry= new ContributionContextTypeRegistry();
-
-			CodeTemplateContextType.registerContextTypes(fCodeTemplateContextTypeRegistry);
+		ContextTypeRegistry result= fCodeTemplateContextTypeRegistry;
+		if (result != null) { // First check (no locking)
+			return result;
+		}
+		synchronized (fCodeTemplateLock) {
+			if (fCodeTemplateContextTypeRegistry == null) { // Second check (with locking)
+				ContributionContextTypeRegistry registry= new ContributionContextTypeRegistry();
+				CodeTemplateContextType.registerContextTypes(registry);
+				fCodeTemplateContextTypeRegistry= registry;
+			}
+			return fCodeTemplateContextTypeRegistry;
 		}
-
-		return fCodeTemplateContextTypeRegistry;
 	}
 
 	/**
@@ -906,21 +957,26 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 * @since 3.0
 	 */
 	public TemplateStore getCodeTemplateStore() {
-		if (fCodeTemplateStore == null) {
-			IPreferenceStore store= getPreferenceStore();
-			fCodeTemplateStore= new ContributionTemplateStore(getCodeTemplateContextRegistry(), store, CODE_TEMPLATES_KEY);
+		TemplateStore result= fCodeTemplateStore;
+		if (result != null) { // First check (no locking)
+			return result;
+		}
+		synchronized (fCodeTemplateLock) {
+			if (fCodeTemplateStore == null) { // Second check (with locking)
+				IPreferenceStore store= getPreferenceStore();
+				ContributionTemplateStore templateStore= new ContributionTemplateStore(getCodeTemplateContextRegistry(), store, CODE_TEMPLATES_KEY);
+
+				try {
+					templateStore.load();
+				} catch (IOException e) {
+					log(e);
+				}
 
-			try {
-				fCodeTemplateStore.load();
-			} catch (IOException e) {
-				log(e);
+				templateStore.startListeningForPreferenceChanges();
+				fCodeTemplateStore= templateStore;
 			}
-
-			fCodeTemplateStore.startListeningForPreferenceChanges();
-
+			return fCodeTemplateStore;
 		}
-
-		return fCodeTemplateStore;
 	}
 
 	ImageDescriptorRegistry internalGetImageDescriptorRegistry() {
@@ -1135,6 +1191,7 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		DEBUG_BREADCRUMB_ITEM_DROP_DOWN= options.getBooleanOption("org.eclipse.jdt.ui/debug/BreadcrumbItemDropDown", false); //$NON-NLS-1$
 		DEBUG_TYPE_CONSTRAINTS= options.getBooleanOption("org.eclipse.jdt.ui/debug/TypeConstraints", false); //$NON-NLS-1$
 		DEBUG_RESULT_COLLECTOR= options.getBooleanOption("org.eclipse.jdt.ui/debug/ResultCollector", false); //$NON-NLS-1$
+		DEBUG_CLEAN_UP_PROFILER= options.getBooleanOption("org.eclipse.jdt.ui/debug/CleanUpProfiler", false); //$NON-NLS-1$
 	}
 
 	/**
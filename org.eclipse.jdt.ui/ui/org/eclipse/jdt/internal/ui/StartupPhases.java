@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.PerformanceStats;
+
+/**
+ * Measures the phases of the initialization of the Java UI plug-in.
+ * <p>
+ * The phases run by {@link JavaPlugin#start(org.osgi.framework.BundleContext)} are
+ * {@link #isDeferred(String) synchronous}, the others run after the workbench has started. The
+ * time of each phase is reported to the {@link PerformanceStats} event {@link #PERF_STARTUP} and is
+ * kept for {@link #getPhaseTimes()}.
+ * </p>
+ */
+public final class StartupPhases {
+
+	/**
+	 * Interface for the work of a phase.
+	 */
+	public interface IPhase {
+		void run() throws CoreException;
+	}
+
+	public static final String PERF_STARTUP= "org.eclipse.jdt.ui/perf/startup"; //$NON-NLS-1$
+
+	public static final String DEBUG_OPTIONS= "debug options"; //$NON-NLS-1$
+	public static final String MEMBERS_ORDER= "members order"; //$NON-NLS-1$
+	public static final String FORMATTER_PROFILES= "formatter profiles"; //$NON-NLS-1$
+	public static final String AST_PROVIDER= "AST provider"; //$NON-NLS-1$
+	public static final String PREFERENCES= "preferences"; //$NON-NLS-1$
+
+	public static final String WORKING_SETS= "working sets"; //$NON-NLS-1$
+	public static final String JAVA_CORE= "Java core"; //$NON-NLS-1$
+	public static final String OPEN_TYPE_HISTORY= "open type history"; //$NON-NLS-1$
+
+	private static final Map<String, Long> fgPhaseTimes= new LinkedHashMap<>();
+
+	private StartupPhases() {
+	}
+
+	/**
+	 * Runs and measures a phase.
+	 *
+	 * @param phase the name of the phase
+	 * @param work the work of the phase
+	 * @throws CoreException if the work fails
+	 */
+	public static void run(String phase, IPhase work) throws CoreException {
+		PerformanceStats stats= PerformanceStats.getStats(PERF_STARTUP, phase);
+		stats.startRun();
+		long start= System.nanoTime();
+		try {
+			work.run();
+		} finally {
+			long time= System.nanoTime() - start;
+			stats.endRun();
+			synchronized (fgPhaseTimes) {
+				fgPhaseTimes.merge(phase, Long.valueOf(time), Long::sum);
+			}
+		}
+	}
+
+	/**
+	 * @param phase the name of a phase
+	 * @return <code>true</code> if the phase runs after the workbench has started
+	 */
+	public static boolean isDeferred(String phase) {
+		return WORKING_SETS.equals(phase) || JAVA_CORE.equals(phase) || OPEN_TYPE_HISTORY.equals(phase);
+	}
+
+	/**
+	 * Returns the phases run so far.
+	 *
+	 * @return the times in nanoseconds by phase, in the order the phases have run first
+	 */
+	public static Map<String, Long> getPhaseTimes() {
+		synchronized (fgPhaseTimes) {
+			return new LinkedHashMap<>(fgPhaseTimes);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.ui.compare;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
@@ -70,8 +71,27 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 public class JavaStructureCreator extends StructureCreator {
 
+	/**
+	 * Maximal number of node contents whose white space normalized form is remembered.
+	 */
+	private static final int MAX_NORMALIZED_CONTENTS= 1000;
+
 	private Map<String, String> fDefaultCompilerOptions;
 
+	/**
+	 * The white space normalized contents of the nodes compared last, keyed on the contents of
+	 * the nodes. The node trees are created anew for every comparison, so the contents of a node
+	 * that has not changed are only scanned once.
+	 */
+	private final Map<String, String> fNormalizedContents= new LinkedHashMap<String, String>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+			return size() > MAX_NORMALIZED_CONTENTS;
+		}
+	};
+
 	/**
 	 * A root node for the structure. It is similar to {@link StructureRootNode} but needed
 	 * to be a subclass of {@link JavaNode} because of the code used to build the structure.
@@ -321,6 +341,27 @@ public class JavaStructureCreator extends StructureCreator {
 		if (!ignoreWhiteSpace)
 			return content;
 
+		synchronized (fNormalizedContents) {
+			String normalized= fNormalizedContents.get(content);
+			if (normalized != null)
+				return normalized;
+		}
+		String normalized= normalizeWhiteSpace(content);
+		if (normalized == null)
+			return content;
+		synchronized (fNormalizedContents) {
+			fNormalizedContents.put(content, normalized);
+		}
+		return normalized;
+	}
+
+	/**
+	 * Replaces Java white space by a single blank and normalizes the white space in comments.
+	 *
+	 * @param content the content to normalize
+	 * @return the normalized content or <code>null</code> if the content could not be scanned
+	 */
+	private static String normalizeWhiteSpace(String content) {
 		// replace whitespace by a single blank
 		StringBuilder buf= new StringBuilder();
 		char[] b= content.toCharArray();
@@ -351,11 +392,11 @@ public class JavaStructureCreator extends StructureCreator {
 						break;
 				}
 			}
-			content= buf.toString(); // success!
+			return buf.toString(); // success!
 		} catch (InvalidInputException ex) {
 			// NeedWork
 		}
-		return content;
+		return null;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,10 @@ public class JavaTokenComparator implements ITokenComparator {
 	private int fCount;
 	private int[] fStarts;
 	private int[] fLengths;
+	/**
+	 * Hash codes of the tokens, computed on first comparison.
+	 */
+	private int[] fHashes;
 
 	/**
 	 * Creates a token comparator for the given string.
@@ -165,6 +169,28 @@ public class JavaTokenComparator implements ITokenComparator {
 		return 0;
 	}
 
+	/**
+	 * Returns the hash code of the token with the given index. The hash codes of all tokens are
+	 * computed at once, so that the range differencer mostly compares integers instead of
+	 * characters.
+	 *
+	 * @param index the number of the token, must be smaller than {@link #getRangeCount()}
+	 * @return the hash code of the token's text
+	 */
+	private int getTokenHash(int index) {
+		if (fHashes == null) {
+			int[] hashes= new int[fCount];
+			for (int i= 0; i < fCount; i++) {
+				int h= 0;
+				for (int j= fStarts[i], end= j + fLengths[i]; j < end; j++)
+					h= 31 * h + fText.charAt(j);
+				hashes[i]= h;
+			}
+			fHashes= hashes;
+		}
+		return fHashes[index];
+	}
+
 	/**
 	 * Returns <code>true</code> if a token given by the first index
 	 * matches a token specified by the other <code>IRangeComparator</code> and index.
@@ -180,8 +206,11 @@ public class JavaTokenComparator implements ITokenComparator {
 			JavaTokenComparator tc= (JavaTokenComparator) other;	// safe cast
 			int thisLen= getTokenLength(thisIndex);
 			int otherLen= tc.getTokenLength(otherIndex);
-			if (thisLen == otherLen)
-				return fText.regionMatches(false, getTokenStart(thisIndex), tc.fText, tc.getTokenStart(otherIndex), thisLen);
+			if (thisLen != otherLen)
+				return false;
+			if (thisLen > 1 && thisIndex < fCount && otherIndex < tc.fCount && getTokenHash(thisIndex) != tc.getTokenHash(otherIndex))
+				return false;
+			return fText.regionMatches(false, getTokenStart(thisIndex), tc.fText, tc.getTokenStart(otherIndex), thisLen);
 		}
 		return false;
 	}
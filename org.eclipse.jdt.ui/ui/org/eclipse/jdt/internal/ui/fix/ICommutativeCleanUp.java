@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+/**
+ * A clean up whose changes commute with the changes of other clean ups: its result does not
+ * depend on whether the other clean ups have been applied before. If its edits overlap the edits
+ * of another clean up only by being equal, by being deleted by the other clean up or by touching
+ * them, both changes are merged in the same pass instead of computing this clean up again on a
+ * fresh AST.
+ *
+ * @see org.eclipse.jdt.internal.corext.refactoring.util.TextEditUtil#rebase(org.eclipse.text.edits.TextEdit, org.eclipse.text.edits.TextEdit, boolean, java.util.Map)
+ */
+public interface ICommutativeCleanUp extends ICleanUp {
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,7 @@ package org.eclipse.jdt.internal.ui.fix;
 import java.util.Collections;
 import java.util.Map;
 
-public class UnnecessaryCodeCleanUp extends AbstractMultiFixCoreWrapper<UnnecessaryCodeCleanUpCore> {
+public class UnnecessaryCodeCleanUp extends AbstractMultiFixCoreWrapper<UnnecessaryCodeCleanUpCore> implements ICommutativeCleanUp {
 
 	public UnnecessaryCodeCleanUp(final Map<String, String> options) {
 		super(options, new UnnecessaryCodeCleanUpCore());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,15 +17,18 @@ import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 
+import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
 import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 
 import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
 /**
  */
-public class UseIteratorToForLoopCleanUp extends AbstractCleanUp {
+public class UseIteratorToForLoopCleanUp extends AbstractCleanUp implements ISharedTraversalCleanUpCore {
 	private final UseIteratorToForLoopCleanUpCore coreCleanUp= new UseIteratorToForLoopCleanUpCore();
 	public UseIteratorToForLoopCleanUp(final Map<String, String> options) {
 		setOptions(options);
@@ -46,6 +49,10 @@ public class UseIteratorToForLoopCleanUp extends AbstractCleanUp {
 		return fixCore == null ? null : new CleanUpFixWrapper(fixCore);
 	}
 	@Override
+	public IFixCollector registerInterests(final CleanUpContextCore context, final FusedHelperVisitor traversal) throws CoreException {
+		return coreCleanUp.registerInterests(context, traversal);
+	}
+	@Override
 	public String[] getStepDescriptions() {
 		return coreCleanUp.getStepDescriptions();
 	}
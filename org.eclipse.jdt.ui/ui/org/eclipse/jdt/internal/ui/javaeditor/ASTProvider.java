@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.javaeditor;
 
+import org.eclipse.jface.text.IDocumentExtension4;
+
 import org.eclipse.ui.IPartListener2;
 import org.eclipse.ui.IWindowListener;
 import org.eclipse.ui.IWorkbenchPart;
@@ -42,6 +44,15 @@ public final class ASTProvider implements IASTSharedValues {
 
 	private static final CoreASTProvider INSTANCE= CoreASTProvider.getInstance();
 
+	/**
+	 * Property of a reconciled AST holding the modification stamp the editor's document had when
+	 * the reconcile started.
+	 *
+	 * @see #getDocumentStamp(CompilationUnit)
+	 * @since 3.27
+	 */
+	public static final String DOCUMENT_STAMP_PROPERTY= "org.eclipse.jdt.ui.documentStamp"; //$NON-NLS-1$
+
 	/**
 	 * Internal activation listener.
 	 *
@@ -193,6 +204,23 @@ public final class ASTProvider implements IASTSharedValues {
 		return JavaPlugin.getDefault().getASTProvider();
 	}
 
+	/**
+	 * Returns the modification stamp of the document the given AST has been reconciled from. If
+	 * the stamp is equal to the current stamp of the document, the AST reflects the current
+	 * content of the document.
+	 *
+	 * @param ast the compilation unit AST
+	 * @return the document stamp or {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP} if the
+	 *         AST has not been created by a reconcile of a Java editor
+	 * @since 3.27
+	 */
+	public static long getDocumentStamp(CompilationUnit ast) {
+		Object stamp= ast.getProperty(DOCUMENT_STAMP_PROPERTY);
+		if (stamp instanceof Long)
+			return ((Long) stamp).longValue();
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
 	/**
 	 * Creates a new AST provider.
 	 */
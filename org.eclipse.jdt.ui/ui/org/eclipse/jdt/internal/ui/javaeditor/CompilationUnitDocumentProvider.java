@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,9 +21,12 @@ import java.io.Reader;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
@@ -66,7 +69,10 @@ import org.eclipse.jface.util.IPropertyChangeListener;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DefaultLineTracker;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.ILineTracker;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
@@ -437,79 +443,139 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 	 * Internal structure for mapping positions to some value.
 	 * The reason for this specific structure is that positions can
 	 * change over time. Thus a lookup is based on value and not
-	 * on hash value.
+	 * on the hash value of the position. The entries are hashed by the
+	 * offset and length their positions had when they were indexed,
+	 * and are indexed again by {@link #revalidate(long)} when the
+	 * positions may have changed.
+	 * <p>
+	 * The map listens to the document of the positions: a document sets its new modification stamp
+	 * before it updates the positions, so the stamp is only trusted if no change of the document
+	 * has been in progress while the entries were indexed.
+	 * </p>
 	 */
-	protected static class ReverseMap {
+	protected static class ReverseMap implements IDocumentListener {
 
 		static class Entry {
 			Position fPosition;
 			Object fValue;
+			/** The next entry with the same hash key. */
+			Entry fNext;
 		}
 
-		private List<Entry> fList= new ArrayList<>(2);
-		private int fAnchor= 0;
+		private Map<Long, Entry> fEntries= new HashMap<>();
+		private long fModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		/**
+		 * Incremented before and after each change of the document, odd while the document is
+		 * being changed.
+		 */
+		private volatile int fDocumentChanges;
 
 		public ReverseMap() {
 		}
 
-		public Object get(Position position) {
+		private static Long getKey(Position position) {
+			return Long.valueOf(((long) position.getOffset() << 32) | (position.getLength() & 0xFFFFFFFFL));
+		}
 
-			Entry entry;
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			fDocumentChanges++;
+		}
 
-			// behind anchor
-			int length= fList.size();
-			for (int i= fAnchor; i < length; i++) {
-				entry= fList.get(i);
-				if (entry.fPosition.equals(position)) {
-					fAnchor= i;
-					return entry.fValue;
-				}
-			}
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			fDocumentChanges++;
+		}
 
-			// before anchor
-			for (int i= 0; i < fAnchor; i++) {
-				entry= fList.get(i);
-				if (entry.fPosition.equals(position)) {
-					fAnchor= i;
-					return entry.fValue;
+		/**
+		 * Indexes the entries again if the given modification stamp differs from the one of the
+		 * last call, since the positions may have been updated in the meantime.
+		 *
+		 * @param modificationStamp the modification stamp of the document the positions belong
+		 *            to, or {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP} if the
+		 *            positions may always have changed
+		 */
+		public void revalidate(long modificationStamp) {
+			if (modificationStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && modificationStamp == fModificationStamp)
+				return;
+
+			int documentChanges= fDocumentChanges;
+			reindex();
+			// while the document is being changed, the positions may not match the stamp yet
+			boolean stable= (documentChanges & 1) == 0 && documentChanges == fDocumentChanges;
+			fModificationStamp= stable ? modificationStamp : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		}
+
+		private void reindex() {
+			if (fEntries.isEmpty())
+				return;
+
+			List<Entry> entries= new ArrayList<>(fEntries.size());
+			for (Entry entry : fEntries.values()) {
+				for (; entry != null; entry= entry.fNext)
+					entries.add(entry);
+			}
+			fEntries.clear();
+			for (Entry entry : entries) {
+				entry.fNext= null;
+				Entry previous= fEntries.putIfAbsent(getKey(entry.fPosition), entry);
+				if (previous != null) {
+					while (previous.fNext != null)
+						previous= previous.fNext;
+					previous.fNext= entry;
 				}
 			}
+		}
 
-			return null;
+		/**
+		 * Forces the next call to {@link #revalidate(long)} to index the entries again.
+		 */
+		public void invalidate() {
+			fModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 		}
 
-		private int getIndex(Position position) {
-			Entry entry;
-			int length= fList.size();
-			for (int i= 0; i < length; i++) {
-				entry= fList.get(i);
+		private Entry getEntry(Position position) {
+			for (Entry entry= fEntries.get(getKey(position)); entry != null; entry= entry.fNext) {
 				if (entry.fPosition.equals(position))
-					return i;
+					return entry;
 			}
-			return -1;
+			return null;
+		}
+
+		public Object get(Position position) {
+			Entry entry= getEntry(position);
+			return entry != null ? entry.fValue : null;
 		}
 
 		public void put(Position position,  Object value) {
-			int index= getIndex(position);
-			if (index == -1) {
-				Entry entry= new Entry();
+			Entry entry= getEntry(position);
+			if (entry == null) {
+				entry= new Entry();
 				entry.fPosition= position;
-				entry.fValue= value;
-				fList.add(entry);
-			} else {
-				Entry entry= fList.get(index);
-				entry.fValue= value;
+				entry.fNext= fEntries.put(getKey(position), entry);
 			}
+			entry.fValue= value;
 		}
 
 		public void remove(Position position) {
-			int index= getIndex(position);
-			if (index > -1)
-				fList.remove(index);
+			Long key= getKey(position);
+			Entry previous= null;
+			for (Entry entry= fEntries.get(key); entry != null; entry= entry.fNext) {
+				if (entry.fPosition.equals(position)) {
+					if (previous != null)
+						previous.fNext= entry.fNext;
+					else if (entry.fNext != null)
+						fEntries.put(key, entry.fNext);
+					else
+						fEntries.remove(key);
+					return;
+				}
+				previous= entry;
+			}
 		}
 
 		public void clear() {
-			fList.clear();
+			fEntries.clear();
 		}
 	}
 
@@ -525,6 +591,43 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 			List<IProblem> fReportedProblems;
 		}
 
+		/**
+		 * Identifies a problem by its id, severity, message and position, so that the annotations of
+		 * unchanged problems can be kept when new problems are reported.
+		 */
+		private static final class ProblemKey {
+			private final int fId;
+			private final boolean fIsError;
+			private final boolean fIsWarning;
+			private final String fMessage;
+			private final int fOffset;
+			private final int fLength;
+
+			ProblemKey(IProblem problem, Position position) {
+				fId= problem.getID();
+				fIsError= problem.isError();
+				fIsWarning= problem.isWarning();
+				fMessage= problem.getMessage();
+				fOffset= position.getOffset();
+				fLength= position.getLength();
+			}
+
+			@Override
+			public int hashCode() {
+				return ((fId * 31 + fOffset) * 31 + fLength) * 31 + Objects.hashCode(fMessage);
+			}
+
+			@Override
+			public boolean equals(Object obj) {
+				if (!(obj instanceof ProblemKey))
+					return false;
+				ProblemKey other= (ProblemKey) obj;
+				return fId == other.fId && fOffset == other.fOffset && fLength == other.fLength
+						&& fIsError == other.fIsError && fIsWarning == other.fIsWarning
+						&& Objects.equals(fMessage, other.fMessage);
+			}
+		}
+
 		private ThreadLocal<ProblemRequestorState> fProblemRequestorState= new ThreadLocal<>();
 		private int fStateCount= 0;
 
@@ -535,8 +638,8 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 		private boolean fIsHandlingTemporaryProblems;
 
 		private ReverseMap fReverseMap= new ReverseMap();
-		private List<JavaMarkerAnnotation> fPreviouslyOverlaid= null;
-		private List<JavaMarkerAnnotation> fCurrentlyOverlaid= new ArrayList<>();
+		private Set<JavaMarkerAnnotation> fPreviouslyOverlaid= null;
+		private Set<JavaMarkerAnnotation> fCurrentlyOverlaid= new HashSet<>();
 		private Thread fActiveThread;
 
 
@@ -681,13 +784,19 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 				boolean isCanceled= false;
 
 				fPreviouslyOverlaid= fCurrentlyOverlaid;
-				fCurrentlyOverlaid= new ArrayList<>();
-
-				if (fGeneratedAnnotations.size() > 0) {
-					temporaryProblemsChanged= true;
-					removeAnnotations(fGeneratedAnnotations, false, true);
-					fGeneratedAnnotations.clear();
+				fCurrentlyOverlaid= new HashSet<>();
+
+				// the annotations of problems which are reported again are kept
+				Map<ProblemKey, List<ProblemAnnotation>> previousAnnotations= new HashMap<>();
+				List<ProblemAnnotation> removedAnnotations= new ArrayList<>();
+				for (ProblemAnnotation annotation : fGeneratedAnnotations) {
+					Position position= getPosition(annotation);
+					if (position != null && !position.isDeleted())
+						previousAnnotations.computeIfAbsent(new ProblemKey(annotation.fProblem, position), k -> new ArrayList<>(1)).add(annotation);
+					else
+						removedAnnotations.add(annotation);
 				}
+				fGeneratedAnnotations.clear();
 
 				if (reportedProblems != null && reportedProblems.size() > 0) {
 
@@ -703,6 +812,15 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 						Position position= createPositionFromProblem(problem);
 						if (position != null) {
 
+							List<ProblemAnnotation> unchanged= previousAnnotations.get(new ProblemKey(problem, position));
+							if (unchanged != null && !unchanged.isEmpty()) {
+								ProblemAnnotation annotation= unchanged.remove(unchanged.size() - 1);
+								if (overlayMarkers(position, annotation))
+									temporaryProblemsChanged= true;
+								fGeneratedAnnotations.add(annotation);
+								continue;
+							}
+
 							try {
 								ProblemAnnotation annotation= new ProblemAnnotation(problem, fCompilationUnit);
 								overlayMarkers(position, annotation);
@@ -717,7 +835,19 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 					}
 				}
 
-				removeMarkerOverlays(isCanceled);
+				for (List<ProblemAnnotation> annotations : previousAnnotations.values()) {
+					if (isCanceled)
+						fGeneratedAnnotations.addAll(annotations);
+					else
+						removedAnnotations.addAll(annotations);
+				}
+				if (removedAnnotations.size() > 0) {
+					temporaryProblemsChanged= true;
+					removeAnnotations(removedAnnotations, false, true);
+				}
+
+				if (removeMarkerOverlays(isCanceled))
+					temporaryProblemsChanged= true;
 				fPreviouslyOverlaid= null;
 			}
 
@@ -725,7 +855,13 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 				fireModelChanged();
 		}
 
-		private void removeMarkerOverlays(boolean isCanceled) {
+		/**
+		 * Removes the overlays of the markers which are no longer overlaid.
+		 *
+		 * @param isCanceled <code>true</code> if reporting the problems has been canceled
+		 * @return <code>true</code> if an overlay has been removed
+		 */
+		private boolean removeMarkerOverlays(boolean isCanceled) {
 			if (isCanceled) {
 				fCurrentlyOverlaid.addAll(fPreviouslyOverlaid);
 			} else if (fPreviouslyOverlaid != null) {
@@ -734,7 +870,9 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 					JavaMarkerAnnotation annotation= e.next();
 					annotation.setOverlay(null);
 				}
+				return !fPreviouslyOverlaid.isEmpty();
 			}
+			return false;
 		}
 
 		/**
@@ -742,28 +880,33 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 		 *
 		 * @param value the value
 		 * @param problemAnnotation the problem annotation
+		 * @return <code>true</code> if the overlay of the value has changed
 		 */
-		private void setOverlay(Object value, ProblemAnnotation problemAnnotation) {
+		private boolean setOverlay(Object value, ProblemAnnotation problemAnnotation) {
 			if (value instanceof  JavaMarkerAnnotation) {
 				JavaMarkerAnnotation annotation= (JavaMarkerAnnotation) value;
 				if (annotation.isProblem()) {
+					boolean changed= annotation.getOverlay() != problemAnnotation;
 					annotation.setOverlay(problemAnnotation);
 					fPreviouslyOverlaid.remove(annotation);
 					fCurrentlyOverlaid.add(annotation);
+					return changed;
 				}
-			} else {
 			}
+			return false;
 		}
 
-		private void  overlayMarkers(Position position, ProblemAnnotation problemAnnotation) {
+		private boolean overlayMarkers(Position position, ProblemAnnotation problemAnnotation) {
+			boolean changed= false;
 			Object value= getAnnotations(position);
 			if (value instanceof List) {
 				List<?> list= (List<?>) value;
 				for (Object name : list)
-					setOverlay(name, problemAnnotation);
+					changed|= setOverlay(name, problemAnnotation);
 			} else {
-				setOverlay(value, problemAnnotation);
+				changed= setOverlay(value, problemAnnotation);
 			}
+			return changed;
 		}
 
 		/**
@@ -826,12 +969,40 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 
 		}
 
+		@Override
+		protected void connected() {
+			super.connected();
+			fDocument.addDocumentListener(fReverseMap);
+		}
+
+		@Override
+		protected void disconnected() {
+			fDocument.removeDocumentListener(fReverseMap);
+			synchronized (getLockObject()) {
+				fReverseMap.invalidate();
+			}
+			super.disconnected();
+		}
+
 		private Object getAnnotations(Position position) {
 			synchronized (getLockObject()) {
-				return fReverseMap.get(position);
+				return getReverseMap().get(position);
 			}
 		}
 
+		/**
+		 * Returns the reverse map, indexed for the current positions. Needs to be called
+		 * synchronized on the lock object.
+		 *
+		 * @return the reverse map
+		 */
+		private ReverseMap getReverseMap() {
+			IDocument document= fDocument;
+			long modificationStamp= document instanceof IDocumentExtension4 ? ((IDocumentExtension4) document).getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+			fReverseMap.revalidate(modificationStamp);
+			return fReverseMap;
+		}
+
 		/*
 		 * @see AnnotationModel#addAnnotation(Annotation, Position, boolean)
 		 */
@@ -840,9 +1011,10 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 			super.addAnnotation(annotation, position, fireModelChanged);
 
 			synchronized (getLockObject()) {
-				Object cached= fReverseMap.get(position);
+				ReverseMap reverseMap= getReverseMap();
+				Object cached= reverseMap.get(position);
 				if (cached == null)
-					fReverseMap.put(position, annotation);
+					reverseMap.put(position, annotation);
 				else if (cached instanceof List) {
 					@SuppressWarnings("unchecked")
 					List<Object> list= (List<Object>) cached;
@@ -851,7 +1023,7 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 					List<Object> list= new ArrayList<>(2);
 					list.add(cached);
 					list.add(annotation);
-					fReverseMap.put(position, list);
+					reverseMap.put(position, list);
 				}
 			}
 		}
@@ -874,21 +1046,34 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 		protected void removeAnnotation(Annotation annotation, boolean fireModelChanged) {
 			Position position= getPosition(annotation);
 			synchronized (getLockObject()) {
-				Object cached= fReverseMap.get(position);
+				ReverseMap reverseMap= getReverseMap();
+				Object cached= reverseMap.get(position);
 				if (cached instanceof List) {
 					@SuppressWarnings("unchecked")
 					List<Object> list= (List<Object>) cached;
 					list.remove(annotation);
 					if (list.size() == 1) {
-						fReverseMap.put(position, list.get(0));
+						reverseMap.put(position, list.get(0));
 						list.clear();
 					}
 				} else if (cached instanceof Annotation) {
-					fReverseMap.remove(position);
+					reverseMap.remove(position);
 				}
 			}
 			super.removeAnnotation(annotation, fireModelChanged);
 		}
+
+		/*
+		 * @see AnnotationModel#modifyAnnotationPosition(Annotation, Position, boolean)
+		 */
+		@Override
+		protected void modifyAnnotationPosition(Annotation annotation, Position position, boolean fireModelChanged) {
+			super.modifyAnnotationPosition(annotation, position, fireModelChanged);
+			synchronized (getLockObject()) {
+				// the position may have been modified in place without changing the document
+				fReverseMap.invalidate();
+			}
+		}
 	}
 
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.javaeditor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
@@ -56,6 +58,7 @@ import org.eclipse.jface.text.DocumentCommand;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentExtension;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IPositionUpdater;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextOperationTarget;
@@ -1035,6 +1038,12 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 	 */
 	private final Object fReconcilerLock= new Object();
 
+	/**
+	 * Modification stamp of the document when the current reconcile started.
+	 * @since 3.27
+	 */
+	private volatile long fReconcileDocumentStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+
 	/**
 	 * The templates page.
 	 * @since 3.4
@@ -1657,10 +1666,22 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 
 	@Override
 	public void aboutToWork(JavaReconciler javaReconciler) {
+		fReconcileDocumentStamp= getDocumentStamp();
+
 		// Notify AST provider
 		CoreASTProvider.getInstance().aboutToBeReconciled(getInputJavaElement(), javaReconciler::signalWaitForFinish);
 	}
 
+	private long getDocumentStamp() {
+		IDocumentProvider provider= getDocumentProvider();
+		if (provider != null) {
+			IDocument document= provider.getDocument(getEditorInput());
+			if (document instanceof IDocumentExtension4)
+				return ((IDocumentExtension4) document).getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener#reconciled(CompilationUnit, boolean, IProgressMonitor)
 	 * @since 3.0
@@ -1673,13 +1694,21 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 		if (javaPlugin == null)
 			return;
 
+		// Remember which content the AST reflects, see ASTProvider#getDocumentStamp(CompilationUnit)
+		if (ast != null)
+			ast.setProperty(ASTProvider.DOCUMENT_STAMP_PROPERTY, Long.valueOf(fReconcileDocumentStamp));
+
 		// Always notify AST provider
 		CoreASTProvider.getInstance().reconciled(ast, getInputJavaElement(), progressMonitor);
 
-		// Notify listeners
+		// Notify listeners, they run concurrently on the shared AST
+		List<IJavaReconcilingListener> listeners= new ArrayList<>();
 		for (IJavaReconcilingListener listener : fReconcilingListeners) {
-			listener.reconciled(ast, forced, progressMonitor);
+			listeners.add(listener);
 		}
+		IDocumentProvider provider= getDocumentProvider();
+		IDocument document= provider != null ? provider.getDocument(getEditorInput()) : null;
+		ReconcilingListenerNotifier.reconciled(listeners, ast, forced, progressMonitor, document, fReconcileDocumentStamp);
 
 		// Update Java Outline page selection
 		if (!forced && !progressMonitor.isCanceled()) {
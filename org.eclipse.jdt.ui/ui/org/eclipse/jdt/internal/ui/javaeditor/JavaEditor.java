@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -195,7 +195,7 @@ import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
 import org.eclipse.jdt.internal.core.manipulation.search.ImplementOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
-import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
@@ -1674,6 +1674,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	private OccurrencesFinderJob fOccurrencesFinderJob;
 	/** The occurrences finder job canceler */
 	private OccurrencesFinderJobCanceler fOccurrencesFinderJobCanceler;
+	/**
+	 * The occurrences of the AST the occurrences were last marked for.
+	 * @since 3.27
+	 */
+	private volatile OccurrencesIndex fOccurrencesIndex;
 	/**
 	 * This editor's projection support
 	 * @since 3.0
@@ -3303,42 +3308,34 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 		OccurrenceLocation[] locations= null;
 
+		// the AST is walked once, further caret moves are answered from the index
+		OccurrencesIndex index= fOccurrencesIndex;
+		if (index == null || index.getASTRoot() != astRoot) {
+			index= new OccurrencesIndex(astRoot);
+			fOccurrencesIndex= index;
+		}
+
 		ASTNode selectedNode= NodeFinder.perform(astRoot, selection.getOffset(), selection.getLength());
 		if (fMarkExceptions) {
-			ExceptionOccurrencesFinder finder= new ExceptionOccurrencesFinder();
-			if (finder.initialize(astRoot, selectedNode) == null) {
-				locations= finder.getOccurrences();
-			}
+			locations= index.getOccurrences(ExceptionOccurrencesFinder.ID, ExceptionOccurrencesFinder::new, selectedNode);
 		}
 
 		if (locations == null && fMarkMethodExitPoints) {
-			MethodExitsFinder finder= new MethodExitsFinder();
-			if (finder.initialize(astRoot, selectedNode) == null) {
-				locations= finder.getOccurrences();
-			}
+			locations= index.getOccurrences(MethodExitsFinder.ID, MethodExitsFinder::new, selectedNode);
 		}
 
 		if (locations == null && fMarkBreakContinueTargets) {
-			BreakContinueTargetFinder finder= new BreakContinueTargetFinder();
-			if (finder.initialize(astRoot, selectedNode) == null) {
-				locations= finder.getOccurrences();
-			}
+			locations= index.getOccurrences(BreakContinueTargetFinder.ID, BreakContinueTargetFinder::new, selectedNode);
 		}
 
 		if (locations == null && fMarkImplementors) {
-			ImplementOccurrencesFinder finder= new ImplementOccurrencesFinder();
-			if (finder.initialize(astRoot, selectedNode) == null) {
-				locations= finder.getOccurrences();
-			}
+			locations= index.getOccurrences(ImplementOccurrencesFinder.ID, ImplementOccurrencesFinder::new, selectedNode);
 		}
 
 		if (locations == null && selectedNode instanceof Name) {
 			IBinding binding= ((Name)selectedNode).resolveBinding();
 			if (binding != null && markOccurrencesOfType(binding)) {
-				OccurrencesFinder finder= new OccurrencesFinder();
-				if (finder.initialize(astRoot, selectedNode) == null) {
-					locations= finder.getOccurrences();
-				}
+				locations= index.getOccurrences((Name)selectedNode);
 			}
 		}
 
@@ -3383,6 +3380,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 	protected void uninstallOccurrencesFinder() {
 		fMarkOccurrenceAnnotations= false;
+		fOccurrencesIndex= null;
 
 		if (fOccurrencesFinderJob != null) {
 			fOccurrencesFinderJob.cancel();
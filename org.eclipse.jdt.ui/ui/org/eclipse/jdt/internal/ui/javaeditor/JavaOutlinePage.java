@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,8 +19,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.BusyIndicator;
@@ -384,6 +386,20 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 			 */
 			protected class JavaOutlineViewer extends TreeViewer {
 
+				/**
+				 * The delta flags which do not change the label of an element.
+				 * @since 3.27
+				 */
+				private static final int LABEL_NEUTRAL_FLAGS= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED
+						| IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_REORDER;
+
+				/**
+				 * The delta flags which can change the position of an element among its siblings or
+				 * whether it is filtered.
+				 * @since 3.27
+				 */
+				private static final int STRUCTURE_FLAGS= IJavaElementDelta.F_REORDER | IJavaElementDelta.F_MODIFIERS | IJavaElementDelta.F_CATEGORIES;
+
 				public JavaOutlineViewer(Tree tree) {
 					super(tree);
 					setAutoExpandLevel(ALL_LEVELS);
@@ -397,7 +413,63 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 				 * @param delta the Java element delta used to reconcile the Java outline
 				 */
 				public void reconcile(IJavaElementDelta delta) {
-					refresh(true);
+					if (delta.getKind() != IJavaElementDelta.CHANGED || delta.getAffectedChildren().length == 0) {
+						// no fine grained delta
+						refresh(true);
+						return;
+					}
+
+					// only the children of the parents with added, removed, moved or otherwise sorted or
+					// filtered children are compared, and only the labels of the changed elements are
+					// computed again
+					Set<Object> structureChanged= new LinkedHashSet<>();
+					List<Object> labelChanged= new ArrayList<>();
+					collectChanges(getInput(), delta, false, structureChanged, labelChanged);
+
+					Control control= getControl();
+					control.setRedraw(false);
+					try {
+						for (Object parent : structureChanged)
+							refresh(parent, false);
+						if (!labelChanged.isEmpty())
+							update(labelChanged.toArray(), null);
+					} finally {
+						control.setRedraw(true);
+					}
+				}
+
+				/**
+				 * Collects the changes of the given delta.
+				 *
+				 * @param parent the element of the delta in the viewer
+				 * @param delta the delta
+				 * @param refreshed <code>true</code> if an ancestor of the parent already is refreshed
+				 * @param structureChanged the parents whose children have to be refreshed
+				 * @param labelChanged the elements whose labels have to be updated
+				 * @since 3.27
+				 */
+				private void collectChanges(Object parent, IJavaElementDelta delta, boolean refreshed, Set<Object> structureChanged, List<Object> labelChanged) {
+					IJavaElementDelta[] children= delta.getAffectedChildren();
+					boolean childrenChanged= false;
+					for (IJavaElementDelta child : children) {
+						if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & STRUCTURE_FLAGS) != 0) {
+							childrenChanged= true;
+							break;
+						}
+					}
+					if (childrenChanged && !refreshed) {
+						structureChanged.add(parent);
+						refreshed= true;
+					}
+
+					for (IJavaElementDelta child : children) {
+						if (child.getKind() == IJavaElementDelta.CHANGED) {
+							IJavaElement element= child.getElement();
+							if ((child.getFlags() & ~LABEL_NEUTRAL_FLAGS) != 0)
+								labelChanged.add(element);
+							collectChanges(element, child, refreshed, structureChanged, labelChanged);
+						}
+					}
 				}
 
 				/*
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.PerformanceStats;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
+
+/**
+ * Notifies the {@link IJavaReconcilingListener}s of an editor that reconciling has finished.
+ * <p>
+ * The listeners only read the shared AST, so all but the first one are notified on a bounded pool
+ * of worker threads shared by all editors. The reconciler thread notifies the first listener itself
+ * and then waits until all listeners have finished, so the next reconcile never overlaps with the
+ * notification.
+ * </p>
+ * <p>
+ * The progress monitor passed to the listeners is canceled as soon as the document changes, since
+ * the document is reconciled again then. The time each listener takes is reported to the
+ * {@link PerformanceStats} event {@link #PERF_RECONCILING_LISTENERS}, blamed on the listener
+ * instance. Its threshold is the budget of a listener.
+ * </p>
+ */
+final class ReconcilingListenerNotifier {
+
+	static final String PERF_RECONCILING_LISTENERS= "org.eclipse.jdt.ui/perf/reconcile/listeners"; //$NON-NLS-1$
+
+	private static final int MAX_THREADS= 4;
+
+	private static ThreadPoolExecutor fgExecutor;
+
+	private ReconcilingListenerNotifier() {
+	}
+
+	private static synchronized ThreadPoolExecutor getExecutor() {
+		if (fgExecutor == null) {
+			AtomicInteger threadCount= new AtomicInteger();
+			fgExecutor= new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "Java reconciling listener " + threadCount.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			// the threads are only kept while editors are being reconciled
+			fgExecutor.allowCoreThreadTimeOut(true);
+		}
+		return fgExecutor;
+	}
+
+	/**
+	 * Notifies the given listeners and waits until all of them have finished.
+	 *
+	 * @param listeners the listeners to notify
+	 * @param ast the compilation unit AST or <code>null</code>, see
+	 *            {@link IJavaReconcilingListener#reconciled(CompilationUnit, boolean, IProgressMonitor)}
+	 * @param forced <code>true</code> iff this reconciliation was forced
+	 * @param progressMonitor the progress monitor of the reconciler
+	 * @param document the reconciled document or <code>null</code>
+	 * @param documentStamp the modification stamp of the document the AST has been created from
+	 */
+	static void reconciled(List<IJavaReconcilingListener> listeners, CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor, IDocument document, long documentStamp) {
+		if (listeners.isEmpty())
+			return;
+
+		IProgressMonitor monitor= createMonitor(progressMonitor, document, documentStamp);
+		List<Future<?>> futures= new ArrayList<>(listeners.size() - 1);
+		ThreadPoolExecutor executor= listeners.size() > 1 ? getExecutor() : null;
+		for (int i= 1; i < listeners.size(); i++) {
+			IJavaReconcilingListener listener= listeners.get(i);
+			futures.add(executor.submit(() -> notify(listener, ast, forced, monitor)));
+		}
+
+		Throwable failure= null;
+		try {
+			notify(listeners.get(0), ast, forced, monitor);
+		} catch (RuntimeException | Error e) {
+			failure= e;
+		}
+
+		boolean interrupted= false;
+		for (Future<?> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					// the listeners must have finished before the next reconcile starts
+					interrupted= true;
+				} catch (ExecutionException e) {
+					if (failure == null)
+						failure= e.getCause();
+					break;
+				}
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+	}
+
+	private static void notify(IJavaReconcilingListener listener, CompilationUnit ast, boolean forced, IProgressMonitor monitor) {
+		// the stats of a listener instance are never run concurrently, unlike those of its class
+		PerformanceStats stats= PerformanceStats.getStats(PERF_RECONCILING_LISTENERS, listener);
+		stats.startRun();
+		try {
+			listener.reconciled(ast, forced, monitor);
+		} finally {
+			stats.endRun();
+		}
+	}
+
+	/**
+	 * Creates the progress monitor passed to the listeners. Progress monitors are not thread safe,
+	 * so the listeners only get the cancellation of the reconciler's monitor.
+	 *
+	 * @param progressMonitor the progress monitor of the reconciler
+	 * @param document the reconciled document or <code>null</code>
+	 * @param documentStamp the modification stamp of the document the AST has been created from
+	 * @return a monitor which is canceled if the reconciler's monitor is canceled or the document
+	 *         changes
+	 */
+	private static IProgressMonitor createMonitor(final IProgressMonitor progressMonitor, IDocument document, final long documentStamp) {
+		final IDocumentExtension4 extension= document instanceof IDocumentExtension4 && documentStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP
+				? (IDocumentExtension4) document
+				: null;
+		return new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || progressMonitor.isCanceled()
+						|| (extension != null && extension.getModificationStamp() != documentStamp);
+			}
+		};
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,48 +15,66 @@ package org.eclipse.jdt.internal.ui.search;
 
 import org.eclipse.search.ui.text.Match;
 
+import org.eclipse.jdt.core.search.SearchMatch;
+
 /**
  * A search match with additional java-specific info.
+ * <p>
+ * Searches can report a very large number of matches, so the additional info is packed into a
+ * single field.
+ * </p>
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
-	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
+	private static final int INACCURATE= 1 << 0;
+	private static final int WRITE_ACCESS= 1 << 1;
+	private static final int READ_ACCESS= 1 << 2;
+	private static final int JAVADOC= 1 << 3;
+	private static final int SUPER_INVOCATION= 1 << 4;
+	private static final int MATCH_RULE_SHIFT= 5;
+
+	/**
+	 * The flags in the lower bits and the match rule above them. The match rules defined by
+	 * <code>SearchPattern</code> only use the lower bits of the rule.
+	 */
+	private final int fInfo;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
-		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
+		int info= matchRule << MATCH_RULE_SHIFT;
+		if (accuracy == SearchMatch.A_INACCURATE)
+			info|= INACCURATE;
+		if (isWriteAccess)
+			info|= WRITE_ACCESS;
+		if (isReadAccess)
+			info|= READ_ACCESS;
+		if (isJavadoc)
+			info|= JAVADOC;
+		if (isSuperInvocation)
+			info|= SUPER_INVOCATION;
+		fInfo= info;
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return (fInfo & INACCURATE) != 0 ? SearchMatch.A_INACCURATE : SearchMatch.A_ACCURATE;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fInfo & WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fInfo & READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fInfo & JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fInfo & SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
-		return fMatchRule;
+		return fInfo >>> MATCH_RULE_SHIFT;
 	}
 }
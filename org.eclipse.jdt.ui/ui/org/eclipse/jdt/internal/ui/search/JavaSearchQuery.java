@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,16 +14,23 @@
 package org.eclipse.jdt.internal.ui.search;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -60,6 +67,13 @@ public class JavaSearchQuery implements ISearchQuery {
 
 	private static final String PERF_SEARCH_PARTICIPANT= "org.eclipse.jdt.ui/perf/search/participants"; //$NON-NLS-1$
 
+	private static final int MAX_PARALLEL_PARTICIPANTS= 4;
+
+	/**
+	 * The time in milliseconds a participant may search before its search is canceled.
+	 */
+	private static final long PARTICIPANT_TIMEOUT= 60000;
+
 	private ISearchResult fResult;
 	private final List<QuerySpecification> fPatternDataList;
 
@@ -78,16 +92,22 @@ public class JavaSearchQuery implements ISearchQuery {
 		fPatternDataList= dataList;
 	}
 
+	/**
+	 * Collects the matches of a participant until the participant has finished.
+	 */
 	private static class SearchRequestor implements ISearchRequestor {
 		private IQueryParticipant fParticipant;
 		private JavaSearchResult fSearchResult;
+		private final List<Match> fMatches= new ArrayList<>();
+		private final List<Match> fPresentedMatches= new ArrayList<>();
+
 		@Override
-		public void reportMatch(Match match) {
+		public synchronized void reportMatch(Match match) {
 			IMatchPresentation participant= fParticipant.getUIParticipant();
 			if (participant == null || match.getElement() instanceof IJavaElement || match.getElement() instanceof IResource) {
-				fSearchResult.addMatch(match);
+				fMatches.add(match);
 			} else {
-				fSearchResult.addMatch(match, participant);
+				fPresentedMatches.add(match);
 			}
 		}
 
@@ -96,6 +116,101 @@ public class JavaSearchQuery implements ISearchQuery {
 			fParticipant= participant;
 			fSearchResult= result;
 		}
+
+		/**
+		 * Adds the collected matches to the search result.
+		 */
+		public void flush() {
+			Match[] matches;
+			Match[] presentedMatches;
+			synchronized (this) {
+				matches= fMatches.toArray(new Match[fMatches.size()]);
+				presentedMatches= fPresentedMatches.toArray(new Match[fPresentedMatches.size()]);
+				fMatches.clear();
+				fPresentedMatches.clear();
+			}
+			if (matches.length > 0)
+				fSearchResult.addMatches(matches);
+			IMatchPresentation participant= fParticipant.getUIParticipant();
+			for (Match match : presentedMatches) {
+				fSearchResult.addMatch(match, participant);
+			}
+		}
+	}
+
+	/**
+	 * The search of a participant, run as a job of the group of the query.
+	 */
+	private class ParticipantSearch extends Job {
+		private final SearchParticipantRecord fRecord;
+		private final SearchRequestor fRequestor;
+		private final int fTicks;
+		private final BlockingQueue<ParticipantSearch> fFinished;
+
+		/**
+		 * The time the search started, or <code>0</code> if it did not start yet.
+		 */
+		private volatile long fStartTime;
+
+		public ParticipantSearch(SearchParticipantRecord record, JavaSearchResult result, int ticks, BlockingQueue<ParticipantSearch> finished) {
+			super(SearchMessages.JavaSearchQuery_label);
+			fRecord= record;
+			fRequestor= new SearchRequestor(record.getParticipant(), result);
+			fTicks= ticks;
+			fFinished= finished;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(final IProgressMonitor monitor) {
+			fStartTime= System.currentTimeMillis();
+			ISafeRunnable runnable= new ISafeRunnable() {
+				@Override
+				public void handleException(Throwable exception) {
+					if (exception instanceof OperationCanceledException && monitor.isCanceled())
+						return;
+					fRecord.getDescriptor().disable();
+					String message= SearchMessages.JavaSearchQuery_error_participant_search;
+					JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
+				}
+
+				@Override
+				public void run() throws Exception {
+
+					final IQueryParticipant participant= fRecord.getParticipant();
+
+					final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
+					stats.startRun();
+					try {
+						for (QuerySpecification querySpecification : fPatternDataList) {
+							participant.search(fRequestor, querySpecification, monitor);
+						}
+					} finally {
+						stats.endRun();
+					}
+				}
+			};
+
+			try {
+				SafeRunner.run(runnable);
+			} finally {
+				fFinished.add(this);
+			}
+			// errors are logged by the query, not by the job manager
+			return Status.OK_STATUS;
+		}
+
+		public boolean isOverdue(long now) {
+			long startTime= fStartTime;
+			return startTime != 0 && now - startTime > PARTICIPANT_TIMEOUT;
+		}
+
+		public void timeout() {
+			cancel();
+			String message= Messages.format(SearchMessages.JavaSearchQuery_error_participant_timeout,
+					new Object[] { fRecord.getDescriptor().getID(), Long.valueOf(PARTICIPANT_TIMEOUT / 1000) });
+			JavaPlugin.log(new Status(IStatus.WARNING, JavaPlugin.getPluginId(), 0, message, null));
+		}
 	}
 
 	@Override
@@ -175,37 +290,29 @@ public class JavaSearchQuery implements ISearchQuery {
 			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
 
 
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
-			for (int i= 0; i < participantDescriptors.length; i++) {
-				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
-				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
-
-				final int iPrime= i;
-				ISafeRunnable runnable= new ISafeRunnable() {
-					@Override
-					public void handleException(Throwable exception) {
-						participantDescriptors[iPrime].getDescriptor().disable();
-						String message= SearchMessages.JavaSearchQuery_error_participant_search;
-						JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
+			// the participants search in a group of jobs while the Java search runs in this thread
+			JobGroup group= null;
+			try {
+				List<ParticipantSearch> participantSearches= new ArrayList<>(participantDescriptors.length);
+				BlockingQueue<ParticipantSearch> finished= new LinkedBlockingQueue<>();
+				if (participantDescriptors.length > 0) {
+					group= new JobGroup(getLabel(), Math.min(MAX_PARALLEL_PARTICIPANTS, participantDescriptors.length), participantDescriptors.length);
+					for (int i= 0; i < participantDescriptors.length; i++) {
+						ParticipantSearch participantSearch= new ParticipantSearch(participantDescriptors[i], textResult, ticks[i], finished);
+						participantSearch.setJobGroup(group);
+						participantSearches.add(participantSearch);
+						participantSearch.schedule();
 					}
+				}
 
-					@Override
-					public void run() throws Exception {
-
-						final IQueryParticipant participant= participantDescriptors[iPrime].getParticipant();
-
-						final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
-						stats.startRun();
-
-						for (QuerySpecification querySpecification : fPatternDataList) {
-							participant.search(requestor, querySpecification, participantPM);
-						}
-
-						stats.endRun();
-					}
-				};
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
 
-				SafeRunner.run(runnable);
+				if (group != null)
+					waitForParticipants(finished, participantSearches, subMonitor);
+			} finally {
+				// stops the participants which are still running after a cancellation or a timeout
+				if (group != null)
+					group.cancel();
 			}
 
 		} catch (CoreException e) {
@@ -215,6 +322,43 @@ public class JavaSearchQuery implements ISearchQuery {
 		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
 	}
 
+	/**
+	 * Waits for the participant searches and adds the matches of each participant to the search
+	 * result as soon as it has finished. Participants searching longer than
+	 * {@link #PARTICIPANT_TIMEOUT} are canceled and their matches are ignored.
+	 *
+	 * @param finished the queue the searches are added to when they have finished
+	 * @param pending the searches which have not finished yet, modified by this method
+	 * @param monitor the progress monitor, only used by the calling thread
+	 */
+	private static void waitForParticipants(BlockingQueue<ParticipantSearch> finished, List<ParticipantSearch> pending, IProgressMonitor monitor) {
+		try {
+			while (!pending.isEmpty()) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+
+				ParticipantSearch participantSearch= finished.poll(100, TimeUnit.MILLISECONDS);
+				if (participantSearch != null && pending.remove(participantSearch)) {
+					participantSearch.fRequestor.flush();
+					monitor.worked(participantSearch.fTicks);
+				}
+
+				long now= System.currentTimeMillis();
+				for (Iterator<ParticipantSearch> iter= pending.iterator(); iter.hasNext();) {
+					ParticipantSearch overdue= iter.next();
+					if (overdue.isOverdue(now)) {
+						iter.remove();
+						overdue.timeout();
+						monitor.worked(overdue.fTicks);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+	}
+
 	private int getMatchMode(String pattern) {
 		if (pattern.indexOf('*') != -1 || pattern.indexOf('?') != -1) {
 			return SearchPattern.R_PATTERN_MATCH;
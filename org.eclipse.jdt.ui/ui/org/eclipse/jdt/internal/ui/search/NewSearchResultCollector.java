@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
@@ -27,10 +33,25 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Adds the reported matches to a search result.
+ * <p>
+ * Matches are added in batches to reduce the number of change events sent to the search view while
+ * still showing the matches found so far. The enclosing elements of the matches are shared, so that
+ * the many matches of an element do not each keep their own handle alive.
+ * </p>
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+	private static final int MAX_PENDING_MATCHES= 500;
+	private static final long MAX_PENDING_TIME= 100; // ms
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
 
+	private final Map<IJavaElement, IJavaElement> fEnclosingElements= new HashMap<>();
+	private final List<Match> fPendingMatches= new ArrayList<>();
+	private long fLastFlushTime;
+
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
@@ -43,6 +64,9 @@ public class NewSearchResultCollector extends SearchRequestor {
 		if (enclosingElement != null) {
 			if (fIgnorePotentials && (match.getAccuracy() == SearchMatch.A_INACCURATE))
 				return;
+			IJavaElement sharedElement= fEnclosingElements.putIfAbsent(enclosingElement, enclosingElement);
+			if (sharedElement != null)
+				enclosingElement= sharedElement;
 			boolean isWriteAccess= false;
 			boolean isReadAccess= false;
 			if (match instanceof FieldReferenceMatch) {
@@ -63,16 +87,28 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			fPendingMatches.add(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			if (fPendingMatches.size() >= MAX_PENDING_MATCHES || System.currentTimeMillis() - fLastFlushTime >= MAX_PENDING_TIME)
+				flushMatches();
 		}
 	}
 
+	private void flushMatches() {
+		fLastFlushTime= System.currentTimeMillis();
+		if (fPendingMatches.isEmpty())
+			return;
+		fSearch.addMatches(fPendingMatches.toArray(new Match[fPendingMatches.size()]));
+		fPendingMatches.clear();
+	}
+
 	@Override
 	public void beginReporting() {
 	}
 
 	@Override
 	public void endReporting() {
+		flushMatches();
+		fEnclosingElements.clear();
 	}
 
 	@Override
@@ -81,6 +117,7 @@ public class NewSearchResultCollector extends SearchRequestor {
 
 	@Override
 	public void exitParticipant(SearchParticipant participant) {
+		flushMatches();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IAdaptable;
@@ -23,8 +27,12 @@ import org.eclipse.core.resources.IResourceDelta;
 
 import org.eclipse.search.ui.IQueryListener;
 import org.eclipse.search.ui.ISearchQuery;
+import org.eclipse.search.ui.ISearchResultListener;
 import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.SearchResultEvent;
 import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+import org.eclipse.search.ui.text.RemoveAllEvent;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IElementChangedListener;
@@ -32,7 +40,14 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.JavaCore;
 
-public class SearchResultUpdater implements IElementChangedListener, IQueryListener {
+/**
+ * Removes the matches of elements that no longer exist from a Java search result.
+ * <p>
+ * The elements of the result are indexed by their compilation unit or class file, their file and
+ * their project, so that a delta only checks the elements beneath the changed elements.
+ * </p>
+ */
+public class SearchResultUpdater implements IElementChangedListener, IQueryListener, ISearchResultListener {
 
 	JavaSearchResult fResult;
 	private static final int REMOVED_FLAGS= IJavaElementDelta.F_MOVED_TO |
@@ -40,8 +55,20 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 									IJavaElementDelta.F_CLOSED |
 									IJavaElementDelta.F_CONTENT;
 
+	/**
+	 * Maps compilation units, class files, files and projects to the result elements beneath them.
+	 * Accessed only when synchronized on the map.
+	 */
+	private final Map<Object, Set<Object>> fElementsByContainer= new HashMap<>();
+
 	public SearchResultUpdater(JavaSearchResult result) {
 		fResult= result;
+		fResult.addListener(this);
+		synchronized (fElementsByContainer) {
+			for (Object element : fResult.getElements()) {
+				addToIndex(element);
+			}
+		}
 		NewSearchUI.addQueryListener(this);
 		JavaCore.addElementChangedListener(this);
 		// TODO make this work with resources
@@ -49,41 +76,124 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
-		//long t0= System.currentTimeMillis();
 		IJavaElementDelta delta= event.getDelta();
 		Set<IAdaptable> removedElements= new HashSet<>();
-		Set<IAdaptable> potentiallyRemovedElements= new HashSet<>();
-		collectRemoved(potentiallyRemovedElements, removedElements, delta);
+		collectRemoved(removedElements, delta);
 		if (removedElements.size() > 0)
 			handleRemoved(removedElements);
-		if (potentiallyRemovedElements.size() > 0)
-			handleRemoved(potentiallyRemovedElements);
-		//System.out.println(this+"handled delta in: "+(System.currentTimeMillis()-t0));
 	}
 
-	private void handleRemoved(Set<IAdaptable> removedElements) {
-		for (Object element : fResult.getElements()) {
-			if (isContainedInRemoved(removedElements, element)) {
-				if (element instanceof IJavaElement) {
-					IJavaElement je= (IJavaElement) element;
-					if (!je.exists()) {
-						//System.out.println("removing: "+je+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
-					}
-				} else if (element instanceof IResource) {
-					IResource resource= (IResource) element;
-					if (!resource.exists()) {
-						//System.out.println("removing: "+resource+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
+	@Override
+	public void searchResultChanged(SearchResultEvent e) {
+		synchronized (fElementsByContainer) {
+			if (e instanceof MatchEvent) {
+				MatchEvent matchEvent= (MatchEvent) e;
+				for (Match match : matchEvent.getMatches()) {
+					Object element= match.getElement();
+					if (matchEvent.getKind() == MatchEvent.ADDED) {
+						addToIndex(element);
+					} else if (fResult.getMatchCount(element) == 0) {
+						removeFromIndex(element);
 					}
+				}
+			} else if (e instanceof RemoveAllEvent) {
+				fElementsByContainer.clear();
+			}
+		}
+	}
+
+	private void handleRemoved(Set<IAdaptable> removedElements) {
+		Set<Object> candidates= new HashSet<>();
+		synchronized (fElementsByContainer) {
+			for (IAdaptable removed : removedElements) {
+				collectCandidates(removed, candidates);
+			}
+		}
 
+		List<Match> removedMatches= new ArrayList<>();
+		for (Object element : candidates) {
+			if (isContainedInRemoved(removedElements, element) && !exists(element)) {
+				for (Match match : fResult.getMatches(element)) {
+					removedMatches.add(match);
 				}
 			}
 		}
+		if (!removedMatches.isEmpty())
+			fResult.removeMatches(removedMatches.toArray(new Match[removedMatches.size()]));
+	}
+
+	private static boolean exists(Object element) {
+		if (element instanceof IJavaElement)
+			return ((IJavaElement) element).exists();
+		else if (element instanceof IResource)
+			return ((IResource) element).exists();
+		return true;
+	}
+
+	/*
+	 * Adds the result elements which may be beneath the removed element. Needs to be called
+	 * synchronized on fElementsByContainer.
+	 */
+	private void collectCandidates(IAdaptable removed, Set<Object> candidates) {
+		Object container= null;
+		if (removed instanceof IJavaElement) {
+			IJavaElement element= (IJavaElement) removed;
+			if (element.getElementType() >= IJavaElement.COMPILATION_UNIT)
+				container= element.getOpenable();
+			else if (element.getElementType() != IJavaElement.JAVA_MODEL)
+				container= element.getJavaProject();
+		} else if (removed instanceof IResource) {
+			IResource resource= (IResource) removed;
+			if (resource.getType() == IResource.FILE)
+				container= resource;
+			else if (resource.getType() != IResource.ROOT)
+				container= resource.getProject();
+		}
+
+		if (container == null) {
+			for (Set<Object> elements : fElementsByContainer.values()) {
+				candidates.addAll(elements);
+			}
+		} else {
+			Set<Object> elements= fElementsByContainer.get(container);
+			if (elements != null)
+				candidates.addAll(elements);
+		}
+	}
+
+	private void addToIndex(Object element) {
+		for (Object container : getContainers(element)) {
+			fElementsByContainer.computeIfAbsent(container, c -> new HashSet<>()).add(element);
+		}
+	}
+
+	private void removeFromIndex(Object element) {
+		for (Object container : getContainers(element)) {
+			Set<Object> elements= fElementsByContainer.get(container);
+			if (elements != null && elements.remove(element) && elements.isEmpty())
+				fElementsByContainer.remove(container);
+		}
+	}
+
+	private static List<Object> getContainers(Object element) {
+		List<Object> containers= new ArrayList<>(2);
+		if (element instanceof IJavaElement) {
+			IJavaElement javaElement= (IJavaElement) element;
+			if (javaElement.getElementType() >= IJavaElement.COMPILATION_UNIT) {
+				Object openable= javaElement.getOpenable();
+				if (openable != null)
+					containers.add(openable);
+			}
+			if (javaElement.getJavaProject() != null)
+				containers.add(javaElement.getJavaProject());
+		} else if (element instanceof IResource) {
+			IResource resource= (IResource) element;
+			if (resource.getType() == IResource.FILE)
+				containers.add(resource);
+			if (resource.getProject() != null)
+				containers.add(resource.getProject());
+		}
+		return containers;
 	}
 
 	private boolean isContainedInRemoved(Set<IAdaptable> removedElements, Object object) {
@@ -108,16 +218,16 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 		return null;
 	}
 
-	private void collectRemoved(Set<IAdaptable> potentiallyRemovedSet, Set<IAdaptable> removedElements, IJavaElementDelta delta) {
+	private void collectRemoved(Set<IAdaptable> removedElements, IJavaElementDelta delta) {
 		if (delta.getKind() == IJavaElementDelta.REMOVED)
 			removedElements.add(delta.getElement());
 		else if (delta.getKind() == IJavaElementDelta.CHANGED) {
 			int flags= delta.getFlags();
 			if ((flags & REMOVED_FLAGS) != 0) {
-				potentiallyRemovedSet.add(delta.getElement());
+				removedElements.add(delta.getElement());
 			} else {
 				for (IJavaElementDelta childDelta : delta.getAffectedChildren()) {
-					collectRemoved(potentiallyRemovedSet, removedElements, childDelta);
+					collectRemoved(removedElements, childDelta);
 				}
 			}
 		}
@@ -139,6 +249,10 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 		if (fResult.equals(query.getSearchResult())) {
 			JavaCore.removeElementChangedListener(this);
 			NewSearchUI.removeQueryListener(this);
+			fResult.removeListener(this);
+			synchronized (fElementsByContainer) {
+				fElementsByContainer.clear();
+			}
 		}
 	}
 
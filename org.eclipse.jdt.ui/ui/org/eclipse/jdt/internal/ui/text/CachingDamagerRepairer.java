@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextAttribute;
+import org.eclipse.jface.text.TextPresentation;
+import org.eclipse.jface.text.rules.DefaultDamagerRepairer;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.ITokenScanner;
+
+/**
+ * A damager-repairer which limits the damage of a change to the lines whose tokens have changed.
+ * <p>
+ * The tokens of the repaired regions are kept in the {@link JavaTokenCache} of the document. On a
+ * change, the partition is scanned again from the beginning of the changed line until the scanner
+ * reaches, in a line after the change, the start of a cached run with the same token. From there
+ * on the scanner returns the same tokens as before, so the rest of the partition does not need to
+ * be repaired, even if the partitioning of the document has changed. The tokens scanned for the
+ * damage are reused for the repair.
+ * </p>
+ * <p>
+ * Without a token cache, this damager-repairer behaves like {@link DefaultDamagerRepairer}.
+ * </p>
+ */
+public class CachingDamagerRepairer extends DefaultDamagerRepairer {
+
+	private JavaTokenCache fTokenCache;
+
+	/** The runs scanned by the last damage computation, or <code>null</code>. */
+	private JavaTokenCache.Runs fDamageRuns;
+	private int fDamageOffset;
+	private int fDamageEnd;
+	private int fDamageGeneration;
+
+	public CachingDamagerRepairer(ITokenScanner scanner) {
+		super(scanner);
+	}
+
+	/**
+	 * Sets the token cache of the document of this damager-repairer.
+	 *
+	 * @param cache the token cache, or <code>null</code> to not cache the tokens
+	 */
+	public void setTokenCache(JavaTokenCache cache) {
+		fTokenCache= cache;
+		fDamageRuns= null;
+	}
+
+	@Override
+	public IRegion getDamageRegion(ITypedRegion partition, DocumentEvent e, boolean documentPartitioningChanged) {
+		JavaTokenCache cache= getTokenCache();
+		if (cache == null)
+			return super.getDamageRegion(partition, e, documentPartitioningChanged);
+
+		cache.update(e);
+		fDamageRuns= null;
+
+		int partitionEnd= partition.getOffset() + partition.getLength();
+		if (e.getOffset() < partition.getOffset() || e.getOffset() > partitionEnd)
+			return super.getDamageRegion(partition, e, documentPartitioningChanged);
+
+		try {
+			int start= Math.max(partition.getOffset(), fDocument.getLineInformationOfOffset(e.getOffset()).getOffset());
+
+			// the tokens can only be the same as before from the line after the change on
+			int eventEnd= Math.min(e.getOffset() + (e.getText() == null ? 0 : e.getText().length()), fDocument.getLength());
+			int line= fDocument.getLineOfOffset(eventEnd);
+			int lineOffset= fDocument.getLineOffset(line);
+			int syncOffset= eventEnd == lineOffset ? eventEnd : lineOffset + fDocument.getLineLength(line);
+			if (syncOffset >= partitionEnd || !cache.covers(syncOffset))
+				return super.getDamageRegion(partition, e, documentPartitioningChanged);
+
+			JavaTokenCache.Runs runs= new JavaTokenCache.Runs();
+			int end= scan(cache, start, partitionEnd, syncOffset, runs);
+			fDamageRuns= runs;
+			fDamageOffset= start;
+			fDamageEnd= end;
+			fDamageGeneration= cache.getGeneration();
+			return new Region(start, end - start);
+
+		} catch (BadLocationException x) {
+			return partition;
+		}
+	}
+
+	@Override
+	public void createPresentation(TextPresentation presentation, ITypedRegion region) {
+		JavaTokenCache cache= getTokenCache();
+		if (cache == null) {
+			super.createPresentation(presentation, region);
+			return;
+		}
+
+		int offset= region.getOffset();
+		int end= offset + region.getLength();
+		JavaTokenCache.Runs runs= fDamageRuns;
+		fDamageRuns= null;
+		if (runs == null || fDamageOffset != offset || fDamageEnd != end || fDamageGeneration != cache.getGeneration()) {
+			runs= new JavaTokenCache.Runs();
+			try {
+				scan(cache, offset, end, Integer.MAX_VALUE, runs);
+			} catch (BadLocationException x) {
+				super.createPresentation(presentation, region);
+				return;
+			}
+		}
+		cache.replace(offset, end, runs);
+
+		TextAttribute lastAttribute= null;
+		int lastStart= offset;
+		int length= 0;
+		for (int i= 0; i < runs.fCount; i++) {
+			TextAttribute attribute= getTokenTextAttribute(cache.getToken(runs.fIds[i]));
+			if (i > 0 && lastAttribute != null && lastAttribute.equals(attribute)) {
+				length+= runs.fLengths[i];
+			} else {
+				if (i > 0)
+					addRange(presentation, lastStart, length, lastAttribute);
+				lastAttribute= attribute;
+				lastStart= runs.fStarts[i];
+				length= runs.fLengths[i];
+			}
+		}
+		if (runs.fCount > 0)
+			addRange(presentation, lastStart, length, lastAttribute);
+	}
+
+	/**
+	 * Scans the given region and adds the tokens to the given runs, until a token starts a run at
+	 * or after the given sync offset that is also in the cache.
+	 *
+	 * @param cache the token cache
+	 * @param start the start offset of the region
+	 * @param end the end offset of the region
+	 * @param syncOffset the offset from which on the scan stops at a cached run
+	 * @param runs the runs to add the tokens to
+	 * @return the offset at which the scan has stopped
+	 * @throws BadLocationException if the region is invalid
+	 */
+	private int scan(JavaTokenCache cache, int start, int end, int syncOffset, JavaTokenCache.Runs runs) throws BadLocationException {
+		fScanner.setRange(fDocument, start, end - start);
+		int previousId= -1;
+		while (true) {
+			IToken token= fScanner.nextToken();
+			if (token.isEOF())
+				return end;
+
+			int offset= fScanner.getTokenOffset();
+			int id= cache.getTokenId(token);
+			boolean lineStart= cache.isLineStart(offset);
+			if (offset >= syncOffset && offset > start && (lineStart || id != previousId) && cache.startsRun(offset, id))
+				return offset;
+
+			runs.add(offset, fScanner.getTokenLength(), id, lineStart);
+			previousId= id;
+		}
+	}
+
+	private JavaTokenCache getTokenCache() {
+		JavaTokenCache cache= fTokenCache;
+		return cache != null && cache.getDocument() == fDocument ? cache : null;
+	}
+}
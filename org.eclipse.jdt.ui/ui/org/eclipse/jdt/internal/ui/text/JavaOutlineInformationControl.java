@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,6 +86,7 @@ import org.eclipse.jdt.internal.ui.viewsupport.AppearanceAwareLabelProvider;
 import org.eclipse.jdt.internal.ui.viewsupport.ColoredViewersManager;
 import org.eclipse.jdt.internal.ui.viewsupport.ColoringLabelProvider;
 import org.eclipse.jdt.internal.ui.viewsupport.FocusDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.MemberFilter;
 
 /**
@@ -120,6 +121,12 @@ public class JavaOutlineInformationControl extends AbstractInformationControl {
 
 		private boolean fShowDefiningType;
 
+		/**
+		 * The images of this provider and of its decorators, released when this provider is
+		 * disposed.
+		 */
+		private final ImageDescriptorRegistry fImageRegistry= new ImageDescriptorRegistry(JavaPlugin.getImageDescriptorRegistry());
+
 		private OutlineLabelProvider() {
 			super(AppearanceAwareLabelProvider.DEFAULT_TEXTFLAGS |  JavaElementLabels.F_APP_TYPE_SIGNATURE | JavaElementLabels.ALL_CATEGORY | JavaElementLabels.P_COMPRESSED, AppearanceAwareLabelProvider.DEFAULT_IMAGEFLAGS);
 		}
@@ -211,11 +218,20 @@ public class JavaOutlineInformationControl extends AbstractInformationControl {
 		public Image getImage(Object element) {
 			if (element.equals(fInitiallySelectedType) || (element instanceof IMember && ((IMember)element).getDeclaringType() == null)) {
 				ImageDescriptor desc= fImageLabelProvider.getJavaImageDescriptor((IJavaElement)element, (evaluateImageFlags(element)));
-				Image image= JavaPlugin.getImageDescriptorRegistry().get(new FocusDescriptor(desc));
-				return decorateImage(image, element);
+				return decorateImage(fImageRegistry.get(new FocusDescriptor(desc)), element);
 			}
 			return super.getImage(element);
 		}
+
+		ImageDescriptorRegistry getImageRegistry() {
+			return fImageRegistry;
+		}
+
+		@Override
+		public void dispose() {
+			super.dispose();
+			fImageRegistry.dispose();
+		}
 	}
 
 
@@ -581,10 +597,10 @@ public class JavaOutlineInformationControl extends AbstractInformationControl {
 		treeViewer.addFilter(new MemberFilter());
 
 		fInnerLabelProvider= new OutlineLabelProvider();
-		fInnerLabelProvider.addLabelDecorator(new ProblemsLabelDecorator(null));
+		fInnerLabelProvider.addLabelDecorator(new ProblemsLabelDecorator(fInnerLabelProvider.getImageRegistry()));
 		IDecoratorManager decoratorMgr= PlatformUI.getWorkbench().getDecoratorManager();
 		if (decoratorMgr.getEnabled("org.eclipse.jdt.ui.override.decorator")) //$NON-NLS-1$
-			fInnerLabelProvider.addLabelDecorator(new OverrideIndicatorLabelDecorator(null));
+			fInnerLabelProvider.addLabelDecorator(new OverrideIndicatorLabelDecorator(fInnerLabelProvider.getImageRegistry()));
 
 		treeViewer.setLabelProvider(new ColoringLabelProvider(fInnerLabelProvider));
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,23 @@
 
 package org.eclipse.jdt.internal.ui.text;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.TextPresentation;
+import org.eclipse.jface.text.presentation.IPresentationDamager;
 import org.eclipse.jface.text.presentation.PresentationReconciler;
 
 
 /**
  * Presentation reconciler, adding functionality for operation without a viewer.
+ * <p>
+ * While installed on a viewer, the {@link CachingDamagerRepairer}s of this reconciler share a
+ * {@link JavaTokenCache} for the document of the viewer.
+ * </p>
  *
  * @since 3.0
  */
@@ -30,6 +39,22 @@ public class JavaPresentationReconciler extends PresentationReconciler {
 	/** Last used document */
 	private IDocument fLastDocument;
 
+	/**
+	 * The damagers which cache their tokens.
+	 * @since 3.27
+	 */
+	private final Set<CachingDamagerRepairer> fCachingDamagers= new LinkedHashSet<>();
+	/**
+	 * The token cache of the document of the viewer, or <code>null</code>.
+	 * @since 3.27
+	 */
+	private JavaTokenCache fTokenCache;
+	/**
+	 * Whether this reconciler is installed on a viewer.
+	 * @since 3.27
+	 */
+	private boolean fInstalled;
+
 	/**
 	 * Constructs a "repair description" for the given damage and returns
 	 * this description as a text presentation.
@@ -49,4 +74,41 @@ public class JavaPresentationReconciler extends PresentationReconciler {
 		}
 		return createPresentation(damage, document);
 	}
+
+	@Override
+	public void setDamager(IPresentationDamager damager, String contentType) {
+		super.setDamager(damager, contentType);
+		if (damager instanceof CachingDamagerRepairer)
+			fCachingDamagers.add((CachingDamagerRepairer) damager);
+	}
+
+	@Override
+	public void install(ITextViewer viewer) {
+		fInstalled= true;
+		super.install(viewer);
+	}
+
+	@Override
+	public void uninstall() {
+		super.uninstall();
+		fInstalled= false;
+		setTokenCache(null);
+	}
+
+	@Override
+	protected void setDocumentToDamagers(IDocument document) {
+		super.setDocumentToDamagers(document);
+		if (!fInstalled || document == null)
+			setTokenCache(null);
+		else if (fTokenCache == null || fTokenCache.getDocument() != document)
+			setTokenCache(fCachingDamagers.isEmpty() ? null : new JavaTokenCache(document));
+	}
+
+	private void setTokenCache(JavaTokenCache cache) {
+		if (fTokenCache != null)
+			fTokenCache.dispose();
+		fTokenCache= cache;
+		for (CachingDamagerRepairer damager : fCachingDamagers)
+			damager.setTokenCache(cache);
+	}
 }
@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.rules.IToken;
+
+/**
+ * Caches the tokens the scanners of the {@link CachingDamagerRepairer}s have returned for a
+ * document.
+ * <p>
+ * Adjacent tokens with the same id are kept as one run, but a run never starts in the middle of a
+ * line unless the token before it is different, so that the run starts are the offsets at which
+ * the scanners have been in the same state. The runs are sorted by offset and stored in primitive
+ * arrays. They are moved with the changes of the document, the runs touched by a change are
+ * removed.
+ * </p>
+ */
+public final class JavaTokenCache implements IDocumentListener {
+
+	/**
+	 * A growable list of token runs.
+	 */
+	static final class Runs {
+		private static final int INITIAL_CAPACITY= 64;
+
+		int[] fStarts;
+		int[] fLengths;
+		int[] fIds;
+		int fCount;
+
+		Runs() {
+			this(INITIAL_CAPACITY);
+		}
+
+		Runs(int capacity) {
+			fStarts= new int[capacity];
+			fLengths= new int[capacity];
+			fIds= new int[capacity];
+		}
+
+		/**
+		 * Adds a token, either as a new run or by extending the last run.
+		 *
+		 * @param start the offset of the token
+		 * @param length the length of the token
+		 * @param id the id of the token
+		 * @param lineStart <code>true</code> if the token starts at the beginning of a line
+		 * @return <code>true</code> if a new run has been started
+		 */
+		boolean add(int start, int length, int id, boolean lineStart) {
+			if (!lineStart && fCount > 0 && fIds[fCount - 1] == id && fStarts[fCount - 1] + fLengths[fCount - 1] == start) {
+				fLengths[fCount - 1]+= length;
+				return false;
+			}
+			ensureCapacity(fCount + 1);
+			fStarts[fCount]= start;
+			fLengths[fCount]= length;
+			fIds[fCount]= id;
+			fCount++;
+			return true;
+		}
+
+		void ensureCapacity(int capacity) {
+			if (capacity > fStarts.length) {
+				int newCapacity= Math.max(capacity, fStarts.length * 2);
+				fStarts= grow(fStarts, newCapacity);
+				fLengths= grow(fLengths, newCapacity);
+				fIds= grow(fIds, newCapacity);
+			}
+		}
+
+		private static int[] grow(int[] array, int capacity) {
+			int[] result= new int[capacity];
+			System.arraycopy(array, 0, result, 0, array.length);
+			return result;
+		}
+	}
+
+	private static final int INITIAL_CAPACITY= 4096;
+
+	private final IDocument fDocument;
+	private final Runs fRuns= new Runs(INITIAL_CAPACITY);
+
+	private final Map<IToken, Integer> fTokenIds= new IdentityHashMap<>();
+	private final List<IToken> fTokens= new ArrayList<>();
+	private IToken fLastToken;
+	private int fLastTokenId;
+
+	/** The last document event applied to the runs. */
+	private DocumentEvent fLastEvent;
+	/** Incremented for each document event applied to the runs. */
+	private int fGeneration;
+
+	/**
+	 * Creates a token cache for the given document and starts tracking its changes.
+	 *
+	 * @param document the document
+	 */
+	public JavaTokenCache(IDocument document) {
+		fDocument= document;
+		fDocument.addDocumentListener(this);
+	}
+
+	/**
+	 * Stops tracking the changes of the document and clears the cache.
+	 */
+	public void dispose() {
+		fDocument.removeDocumentListener(this);
+		fRuns.fCount= 0;
+	}
+
+	public IDocument getDocument() {
+		return fDocument;
+	}
+
+	int getGeneration() {
+		return fGeneration;
+	}
+
+	int getTokenId(IToken token) {
+		if (token == fLastToken)
+			return fLastTokenId;
+
+		Integer id= fTokenIds.get(token);
+		if (id == null) {
+			id= Integer.valueOf(fTokens.size());
+			fTokenIds.put(token, id);
+			fTokens.add(token);
+		}
+		fLastToken= token;
+		fLastTokenId= id.intValue();
+		return fLastTokenId;
+	}
+
+	IToken getToken(int id) {
+		return fTokens.get(id);
+	}
+
+	@Override
+	public void documentAboutToBeChanged(DocumentEvent event) {
+	}
+
+	@Override
+	public void documentChanged(DocumentEvent event) {
+		update(event);
+	}
+
+	/**
+	 * Moves the runs after the changed text and removes the runs touched by the change. Does
+	 * nothing if the event has already been applied, since the damagers may see an event before
+	 * the document listeners.
+	 *
+	 * @param event the document event
+	 */
+	void update(DocumentEvent event) {
+		if (event == fLastEvent || event.getDocument() != fDocument)
+			return;
+		fLastEvent= event;
+		fGeneration++;
+
+		int offset= event.getOffset();
+		int end= offset + event.getLength();
+		int delta= (event.getText() == null ? 0 : event.getText().length()) - event.getLength();
+
+		// the runs ending after the offset and starting before the end of the replaced text, for an
+		// insertion only the run containing the offset
+		int first= indexOf(offset);
+		int last= first;
+		while (last < fRuns.fCount && fRuns.fStarts[last] < end)
+			last++;
+		remove(first, last);
+
+		if (delta != 0) {
+			int[] starts= fRuns.fStarts;
+			for (int i= first; i < fRuns.fCount; i++)
+				starts[i]+= delta;
+		}
+	}
+
+	/**
+	 * Replaces the runs in the given region by the given runs.
+	 *
+	 * @param offset the offset of the region
+	 * @param end the end offset of the region
+	 * @param runs the runs in the region
+	 */
+	void replace(int offset, int end, Runs runs) {
+		int first= indexOf(offset);
+		if (first < fRuns.fCount && fRuns.fStarts[first] < offset) {
+			// keep the start of the run overlapping the region
+			fRuns.fLengths[first]= offset - fRuns.fStarts[first];
+			first++;
+		}
+		int last= first;
+		while (last < fRuns.fCount && fRuns.fStarts[last] < end)
+			last++;
+
+		int delta= runs.fCount - (last - first);
+		fRuns.ensureCapacity(fRuns.fCount + delta);
+		int tail= fRuns.fCount - last;
+		System.arraycopy(fRuns.fStarts, last, fRuns.fStarts, last + delta, tail);
+		System.arraycopy(fRuns.fLengths, last, fRuns.fLengths, last + delta, tail);
+		System.arraycopy(fRuns.fIds, last, fRuns.fIds, last + delta, tail);
+		System.arraycopy(runs.fStarts, 0, fRuns.fStarts, first, runs.fCount);
+		System.arraycopy(runs.fLengths, 0, fRuns.fLengths, first, runs.fCount);
+		System.arraycopy(runs.fIds, 0, fRuns.fIds, first, runs.fCount);
+		fRuns.fCount+= delta;
+	}
+
+	/**
+	 * Tells whether a cached run starts at the given offset with the given token id.
+	 *
+	 * @param offset the offset
+	 * @param id the token id
+	 * @return <code>true</code> if a run with the given id starts at the offset
+	 */
+	boolean startsRun(int offset, int id) {
+		int index= indexOf(offset);
+		return index < fRuns.fCount && fRuns.fStarts[index] == offset && fRuns.fIds[index] == id;
+	}
+
+	/**
+	 * Tells whether a cached run contains or starts at the given offset.
+	 *
+	 * @param offset the offset
+	 * @return <code>true</code> if the offset is covered by the cache
+	 */
+	boolean covers(int offset) {
+		int index= indexOf(offset);
+		return index < fRuns.fCount && fRuns.fStarts[index] <= offset;
+	}
+
+	/**
+	 * Tells whether the given offset is at the beginning of a line of the document.
+	 *
+	 * @param offset the offset
+	 * @return <code>true</code> if the offset is at the beginning of a line
+	 * @throws BadLocationException if the offset is invalid
+	 */
+	boolean isLineStart(int offset) throws BadLocationException {
+		if (offset == 0)
+			return true;
+		char c= fDocument.getChar(offset - 1);
+		if (c == '\n')
+			return true;
+		return c == '\r' && (offset == fDocument.getLength() || fDocument.getChar(offset) != '\n');
+	}
+
+	/**
+	 * Returns the index of the first run which ends after the given offset.
+	 *
+	 * @param offset the offset
+	 * @return the index of the run, or the number of runs if there is none
+	 */
+	private int indexOf(int offset) {
+		int low= 0;
+		int high= fRuns.fCount;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (fRuns.fStarts[mid] + fRuns.fLengths[mid] > offset)
+				high= mid;
+			else
+				low= mid + 1;
+		}
+		return low;
+	}
+
+	private void remove(int first, int last) {
+		if (last > first) {
+			int tail= fRuns.fCount - last;
+			System.arraycopy(fRuns.fStarts, last, fRuns.fStarts, first, tail);
+			System.arraycopy(fRuns.fLengths, last, fRuns.fLengths, first, tail);
+			System.arraycopy(fRuns.fIds, last, fRuns.fIds, first, tail);
+			fRuns.fCount-= last - first;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.text.correction;
 
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
@@ -45,6 +46,8 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.java.IInvocationContext;
@@ -100,6 +103,8 @@ public class QuickAssistLightBulbUpdater {
 
 	}
 
+	private static final int HAS_ASSISTS_CACHE_SIZE= 50;
+
 	private final Annotation fAnnotation;
 	private boolean fIsAnnotationShown;
 	private ITextEditor fEditor;
@@ -108,6 +113,18 @@ public class QuickAssistLightBulbUpdater {
 	private ISelectionListenerWithAST fListener;
 	private IPropertyChangeListener fPropertyChangeListener;
 
+	/**
+	 * The AST the cached results of {@link JavaCorrectionProcessor#hasAssists(IInvocationContext)}
+	 * have been computed on, or <code>null</code>.
+	 */
+	private CompilationUnit fCachedASTRoot;
+
+	/**
+	 * Maps selections in {@link #fCachedASTRoot}, encoded by {@link #getSelectionKey(int, int)}, to
+	 * whether there are assists at the selection.
+	 */
+	private final Map<Long, Boolean> fHasAssistsCache= new LRUMap<>(HAS_ASSISTS_CACHE_SIZE);
+
 	public QuickAssistLightBulbUpdater(ITextEditor part, ITextViewer viewer) {
 		fEditor= part;
 		fViewer= viewer;
@@ -213,7 +230,7 @@ public class QuickAssistLightBulbUpdater {
 	 * Needs to be called synchronized
 	 */
 	private void calculateLightBulb(IAnnotationModel model, IInvocationContext context) {
-		boolean needsAnnotation= JavaCorrectionProcessor.hasAssists(context);
+		boolean needsAnnotation= hasAssists(context);
 		if (fIsAnnotationShown) {
 			model.removeAnnotation(fAnnotation);
 		}
@@ -223,6 +240,37 @@ public class QuickAssistLightBulbUpdater {
 		fIsAnnotationShown= needsAnnotation;
 	}
 
+	/*
+	 * The light bulb is recomputed whenever the selection changes, but the AST only changes on
+	 * reconcile: remember the result per selection until a new AST is reported.
+	 */
+	private boolean hasAssists(IInvocationContext context) {
+		CompilationUnit astRoot= context.getASTRoot();
+		Long key= Long.valueOf(getSelectionKey(context.getSelectionOffset(), context.getSelectionLength()));
+		synchronized (fHasAssistsCache) {
+			if (fCachedASTRoot != astRoot) {
+				fCachedASTRoot= astRoot;
+				fHasAssistsCache.clear();
+			} else {
+				Boolean hasAssists= fHasAssistsCache.get(key);
+				if (hasAssists != null) {
+					return hasAssists.booleanValue();
+				}
+			}
+		}
+		boolean hasAssists= JavaCorrectionProcessor.hasAssists(context);
+		synchronized (fHasAssistsCache) {
+			if (fCachedASTRoot == astRoot) {
+				fHasAssistsCache.put(key, Boolean.valueOf(hasAssists));
+			}
+		}
+		return hasAssists;
+	}
+
+	private static long getSelectionKey(int offset, int length) {
+		return ((long) offset << 32) | (length & 0xFFFFFFFFL);
+	}
+
 	private void removeLightBulb(IAnnotationModel model) {
 		synchronized (this) {
 			if (fIsAnnotationShown) {
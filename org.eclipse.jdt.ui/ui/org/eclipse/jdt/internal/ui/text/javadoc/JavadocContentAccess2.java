@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2022 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -197,6 +197,7 @@ public class JavadocContentAccess2 {
 		public Object visitInheritDoc(IType currentType, ITypeHierarchy typeHierarchy) throws JavaModelException {
 			ArrayList<IType> visited= new ArrayList<>();
 			visited.add(currentType);
+			JavadocContentCache.dependsOn(currentType);
 			Object result= visitInheritDocInterfaces(visited, currentType, typeHierarchy);
 			if (result != InheritDocVisitor.CONTINUE)
 				return result;
@@ -208,6 +209,7 @@ public class JavadocContentAccess2 {
 				superClass= typeHierarchy.getSuperclass(currentType);
 
 			while (superClass != null && ! visited.contains(superClass)) {
+				JavadocContentCache.dependsOn(superClass);
 				result= visit(superClass);
 				if (result == InheritDocVisitor.STOP_BRANCH) {
 					return null;
@@ -241,6 +243,7 @@ public class JavadocContentAccess2 {
 				if (visited.contains(superInterface))
 					continue;
 				visited.add(superInterface);
+				JavadocContentCache.dependsOn(superInterface);
 				Object result= visit(superInterface);
 				if (result == InheritDocVisitor.STOP_BRANCH) {
 					//skip
@@ -517,6 +520,10 @@ public class JavadocContentAccess2 {
 				&& (!(element instanceof ILocalVariable) || !(((ILocalVariable) element).isParameter()))) {
 			return null;
 		}
+		return JavaPlugin.getDefault().getJavadocContentCache().getHTMLContent(element, useAttachedJavadoc, () -> computeHTMLContent(element, useAttachedJavadoc));
+	}
+
+	private static String computeHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
 		String sourceJavadoc= getHTMLContentFromSource(element);
 		if (sourceJavadoc == null || sourceJavadoc.length() == 0 || "{@inheritDoc}".equals(sourceJavadoc.trim())) { //$NON-NLS-1$
 			if (useAttachedJavadoc) {
@@ -636,6 +643,7 @@ public class JavadocContentAccess2 {
 			return null;
 		}
 
+		JavadocContentCache.dependsOn(member);
 		IBuffer buf= member.getOpenable().getBuffer();
 		if (buf == null) {
 			return null; // no source attachment found
@@ -705,6 +713,10 @@ public class JavadocContentAccess2 {
 		//Caveat: Javadoc nodes are not available when Javadoc processing has been disabled!
 		//https://bugs.eclipse.org/bugs/show_bug.cgi?id=212207
 
+		return JavaPlugin.getDefault().getJavadocContentCache().getJavadocNode(element.getJavaProject(), rawJavadoc, () -> parseJavadocNode(element, rawJavadoc));
+	}
+
+	private static Javadoc parseJavadocNode(IJavaElement element, String rawJavadoc) {
 		String source= rawJavadoc + "class C{}"; //$NON-NLS-1$
 		CompilationUnit root= createAST(element, source);
 		if (root == null)
@@ -1549,6 +1561,8 @@ public class JavadocContentAccess2 {
 					}
 					SimpleName name= memberRef.getName();
 					while (type != null) {
+						// the value and whether the field exists are read from the referenced type
+						JavadocContentCache.dependsOn(type);
 						IField field= type.getField(name.getIdentifier());
 						if (field != null && field.exists()) {
 							if (JdtFlags.isStatic(field) && JdtFlags.isFinal(field))
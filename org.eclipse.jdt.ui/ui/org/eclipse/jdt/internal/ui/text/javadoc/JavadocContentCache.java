@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.Javadoc;
+
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+/**
+ * A thread-safe cache for the Javadoc rendered by {@link JavadocContentAccess2}, shared by the
+ * Javadoc hovers and the Javadoc view.
+ * <p>
+ * Each rendered content remembers the compilation units and class files it has been computed from,
+ * including the ones visited while resolving <code>{&#64;inheritDoc}</code>, and is removed as soon
+ * as one of them changes. Changes to super types, to the set of types or to the classpath clear the
+ * whole cache. The Javadoc ASTs parsed while rendering are kept as well, keyed by the raw Javadoc.
+ * </p>
+ */
+public class JavadocContentCache implements IElementChangedListener {
+
+	/**
+	 * Computes the content if it is not cached.
+	 */
+	interface IContentComputer {
+		String compute() throws CoreException;
+	}
+
+	private static class ContentEntry {
+		private final String fContent;
+		private final Set<IJavaElement> fDependencies;
+
+		public ContentEntry(String content, Set<IJavaElement> dependencies) {
+			fContent= content;
+			fDependencies= dependencies;
+		}
+	}
+
+	private static final int CONTENT_CACHE_SIZE= 100;
+	private static final int JAVADOC_NODE_CACHE_SIZE= 50;
+
+	private static final int CLEAR_ALL_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_SOURCEATTACHED
+			| IJavaElementDelta.F_SOURCEDETACHED
+			| IJavaElementDelta.F_OPENED
+			| IJavaElementDelta.F_CLOSED
+			| IJavaElementDelta.F_SUPER_TYPES;
+
+	/**
+	 * The dependencies of the content being computed in the current thread, or <code>null</code>.
+	 */
+	private static final ThreadLocal<Set<IJavaElement>> fgDependencies= new ThreadLocal<>();
+
+	private final Map<String, ContentEntry> fContents= new LRUMap<>(CONTENT_CACHE_SIZE);
+	private final Map<String, Javadoc> fJavadocNodes= new LRUMap<>(JAVADOC_NODE_CACHE_SIZE);
+
+	/**
+	 * Incremented whenever content is invalidated, so that content computed concurrently from
+	 * stale sources is not added to the cache.
+	 */
+	private int fGeneration;
+
+	public JavadocContentCache() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	public void dispose() {
+		JavaCore.removeElementChangedListener(this);
+		clear();
+	}
+
+	/**
+	 * Returns the cached HTML content of the given element or computes it.
+	 *
+	 * @param element the element to get the Javadoc of
+	 * @param useAttachedJavadoc whether the content is taken from attached Javadoc if there's no
+	 *            source
+	 * @param computer computes the content if it is not cached
+	 * @return the content, can be <code>null</code>
+	 * @throws CoreException if the content cannot be computed
+	 */
+	String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc, IContentComputer computer) throws CoreException {
+		if (!isCacheable(element))
+			return computer.compute();
+
+		String key= element.getHandleIdentifier() + (useAttachedJavadoc ? '+' : '-');
+		int generation;
+		synchronized (this) {
+			ContentEntry entry= fContents.get(key);
+			if (entry != null) {
+				addDependencies(entry.fDependencies);
+				return entry.fContent;
+			}
+			generation= fGeneration;
+		}
+
+		Set<IJavaElement> outerDependencies= fgDependencies.get();
+		Set<IJavaElement> dependencies= new HashSet<>();
+		fgDependencies.set(dependencies);
+		String content;
+		try {
+			dependsOn(element);
+			content= computer.compute();
+		} finally {
+			fgDependencies.set(outerDependencies);
+			addDependencies(dependencies);
+		}
+
+		synchronized (this) {
+			if (generation == fGeneration)
+				fContents.put(key, new ContentEntry(content, dependencies));
+		}
+		return content;
+	}
+
+	/**
+	 * Returns the cached Javadoc node parsed from the given raw Javadoc or parses it.
+	 *
+	 * @param project the project whose options are used to parse the Javadoc
+	 * @param rawJavadoc the raw Javadoc comment
+	 * @param parser parses the Javadoc if it is not cached
+	 * @return the Javadoc node, or <code>null</code> if the comment could not be parsed
+	 */
+	Javadoc getJavadocNode(IJavaProject project, String rawJavadoc, Supplier<Javadoc> parser) {
+		String key= project.getHandleIdentifier() + '\n' + project.getOption(JavaCore.COMPILER_SOURCE, true) + '\n' + rawJavadoc;
+		synchronized (this) {
+			Javadoc javadoc= fJavadocNodes.get(key);
+			if (javadoc != null)
+				return javadoc;
+		}
+		Javadoc javadoc= parser.get();
+		if (javadoc != null) {
+			synchronized (this) {
+				fJavadocNodes.put(key, javadoc);
+			}
+		}
+		return javadoc;
+	}
+
+	/**
+	 * Records that the content being computed in the current thread depends on the compilation
+	 * unit or class file of the given element.
+	 *
+	 * @param element the element read while computing the content
+	 */
+	static void dependsOn(IJavaElement element) {
+		Set<IJavaElement> dependencies= fgDependencies.get();
+		if (dependencies != null && element != null) {
+			IJavaElement openable= getPrimaryOpenable(element);
+			if (openable != null)
+				dependencies.add(openable);
+		}
+	}
+
+	private static void addDependencies(Set<IJavaElement> dependencies) {
+		Set<IJavaElement> current= fgDependencies.get();
+		if (current != null)
+			current.addAll(dependencies);
+	}
+
+	private static boolean isCacheable(IJavaElement element) {
+		// working copies of other owners share the handle identifier of the primary compilation unit
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return cu == null || cu.getOwner() == null;
+	}
+
+	private static IJavaElement getPrimaryOpenable(IJavaElement element) {
+		IOpenable openable= element instanceof IOpenable ? (IOpenable) element : element.getOpenable();
+		if (openable instanceof ICompilationUnit)
+			return ((ICompilationUnit) openable).getPrimary();
+		return (IJavaElement) openable;
+	}
+
+	public synchronized void clear() {
+		fGeneration++;
+		fContents.clear();
+		fJavadocNodes.clear();
+	}
+
+	private synchronized void remove(Set<IJavaElement> changed) {
+		fGeneration++;
+		for (Iterator<ContentEntry> iter= fContents.values().iterator(); iter.hasNext();) {
+			ContentEntry entry= iter.next();
+			for (IJavaElement dependency : entry.fDependencies) {
+				if (changed.contains(dependency)) {
+					iter.remove();
+					break;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<IJavaElement> changed= new HashSet<>();
+		if (processDelta(event.getDelta(), changed)) {
+			clear();
+		} else if (!changed.isEmpty()) {
+			remove(changed);
+		}
+	}
+
+	/**
+	 * Collects the changed compilation units and class files of the given delta.
+	 *
+	 * @param delta the delta
+	 * @param changed the set to add the changed compilation units and class files to
+	 * @return <code>true</code> if the whole cache has to be cleared
+	 */
+	private boolean processDelta(IJavaElementDelta delta, Set<IJavaElement> changed) {
+		if ((delta.getFlags() & CLEAR_ALL_FLAGS) != 0)
+			return true;
+
+		IJavaElement element= delta.getElement();
+		int type= element.getElementType();
+		if (type <= IJavaElement.TYPE && delta.getKind() != IJavaElementDelta.CHANGED)
+			return true; // types added or removed, the hierarchies may have changed
+
+		if (type == IJavaElement.COMPILATION_UNIT || type == IJavaElement.CLASS_FILE)
+			changed.add(getPrimaryOpenable(element));
+
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (processDelta(child, changed))
+				return true;
+		}
+		return false;
+	}
+}
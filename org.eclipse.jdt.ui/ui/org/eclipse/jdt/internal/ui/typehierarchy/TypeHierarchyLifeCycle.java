@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.operation.IRunnableContext;
@@ -48,6 +49,7 @@ import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 
@@ -84,6 +86,14 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	private boolean fRefreshJobCanceledExplicitly= true;
 
+	/**
+	 * The supertype hierarchy of the input type, shown while the refresh job computes the
+	 * subtypes, or <code>null</code>.
+	 *
+	 * @since 3.27
+	 */
+	private volatile ITypeHierarchy fPartialHierarchy;
+
 	/**
 	 * Creates the type hierarchy life cycle.
 	 *
@@ -104,7 +114,8 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	}
 
 	public ITypeHierarchy getHierarchy() {
-		return fHierarchy;
+		ITypeHierarchy partialHierarchy= fPartialHierarchy;
+		return partialHierarchy != null ? partialHierarchy : fHierarchy;
 	}
 
 	/**
@@ -118,6 +129,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 
 	public void freeHierarchy() {
+		fPartialHierarchy= null;
 		if (fHierarchy != null) {
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
@@ -220,7 +232,6 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 						 */
 						@Override
 						public IStatus run(IProgressMonitor pm) {
-							pm.beginTask(label, LONG);
 							try {
 								doHierarchyRefreshBackground(elements, pm);
 							} catch (OperationCanceledException e) {
@@ -269,7 +280,18 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 * @since 3.6
 	 */
 	protected void doHierarchyRefreshBackground(final IJavaElement[] elements, final IProgressMonitor pm) throws JavaModelException {
-		doHierarchyRefresh(elements, pm);
+		SubMonitor subMonitor= SubMonitor.convert(pm, 2);
+		try {
+			boolean hierarchyCreationNeeded= fHierarchy == null || !Arrays.equals(elements, fInputElements);
+			if (hierarchyCreationNeeded && !fIsSuperTypesOnly && elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE) {
+				showSupertypeHierarchy((IType) elements[0], subMonitor.split(1), pm);
+			} else {
+				subMonitor.setWorkRemaining(1);
+			}
+			doHierarchyRefresh(elements, subMonitor.split(1));
+		} finally {
+			fPartialHierarchy= null;
+		}
 		if (!pm.isCanceled()) {
 			Display.getDefault().asyncExec(() -> {
 				synchronized (TypeHierarchyLifeCycle.this) {
@@ -286,6 +308,37 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	/**
+	 * Shows the supertype hierarchy of the given type while the subtypes are computed, since the
+	 * supertypes are found much faster. The supertype hierarchy is shared with the
+	 * {@link SuperTypeHierarchyCache}.
+	 *
+	 * @param type the input type
+	 * @param monitor the progress monitor for the supertype hierarchy
+	 * @param pm the progress monitor of the refresh job
+	 * @throws JavaModelException if the type does not exist or if an exception occurs while
+	 *             accessing its corresponding resource
+	 * @since 3.27
+	 */
+	private void showSupertypeHierarchy(IType type, IProgressMonitor monitor, final IProgressMonitor pm) throws JavaModelException {
+		final ITypeHierarchy supertypeHierarchy= SuperTypeHierarchyCache.getFocusedTypeHierarchy(type, monitor);
+		if (pm.isCanceled())
+			throw new OperationCanceledException();
+
+		fPartialHierarchy= supertypeHierarchy;
+		Display.getDefault().asyncExec(() -> {
+			synchronized (TypeHierarchyLifeCycle.this) {
+				if (fRefreshHierarchyJob == null)
+					return;
+			}
+			// the full hierarchy may already have replaced the supertype hierarchy
+			if (pm.isCanceled() || fPartialHierarchy != supertypeHierarchy)
+				return;
+			fTypeHierarchyViewPart.setViewersInput();
+			fTypeHierarchyViewPart.updateViewers();
+		});
+	}
+
 	private ITypeHierarchy createTypeHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
 		if (elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE) {
 			IType type= (IType)elements[0];
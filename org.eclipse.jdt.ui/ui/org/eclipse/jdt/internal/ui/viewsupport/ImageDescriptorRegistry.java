@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.viewsupport;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
@@ -28,22 +31,70 @@ import org.eclipse.ui.PlatformUI;
 
 /**
  * A registry that maps <code>ImageDescriptors</code> to <code>Image</code>.
+ * <p>
+ * Images obtained through {@link #get(ImageDescriptor)} live until the registry is disposed.
+ * Images obtained through {@link #acquire(ImageDescriptor)} are reference counted and disposed as
+ * soon as the last reference is handed back with {@link #release(ImageDescriptor)}, unless the
+ * same image has also been requested through {@link #get(ImageDescriptor)}. This allows transient
+ * views to release the composite images they create.
+ * </p>
+ * <p>
+ * The registry can be accessed concurrently without a global lock.
+ * </p>
+ * <p>
+ * A registry created with {@link #ImageDescriptorRegistry(ImageDescriptorRegistry)} acquires its
+ * images from a shared registry and releases all of them when it is disposed. Transient views pass
+ * such a registry to their label decorators, so that the composite images created for them do not
+ * outlive the view.
+ * </p>
  */
 public class ImageDescriptorRegistry {
 
-	private Map<ImageDescriptor, Image> fRegistry= Collections.synchronizedMap(new HashMap<ImageDescriptor, Image>(10));
+	private static final class Entry {
+		final Image fImage;
+		/** Number of outstanding {@link ImageDescriptorRegistry#acquire(ImageDescriptor)} calls. */
+		int fReferences;
+		/** <code>true</code> if the image must be kept until the registry gets disposed. */
+		volatile boolean fPinned;
+
+		Entry(Image image) {
+			fImage= image;
+		}
+	}
+
+	private final ConcurrentMap<ImageDescriptor, Entry> fRegistry= new ConcurrentHashMap<>();
 	private Display fDisplay;
 
+	/** The registry the images are acquired from, or <code>null</code> if this registry owns its images. */
+	private final ImageDescriptorRegistry fShared;
+	/** The images acquired from the shared registry, in the order they were acquired. */
+	private final Map<ImageDescriptor, Image> fAcquired;
+
 	/**
 	 * Creates a new image descriptor registry for the given display. All images
 	 * managed by this registry will be disposed when the display gets disposed.
 	 */
 	public ImageDescriptorRegistry() {
+		fShared= null;
+		fAcquired= null;
 		fDisplay= PlatformUI.getWorkbench().getDisplay();
 		Assert.isNotNull(fDisplay);
 		hookDisplay();
 	}
 
+	/**
+	 * Creates a registry which acquires its images from the given shared registry. The images are
+	 * released when this registry is disposed.
+	 *
+	 * @param shared the registry to acquire the images from
+	 */
+	public ImageDescriptorRegistry(ImageDescriptorRegistry shared) {
+		Assert.isNotNull(shared);
+		fShared= shared;
+		fAcquired= new LinkedHashMap<>();
+		fDisplay= shared.fDisplay;
+	}
+
 	/**
 	 * Returns the image associated with the given image descriptor.
 	 *
@@ -56,26 +107,154 @@ public class ImageDescriptorRegistry {
 		if (descriptor == null)
 			descriptor= ImageDescriptor.getMissingImageDescriptor();
 
-		Image result= fRegistry.get(descriptor);
-		if (result != null)
-			return result;
+		if (fShared != null)
+			return acquireShared(descriptor);
+
+		Entry entry= fRegistry.get(descriptor);
+		if (entry != null && entry.fPinned)
+			return entry.fImage;
+
+		entry= reference(descriptor, true);
+		return entry != null ? entry.fImage : null;
+	}
+
+	/**
+	 * Returns the image associated with the given image descriptor and increments its reference
+	 * count. Every call must be balanced by a call to {@link #release(ImageDescriptor)}.
+	 *
+	 * @param descriptor the image descriptor for which the registry manages an image,
+	 *  or <code>null</code> for a missing image descriptor
+	 * @return the image associated with the image descriptor or <code>null</code>
+	 *  if the image descriptor can't create the requested image.
+	 */
+	public Image acquire(ImageDescriptor descriptor) {
+		if (descriptor == null)
+			descriptor= ImageDescriptor.getMissingImageDescriptor();
+
+		if (fShared != null)
+			return fShared.acquire(descriptor);
+
+		Entry entry= reference(descriptor, false);
+		return entry != null ? entry.fImage : null;
+	}
+
+	/**
+	 * Decrements the reference count of the image associated with the given image descriptor.
+	 * The image is disposed when it is no longer referenced and has not been requested through
+	 * {@link #get(ImageDescriptor)}.
+	 *
+	 * @param descriptor the image descriptor passed to {@link #acquire(ImageDescriptor)}
+	 */
+	public void release(ImageDescriptor descriptor) {
+		if (descriptor == null)
+			descriptor= ImageDescriptor.getMissingImageDescriptor();
+
+		if (fShared != null) {
+			fShared.release(descriptor);
+			return;
+		}
+
+		Image[] unreferenced= new Image[1];
+		fRegistry.computeIfPresent(descriptor, (key, entry) -> {
+			if (entry.fReferences > 0)
+				entry.fReferences--;
+			if (entry.fReferences == 0 && !entry.fPinned) {
+				unreferenced[0]= entry.fImage;
+				return null;
+			}
+			return entry;
+		});
+		if (unreferenced[0] != null)
+			disposeImage(unreferenced[0]);
+	}
 
-		result= descriptor.createImage();
-		if (result != null)
-			fRegistry.put(descriptor, result);
-		return result;
+	/**
+	 * Returns the number of images currently held by this registry. Each of them is backed by an
+	 * operating system resource.
+	 *
+	 * @return the number of live image handles
+	 */
+	public int getLiveImageCount() {
+		if (fShared != null) {
+			synchronized (fAcquired) {
+				return fAcquired.size();
+			}
+		}
+		return fRegistry.size();
 	}
 
 	/**
-	 * Disposes all images managed by this registry.
+	 * Disposes all images managed by this registry. A registry created on a shared registry
+	 * releases the images it has acquired instead.
 	 */
 	public void dispose() {
-		for (Image image : fRegistry.values()) {
-			image.dispose();
+		if (fShared != null) {
+			List<ImageDescriptor> acquired;
+			synchronized (fAcquired) {
+				acquired= new ArrayList<>(fAcquired.keySet());
+				fAcquired.clear();
+			}
+			// release the composites before the images they are based on: the descriptors of the
+			// composites are keyed on the base images, whose hash codes change once disposed
+			for (int i= acquired.size() - 1; i >= 0; i--) {
+				fShared.release(acquired.get(i));
+			}
+			return;
+		}
+		for (Entry entry : fRegistry.values()) {
+			entry.fImage.dispose();
 		}
 		fRegistry.clear();
 	}
 
+	private Image acquireShared(ImageDescriptor descriptor) {
+		synchronized (fAcquired) {
+			Image image= fAcquired.get(descriptor);
+			if (image == null) {
+				image= fShared.acquire(descriptor);
+				if (image != null)
+					fAcquired.put(descriptor, image);
+			}
+			return image;
+		}
+	}
+
+	private Entry reference(ImageDescriptor descriptor, boolean pin) {
+		while (true) {
+			Entry entry= fRegistry.get(descriptor);
+			if (entry == null) {
+				// create the image outside of the map: composite descriptors may access the registry
+				Image image= descriptor.createImage();
+				if (image == null)
+					return null;
+				Entry created= new Entry(image);
+				entry= fRegistry.putIfAbsent(descriptor, created);
+				if (entry != null) {
+					disposeImage(image);
+				}
+			}
+			Entry referenced= fRegistry.computeIfPresent(descriptor, (key, current) -> {
+				if (pin) {
+					current.fPinned= true;
+				} else {
+					current.fReferences++;
+				}
+				return current;
+			});
+			if (referenced != null)
+				return referenced;
+			// released concurrently, try again
+		}
+	}
+
+	private void disposeImage(Image image) {
+		if (Display.getCurrent() == fDisplay) {
+			image.dispose();
+		} else if (!fDisplay.isDisposed()) {
+			fDisplay.asyncExec(image::dispose);
+		}
+	}
+
 	private void hookDisplay() {
 		fDisplay.asyncExec(() -> fDisplay.disposeExec(this::dispose));
 	}
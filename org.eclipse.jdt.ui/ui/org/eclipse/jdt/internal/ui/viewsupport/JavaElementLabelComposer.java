@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -95,6 +95,11 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 			return fStringBuffer.toString();
 		}
 
+		@Override
+		public String substring(int start) {
+			return fStringBuffer.substring(start);
+		}
+
 		@Override
 		public void setStyle(int offset, int length, Styler styler) {
 			// no style
@@ -212,6 +217,16 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		this(new FlexibleStringBuffer(buffer));
 	}
 
+	/**
+	 * Creates a new java element composer based on the given buffer. Styles are only applied if
+	 * the buffer is a {@link FlexibleBuffer}.
+	 *
+	 * @param buffer the buffer
+	 */
+	public JavaElementLabelComposer(FlexibleBufferCore buffer) {
+		super(buffer);
+	}
+
 
 
 	@Override
@@ -226,6 +241,11 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 			((FlexibleBuffer)fBuffer).setStyle(offset, fBuffer.length() - offset, DECORATIONS_STYLE);
 	}
 
+	@Override
+	protected boolean isFragmentCachingEnabled(long flags) {
+		return getClass() == JavaElementLabelComposer.class && !getFlag(flags, JavaElementLabels.COLORIZE);
+	}
+
 	@Override
 	protected void appendCategoryLabel(IMember member, long flags) throws JavaModelException {
 		String[] categories= member.getCategories();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Till Brychcy and others.
+ * Copyright (c) 2018, 2026 Till Brychcy and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,10 @@
 package org.eclipse.jdt.internal.ui.workingsets;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +31,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
@@ -56,18 +59,24 @@ public class DynamicSourcesWorkingSetUpdater implements IWorkingSetUpdater2 {
 	private class JavaElementChangeListener implements IElementChangedListener {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			processJavaDelta(event.getDelta());
+			Set<IJavaProject> changedProjects= new HashSet<>();
+			processJavaDelta(event.getDelta(), changedProjects);
+			if (!changedProjects.isEmpty()) {
+				synchronized (fChangedProjects) {
+					fChangedProjects.addAll(changedProjects);
+				}
+				triggerUpdate();
+			}
 		}
 
-		private boolean processJavaDelta(IJavaElementDelta delta) {
+		private void processJavaDelta(IJavaElementDelta delta, Set<IJavaProject> changedProjects) {
 			IJavaElement jElement= delta.getElement();
 			int type= jElement.getElementType();
 			if (type == IJavaElement.PACKAGE_FRAGMENT_ROOT) {
 				int kind= delta.getKind();
 				if (kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED) {
 					// this can happen without "classpath changed" event, if the directory corresponding to an optional source folder is created.
-					triggerUpdate();
-					return true;
+					changedProjects.add(jElement.getJavaProject());
 				}
 				// do not traverse into children
 			} else if (type == IJavaElement.JAVA_PROJECT) {
@@ -75,23 +84,28 @@ public class DynamicSourcesWorkingSetUpdater implements IWorkingSetUpdater2 {
 				int flags= delta.getFlags();
 				if (kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED
 						|| (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED)) != 0) {
-					triggerUpdate();
-					return true;
+					changedProjects.add((IJavaProject) jElement);
+					return;
 				}
 				for (IJavaElementDelta element : delta.getAffectedChildren()) {
-					if (processJavaDelta(element))
-						return true;
+					processJavaDelta(element, changedProjects);
 				}
 			} else if (type == IJavaElement.JAVA_MODEL) {
 				for (IJavaElementDelta element : delta.getAffectedChildren()) {
-					if (processJavaDelta(element))
-						return true;
+					processJavaDelta(element, changedProjects);
 				}
 			}
-			return false;
 		}
 	}
 
+	/**
+	 * The main and test source folders of a project.
+	 */
+	private static class ProjectSources {
+		final List<IAdaptable> fMain= new ArrayList<>();
+		final List<IAdaptable> fTest= new ArrayList<>();
+	}
+
 	private class UpdateUIJob extends WorkbenchJob {
 
 		volatile Runnable task;
@@ -136,6 +150,24 @@ public class DynamicSourcesWorkingSetUpdater implements IWorkingSetUpdater2 {
 
 	private AtomicBoolean isDisposed= new AtomicBoolean();
 
+	/**
+	 * The source folders of the open Java projects, in the order of the Java model. Accessed only
+	 * when synchronized on the map.
+	 */
+	private final Map<IJavaProject, ProjectSources> fSourcesByProject= new LinkedHashMap<>();
+
+	/**
+	 * The projects whose source folders have to be computed again. Accessed only when synchronized
+	 * on the set.
+	 */
+	private final Set<IJavaProject> fChangedProjects= new HashSet<>();
+
+	/**
+	 * <code>true</code> if the source folders of all projects have to be computed. Accessed only
+	 * when synchronized on {@link #fChangedProjects}.
+	 */
+	private boolean fFullUpdate= true;
+
 	public static final String TEST_OLD_NAME= "test"; //$NON-NLS-1$
 
 	public static final String MAIN_OLD_NAME= "main"; //$NON-NLS-1$
@@ -161,6 +193,11 @@ public class DynamicSourcesWorkingSetUpdater implements IWorkingSetUpdater2 {
 				if (fJavaElementChangeListener != null) {
 					JavaCore.removeElementChangedListener(fJavaElementChangeListener);
 				}
+				// the changes are not tracked until restore adds the listener again
+				synchronized (fChangedProjects) {
+					fFullUpdate= true;
+					fChangedProjects.clear();
+				}
 			}
 			return removed;
 		}
@@ -242,37 +279,23 @@ public class DynamicSourcesWorkingSetUpdater implements IWorkingSetUpdater2 {
 
 	private static void updateWorkingSets(IWorkingSet[] workingSets, Map<String, IAdaptable[]> data) {
 		for (IWorkingSet w : workingSets) {
-			if (MAIN_NAME.equals(w.getName())) {
-				w.setElements(data.get(MAIN_NAME));
-			} else if (TEST_NAME.equals(w.getName())) {
-				w.setElements(data.get(TEST_NAME));
+			IAdaptable[] elements= data.get(w.getName());
+			// only notify the working set listeners if the source folders have changed
+			if (elements != null && !Arrays.equals(elements, w.getElements())) {
+				w.setElements(elements);
 			}
 		}
 	}
 
 	private Map<String, IAdaptable[]> collectData(IProgressMonitor monitor) throws CoreException {
 		Map<String, IAdaptable[]> data = new HashMap<>();
-		data.put(MAIN_NAME, new IAdaptable[0]);
-		data.put(TEST_NAME, new IAdaptable[0]);
-		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
-		IJavaModel model= JavaCore.create(root);
 		List<IAdaptable> testResult= new ArrayList<>();
 		List<IAdaptable> mainResult= new ArrayList<>();
-		for (IJavaProject project : model.getJavaProjects()) {
-			if (monitor.isCanceled() || isDisposed.get()) {
-				return data;
-			}
-			if (project.getProject().isOpen()) {
-				for (IPackageFragmentRoot iPackageFragmentRoot : project.getPackageFragmentRoots()) {
-					IClasspathEntry classpathEntry= iPackageFragmentRoot.getRawClasspathEntry();
-					if (classpathEntry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
-						if (classpathEntry.isTest()) {
-							testResult.add(iPackageFragmentRoot);
-						} else {
-							mainResult.add(iPackageFragmentRoot);
-						}
-					}
-				}
+		synchronized (fSourcesByProject) {
+			updateSources(monitor);
+			for (ProjectSources sources : fSourcesByProject.values()) {
+				mainResult.addAll(sources.fMain);
+				testResult.addAll(sources.fTest);
 			}
 		}
 		IAdaptable[] testArray= testResult.toArray(new IAdaptable[testResult.size()]);
@@ -288,6 +311,72 @@ public class DynamicSourcesWorkingSetUpdater implements IWorkingSetUpdater2 {
 		return data;
 	}
 
+	/*
+	 * Computes the source folders of the changed projects, or of all projects after the first
+	 * call. Needs to be called synchronized on fSourcesByProject.
+	 */
+	private void updateSources(IProgressMonitor monitor) throws CoreException {
+		boolean fullUpdate;
+		Set<IJavaProject> changedProjects;
+		synchronized (fChangedProjects) {
+			fullUpdate= fFullUpdate;
+			changedProjects= new HashSet<>(fChangedProjects);
+			fFullUpdate= false;
+			fChangedProjects.clear();
+		}
+
+		boolean completed= false;
+		try {
+			if (fullUpdate) {
+				fSourcesByProject.clear();
+				IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+				IJavaModel model= JavaCore.create(root);
+				for (IJavaProject project : model.getJavaProjects()) {
+					checkCanceled(monitor);
+					updateSources(project);
+				}
+			} else {
+				for (IJavaProject project : changedProjects) {
+					checkCanceled(monitor);
+					updateSources(project);
+				}
+			}
+			completed= true;
+		} finally {
+			if (!completed) {
+				synchronized (fChangedProjects) {
+					fFullUpdate|= fullUpdate;
+					fChangedProjects.addAll(changedProjects);
+				}
+			}
+		}
+	}
+
+	private void updateSources(IJavaProject project) throws CoreException {
+		if (!project.exists() || !project.getProject().isOpen()) {
+			fSourcesByProject.remove(project);
+			return;
+		}
+		ProjectSources sources= new ProjectSources();
+		for (IPackageFragmentRoot iPackageFragmentRoot : project.getPackageFragmentRoots()) {
+			IClasspathEntry classpathEntry= iPackageFragmentRoot.getRawClasspathEntry();
+			if (classpathEntry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
+				if (classpathEntry.isTest()) {
+					sources.fTest.add(iPackageFragmentRoot);
+				} else {
+					sources.fMain.add(iPackageFragmentRoot);
+				}
+			}
+		}
+		fSourcesByProject.put(project, sources);
+	}
+
+	private void checkCanceled(IProgressMonitor monitor) {
+		if (monitor.isCanceled() || isDisposed.get()) {
+			throw new OperationCanceledException();
+		}
+	}
+
 	@Override
 	public boolean isManagingPersistenceOf(IWorkingSet set) {
 		return true;
@@ -44,6 +44,8 @@ import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore.FlexibleStringBuilderCore;
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.util.Strings;
@@ -491,9 +493,14 @@ public class JavaElementLabels {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		FlexibleStringBuilderCore result= JavaElementLabelComposerCore.acquireBuffer();
+		String label;
+		try {
+			new JavaElementLabelComposer(result).appendElementLabel(element, flags);
+		} finally {
+			label= JavaElementLabelComposerCore.releaseBuffer(result);
+		}
+		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(label);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,7 +47,6 @@ import org.eclipse.jface.text.presentation.IPresentationReconciler;
 import org.eclipse.jface.text.presentation.PresentationReconciler;
 import org.eclipse.jface.text.quickassist.IQuickAssistAssistant;
 import org.eclipse.jface.text.reconciler.IReconciler;
-import org.eclipse.jface.text.rules.DefaultDamagerRepairer;
 import org.eclipse.jface.text.rules.RuleBasedScanner;
 import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationHover;
@@ -74,6 +73,7 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
 import org.eclipse.jdt.internal.ui.text.AbstractJavaScanner;
+import org.eclipse.jdt.internal.ui.text.CachingDamagerRepairer;
 import org.eclipse.jdt.internal.ui.text.ContentAssistPreference;
 import org.eclipse.jdt.internal.ui.text.HTMLAnnotationHover;
 import org.eclipse.jdt.internal.ui.text.JavaCommentScanner;
@@ -399,31 +399,31 @@ public class JavaSourceViewerConfiguration extends TextSourceViewerConfiguration
 		PresentationReconciler reconciler= new JavaPresentationReconciler();
 		reconciler.setDocumentPartitioning(getConfiguredDocumentPartitioning(sourceViewer));
 
-		DefaultDamagerRepairer dr= new DefaultDamagerRepairer(getCodeScanner());
+		CachingDamagerRepairer dr= new CachingDamagerRepairer(getCodeScanner());
 		reconciler.setDamager(dr, IDocument.DEFAULT_CONTENT_TYPE);
 		reconciler.setRepairer(dr, IDocument.DEFAULT_CONTENT_TYPE);
 
-		dr= new DefaultDamagerRepairer(getJavaDocScanner());
+		dr= new CachingDamagerRepairer(getJavaDocScanner());
 		reconciler.setDamager(dr, IJavaPartitions.JAVA_DOC);
 		reconciler.setRepairer(dr, IJavaPartitions.JAVA_DOC);
 
-		dr= new DefaultDamagerRepairer(getMultilineCommentScanner());
+		dr= new CachingDamagerRepairer(getMultilineCommentScanner());
 		reconciler.setDamager(dr, IJavaPartitions.JAVA_MULTI_LINE_COMMENT);
 		reconciler.setRepairer(dr, IJavaPartitions.JAVA_MULTI_LINE_COMMENT);
 
-		dr= new DefaultDamagerRepairer(getSinglelineCommentScanner());
+		dr= new CachingDamagerRepairer(getSinglelineCommentScanner());
 		reconciler.setDamager(dr, IJavaPartitions.JAVA_SINGLE_LINE_COMMENT);
 		reconciler.setRepairer(dr, IJavaPartitions.JAVA_SINGLE_LINE_COMMENT);
 
-		dr= new DefaultDamagerRepairer(getStringScanner());
+		dr= new CachingDamagerRepairer(getStringScanner());
 		reconciler.setDamager(dr, IJavaPartitions.JAVA_STRING);
 		reconciler.setRepairer(dr, IJavaPartitions.JAVA_STRING);
 
-		dr= new DefaultDamagerRepairer(getStringScanner());
+		dr= new CachingDamagerRepairer(getStringScanner());
 		reconciler.setDamager(dr, IJavaPartitions.JAVA_CHARACTER);
 		reconciler.setRepairer(dr, IJavaPartitions.JAVA_CHARACTER);
 
-		dr= new DefaultDamagerRepairer(getStringScanner());
+		dr= new CachingDamagerRepairer(getStringScanner());
 		reconciler.setDamager(dr, IJavaPartitions.JAVA_MULTI_LINE_STRING);
 		reconciler.setRepairer(dr, IJavaPartitions.JAVA_MULTI_LINE_STRING);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,7 +31,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -104,6 +106,13 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		private boolean fHasHeaderComment;
 		private LinkedHashMap<JavaProjectionAnnotation, Position> fMap= new LinkedHashMap<>();
 		private IScanner fScanner;
+		/**
+		 * The region of the document whose members are computed again, or <code>null</code> to
+		 * compute all members.
+		 */
+		private IRegion fDirtyRegion;
+		/** The elements outside the dirty region, whose annotations are kept. */
+		private final Set<IJavaElement> fSkippedElements= new HashSet<>();
 
 		private FoldingStructureComputationContext(IDocument document, ProjectionAnnotationModel model, boolean allowCollapsing, IScanner scanner) {
 			Assert.isNotNull(document);
@@ -365,7 +374,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					FoldingStructureComputationContext ctx= createContext(false);
+					if (ctx != null)
+						ctx.fDirtyRegion= fChangeTracker.consumeDirtyRegion(fInput, ctx.getDocument());
+					update(ctx);
 				} finally {
 					fUpdatingCount--;
 				}
@@ -448,6 +460,113 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Tracks the region of the document which has changed since the folding structure has been
+	 * computed, so that only the members in this region need to be computed again.
+	 */
+	private static final class DocumentChangeTracker implements IDocumentListener {
+		private IDocument fDocument;
+		/** The start of the changed region, or <code>-1</code> if nothing has changed. */
+		private int fDirtyStart= -1;
+		private int fDirtyEnd= -1;
+
+		/**
+		 * Starts tracking the given document. Nothing has changed after this call.
+		 *
+		 * @param document the document or <code>null</code>
+		 */
+		synchronized void connect(IDocument document) {
+			if (document != fDocument) {
+				disconnect();
+				fDocument= document;
+				if (document != null)
+					document.addDocumentListener(this);
+			}
+			fDirtyStart= -1;
+			fDirtyEnd= -1;
+		}
+
+		synchronized void disconnect() {
+			if (fDocument != null) {
+				fDocument.removeDocumentListener(this);
+				fDocument= null;
+			}
+			fDirtyStart= -1;
+			fDirtyEnd= -1;
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			int start= event.getOffset();
+			int replacedEnd= start + event.getLength();
+			int end= start + (event.getText() == null ? 0 : event.getText().length());
+			if (fDirtyStart == -1) {
+				fDirtyStart= start;
+				fDirtyEnd= end;
+			} else {
+				// move the changed region to the new offsets and add the event's region
+				if (fDirtyEnd >= replacedEnd)
+					fDirtyEnd+= end - replacedEnd;
+				else if (fDirtyEnd > start)
+					fDirtyEnd= end;
+				fDirtyStart= Math.min(fDirtyStart, start);
+				fDirtyEnd= Math.max(fDirtyEnd, end);
+			}
+		}
+
+		/**
+		 * Returns the region which has changed since the last call, extended to whole lines. The
+		 * region is only reset if the Java model reflects the current content of the document,
+		 * otherwise it is returned again by the next call.
+		 *
+		 * @param input the input element of the editor
+		 * @param document the document of the editor
+		 * @return the changed region, or <code>null</code> if the whole folding structure has to
+		 *         be computed
+		 */
+		IRegion consumeDirtyRegion(IJavaElement input, IDocument document) {
+			int dirtyStart;
+			int dirtyEnd;
+			synchronized (this) {
+				if (document != fDocument || fDirtyStart == -1 || !(input instanceof ICompilationUnit))
+					return null;
+				dirtyStart= fDirtyStart;
+				dirtyEnd= fDirtyEnd;
+				fDirtyStart= -1;
+				fDirtyEnd= -1;
+			}
+
+			if (!((ICompilationUnit) input).isConsistent()) {
+				// the document has changed since it has been reconciled, keep the region for the next reconcile
+				synchronized (this) {
+					if (fDirtyStart == -1) {
+						fDirtyStart= dirtyStart;
+						fDirtyEnd= dirtyEnd;
+					} else {
+						fDirtyStart= Math.min(fDirtyStart, dirtyStart);
+						fDirtyEnd= Math.max(fDirtyEnd, dirtyEnd);
+					}
+				}
+			}
+
+			try {
+				int length= document.getLength();
+				int startLine= document.getLineOfOffset(Math.min(dirtyStart, length));
+				int endLine= document.getLineOfOffset(Math.min(dirtyEnd, length));
+				int offset= document.getLineOffset(startLine);
+				int endOffset= document.getLineOffset(endLine) + document.getLineLength(endLine);
+				return new Region(offset, endOffset - offset);
+			} catch (BadLocationException e) {
+				// concurrent modification
+				return null;
+			}
+		}
+	}
+
 	/**
 	 * Projection position that will return two foldable regions: one folding away
 	 * the region from after the '/**' to the beginning of the content, the other
@@ -727,6 +846,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	private volatile int fUpdatingCount= 0;
 
+	private final DocumentChangeTracker fChangeTracker= new DocumentChangeTracker();
+
 	/**
 	 * Creates a new folding provider. It must be
 	 * {@link #install(ITextEditor, ProjectionViewer) installed} on an editor/viewer pair before it
@@ -831,6 +952,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			JavaCore.removeElementChangedListener(fElementListener);
 			fElementListener= null;
 		}
+		fChangeTracker.disconnect();
 	}
 
 	/*
@@ -852,7 +974,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		if (fInput == null)
 			return null;
 
-		return createContext(true);
+		FoldingStructureComputationContext ctx= createContext(true);
+		if (ctx != null)
+			fChangeTracker.connect(ctx.getDocument());
+		return ctx;
 	}
 
 	private FoldingStructureComputationContext createContext(boolean allowCollapse) {
@@ -898,6 +1023,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		computeFoldingStructure(ctx);
 		Map<JavaProjectionAnnotation, Position> newStructure= ctx.fMap;
 		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
+		// the annotations of the members outside the changed region stay as they are
+		oldStructure.keySet().removeAll(ctx.fSkippedElements);
 
 		Iterator<JavaProjectionAnnotation> e= newStructure.keySet().iterator();
 		while (e.hasNext()) {
@@ -985,6 +1112,13 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	private void computeFoldingStructure(IJavaElement[] elements, FoldingStructureComputationContext ctx) throws JavaModelException {
 		for (IJavaElement element : elements) {
+			if (isOutsideDirtyRegion(element, ctx)) {
+				if (element instanceof IType && !ctx.hasFirstType())
+					ctx.setFirstType((IType) element);
+				addSkippedElements(element, ctx);
+				continue;
+			}
+
 			computeFoldingStructure(element, ctx);
 
 			if (element instanceof IParent) {
@@ -994,6 +1128,39 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Tells whether the given element and its children lie outside the region of the document
+	 * which has changed since the last update. The region of the first type includes the header
+	 * comment.
+	 *
+	 * @param element the element to test
+	 * @param ctx the folding context
+	 * @return <code>true</code> if the folding structure of the element does not need to be
+	 *         computed again
+	 * @throws JavaModelException if the source range of the element cannot be accessed
+	 */
+	private boolean isOutsideDirtyRegion(IJavaElement element, FoldingStructureComputationContext ctx) throws JavaModelException {
+		IRegion dirty= ctx.fDirtyRegion;
+		if (dirty == null || !(element instanceof ISourceReference))
+			return false;
+
+		ISourceRange range= ((ISourceReference) element).getSourceRange();
+		if (!SourceRange.isAvailable(range))
+			return false;
+
+		int start= element instanceof IType && !ctx.hasFirstType() ? 0 : range.getOffset();
+		int end= range.getOffset() + range.getLength();
+		return end < dirty.getOffset() || start > dirty.getOffset() + dirty.getLength();
+	}
+
+	private void addSkippedElements(IJavaElement element, FoldingStructureComputationContext ctx) throws JavaModelException {
+		ctx.fSkippedElements.add(element);
+		if (element instanceof IParent) {
+			for (IJavaElement child : ((IParent) element).getChildren())
+				addSkippedElements(child, ctx);
+		}
+	}
+
 	/**
 	 * Computes the folding structure for a given {@link IJavaElement java element}. Computed
 	 * projection annotations are
@@ -1111,10 +1278,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 				if (!SourceRange.isAvailable(range))
 					return new IRegion[0];
 
-				String contents= reference.getSource();
-				if (contents == null)
-					return new IRegion[0];
-
+				// the scanner of the context already has the source of the input element
 				List<IRegion> regions= new ArrayList<>();
 				if (!ctx.hasFirstType() && reference instanceof IType) {
 					ctx.setFirstType((IType) reference);
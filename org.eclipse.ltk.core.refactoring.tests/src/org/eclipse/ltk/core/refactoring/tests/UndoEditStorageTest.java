@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.Test;
+
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.UndoEdit;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ltk.internal.core.refactoring.UndoEditStorage;
+
+public class UndoEditStorageTest {
+
+	@Test
+	public void testWriteAndRead() throws Exception {
+		String original= "class A {\n\tint a\u00e9;\n\tvoid foo() {}\n}\n";
+		IDocument document= new Document(original);
+		MultiTextEdit edit= new MultiTextEdit();
+		edit.addChild(new ReplaceEdit(6, 1, "Bb"));
+		edit.addChild(new InsertEdit(10, "\t// comment\n"));
+		edit.addChild(new DeleteEdit(original.indexOf("void"), 5));
+		UndoEdit undo= edit.apply(document, TextEdit.CREATE_UNDO);
+		String modified= document.get();
+		assertTrue(UndoEditStorage.getRetainedBytes(undo) > 0);
+
+		File file= UndoEditStorage.write(undo);
+		assertNotNull(file);
+		try {
+			TextEdit restored= UndoEditStorage.read(file);
+			UndoEdit redo= restored.apply(document, TextEdit.CREATE_UNDO);
+			assertEquals(original, document.get());
+
+			redo.apply(document);
+			assertEquals(modified, document.get());
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testWriteAndReadLengthChanges() throws Exception {
+		IDocument document= new Document("aaaa");
+		MultiTextEdit edit= new MultiTextEdit();
+		edit.addChild(new ReplaceEdit(0, 1, "XX"));
+		edit.addChild(new ReplaceEdit(2, 1, "YY"));
+		UndoEdit undo= edit.apply(document, TextEdit.CREATE_UNDO);
+		assertEquals("XXaYYa", document.get());
+
+		File file= UndoEditStorage.write(undo);
+		assertNotNull(file);
+		try {
+			UndoEdit redo= UndoEditStorage.read(file).apply(document, TextEdit.CREATE_UNDO);
+			assertEquals("aaaa", document.get());
+
+			redo.apply(document);
+			assertEquals("XXaYYa", document.get());
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testSharedTextCountedOnce() throws Exception {
+		String text= "shared text";
+		MultiTextEdit shared= new MultiTextEdit();
+		shared.addChild(new ReplaceEdit(0, 1, text));
+		shared.addChild(new ReplaceEdit(2, 1, text));
+		MultiTextEdit copied= new MultiTextEdit();
+		copied.addChild(new ReplaceEdit(0, 1, text));
+		copied.addChild(new ReplaceEdit(2, 1, new String(text)));
+
+		long sharedBytes= UndoEditStorage.getRetainedBytes(shared);
+		long copiedBytes= UndoEditStorage.getRetainedBytes(copied);
+		// the characters of the shared text are only counted once
+		assertTrue(copiedBytes - sharedBytes >= 2L * text.length());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,8 @@ import org.eclipse.ltk.internal.core.refactoring.Changes;
 import org.eclipse.ltk.internal.core.refactoring.ContentStamps;
 import org.eclipse.ltk.internal.core.refactoring.Lock;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
+import org.eclipse.ltk.internal.core.refactoring.UndoEditStorage;
+import org.eclipse.ltk.internal.core.refactoring.UndoEditStorage.StoredUndoEdit;
 
 /**
  * A change to perform the reverse change of a {@link TextFileChange}.
@@ -56,8 +58,12 @@ import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
  */
 public class UndoTextFileChange extends Change {
 
+	static {
+		UndoEditStorage.setAccessor(change -> change.fUndo);
+	}
+
 	private String fName;
-	private UndoEdit fUndo;
+	private StoredUndoEdit fUndo;
 	private IFile fFile;
 	private ContentStamp fContentStampToRestore;
 	private int fSaveMode;
@@ -84,7 +90,7 @@ public class UndoTextFileChange extends Change {
 		Assert.isNotNull(undo);
 		fName= name;
 		fFile= file;
-		fUndo= undo;
+		fUndo= new StoredUndoEdit(undo);
 		fContentStampToRestore= stamp;
 		fSaveMode= saveMode;
 	}
@@ -267,7 +273,7 @@ public class UndoTextFileChange extends Change {
 	private UndoEdit doPerformEdits(IDocument document, boolean[] setContentStampSuccess) throws MalformedTreeException, BadLocationException, CoreException {
 		// perform the changes
 		LinkedModeModel.closeAllModels(document);
-		UndoEdit redo= fUndo.apply(document, TextEdit.CREATE_UNDO);
+		UndoEdit redo= fUndo.getEdit().apply(document, TextEdit.CREATE_UNDO);
 
 		// try to restore the document content stamp
 		setContentStampSuccess[0]= ContentStamps.set(document, fContentStampToRestore);
@@ -279,6 +285,7 @@ public class UndoTextFileChange extends Change {
 		if (fValidationState != null) {
 			fValidationState.dispose();
 		}
+		fUndo.dispose();
 	}
 
 	private boolean needsSaving() {
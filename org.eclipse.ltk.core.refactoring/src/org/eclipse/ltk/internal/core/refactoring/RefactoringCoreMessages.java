@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -275,6 +275,10 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String UndoManager2_no_change;
 
+	public static String UndoEditStorage_job_name;
+
+	public static String UndoEditStorage_read_error;
+
 	public static String UnknownRefactoringDescriptor_cannot_create_refactoring;
 
 	public static String ValidateEditChecker_failed;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,6 +116,7 @@ public class RefactoringCorePlugin extends Plugin {
 	@Override
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
+		UndoEditStorage.deleteAll();
 		RefactoringContributionManager.getInstance().connect();
 		final RefactoringHistoryService service= RefactoringHistoryService.getInstance();
 		service.connect();
@@ -133,6 +134,7 @@ public class RefactoringCorePlugin extends Plugin {
 		}
 		if (fgUndoManager != null)
 			fgUndoManager.shutdown();
+		UndoEditStorage.deleteAll();
 		final RefactoringHistoryService service= RefactoringHistoryService.getInstance();
 		service.disconnect();
 		if (fRefactoringHistoryListener != null)
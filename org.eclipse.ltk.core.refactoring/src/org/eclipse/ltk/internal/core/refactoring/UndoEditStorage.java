@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.internal.core.refactoring;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.UndoTextFileChange;
+
+/**
+ * Stores the undo edits of large undo changes in compressed files in the state location of the
+ * plug-in, so that they don't stay in memory while the undo changes are on the undo history.
+ * <p>
+ * The undo edits of all {@link UndoTextFileChange}s of an undo change are written to files if
+ * they retain more than the number of bytes given by the preference
+ * {@link RefactoringPreferenceConstants#PREFERENCE_UNDO_SPILL_THRESHOLD}. This happens in a
+ * background job of the family <code>UndoEditStorage.class</code>, after the undo change has been
+ * created. The edits are read again when the undo change is performed.
+ * </p>
+ * <p>
+ * The debug option <code>org.eclipse.ltk.core.refactoring/debug/undoStorage</code> logs the
+ * bytes retained by each undo change.
+ * </p>
+ */
+public final class UndoEditStorage {
+
+	/**
+	 * The undo edit of an {@link UndoTextFileChange}, which is either kept in memory or in a file.
+	 */
+	public static final class StoredUndoEdit {
+
+		private TextEdit fEdit;
+		private File fFile;
+		private boolean fInUse;
+		private boolean fDisposed;
+
+		/**
+		 * Creates a stored undo edit which is kept in memory.
+		 *
+		 * @param edit the undo edit
+		 */
+		public StoredUndoEdit(TextEdit edit) {
+			fEdit= edit;
+		}
+
+		/**
+		 * Returns the undo edit, reading it from its file if necessary. Once returned, the edit is
+		 * no longer written to a file.
+		 *
+		 * @return an edit performing the modifications of the undo edit
+		 * @throws CoreException if the file cannot be read
+		 */
+		public synchronized TextEdit getEdit() throws CoreException {
+			fInUse= true;
+			if (fEdit == null) {
+				fEdit= read(fFile);
+				fFile.delete();
+				fFile= null;
+			}
+			return fEdit;
+		}
+
+		/**
+		 * Deletes the file of the undo edit, if any.
+		 */
+		public synchronized void dispose() {
+			fDisposed= true;
+			if (fFile != null) {
+				fFile.delete();
+				fFile= null;
+			}
+		}
+
+		synchronized long getRetainedBytes(Set<String> counted) {
+			return fEdit != null ? UndoEditStorage.getRetainedBytes(fEdit, counted) : 0;
+		}
+
+		boolean spill() {
+			TextEdit edit;
+			synchronized (this) {
+				if (fEdit == null || fInUse || fDisposed)
+					return false;
+				edit= fEdit;
+			}
+			// written without the lock, so that performing the undo does not wait for the file
+			File file= write(edit);
+			if (file == null)
+				return false;
+			synchronized (this) {
+				if (fInUse || fDisposed) {
+					// the edit may have been modified while it was written
+					file.delete();
+					return false;
+				}
+				fFile= file;
+				fEdit= null;
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Writes the undo edits of an undo change to files if they retain too many bytes.
+	 */
+	private static final class StoreJob extends Job {
+
+		private final String fName;
+		private final Change fUndoChange;
+
+		StoreJob(String name, Change undoChange) {
+			super(RefactoringCoreMessages.UndoEditStorage_job_name);
+			fName= name;
+			fUndoChange= undoChange;
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			long threshold= getThreshold();
+			long retained= getRetainedBytes(fUndoChange);
+			long spilled= 0;
+			if (threshold >= 0 && retained > threshold)
+				spilled= spill(fUndoChange, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+			if (isDebugging()) {
+				RefactoringCorePlugin.log(new Status(IStatus.INFO, RefactoringCorePlugin.getPluginId(),
+						"Undo of '" + fName + "' retains " + (retained - spilled) + " bytes, " + spilled + " bytes written to disk")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == UndoEditStorage.class;
+		}
+	}
+
+	private static final String DEBUG_OPTION= "org.eclipse.ltk.core.refactoring/debug/undoStorage"; //$NON-NLS-1$
+
+	private static final long DEFAULT_SPILL_THRESHOLD= 32 * 1024 * 1024;
+
+	private static final String STORAGE_DIR= "undo"; //$NON-NLS-1$
+
+	/**
+	 * The approximate number of bytes retained by a replace edit, besides its text.
+	 */
+	private static final int EDIT_OVERHEAD= 80;
+
+	/**
+	 * The approximate number of bytes retained by a string, besides its characters.
+	 */
+	private static final int STRING_OVERHEAD= 40;
+
+	/**
+	 * Gives access to the stored undo edit of an undo text file change.
+	 */
+	private static Function<UndoTextFileChange, StoredUndoEdit> fgAccessor;
+
+	private UndoEditStorage() {
+		// Not for instantiation
+	}
+
+	/**
+	 * Sets the accessor for the stored undo edits of undo text file changes. Called once by
+	 * {@link UndoTextFileChange}.
+	 *
+	 * @param accessor the accessor
+	 */
+	public static void setAccessor(Function<UndoTextFileChange, StoredUndoEdit> accessor) {
+		fgAccessor= accessor;
+	}
+
+	/**
+	 * Writes the undo edits of the given undo change to files in the background if they retain
+	 * more bytes than configured.
+	 *
+	 * @param name the name of the undo change, used for tracing
+	 * @param undoChange the undo change
+	 */
+	public static void store(String name, Change undoChange) {
+		if (getThreshold() >= 0 || isDebugging())
+			new StoreJob(name, undoChange).schedule();
+	}
+
+	/**
+	 * Returns the approximate number of bytes retained in memory by the undo edits of the given
+	 * change and its children.
+	 *
+	 * @param change the change
+	 * @return the retained bytes
+	 */
+	public static long getRetainedBytes(Change change) {
+		return getRetainedBytes(change, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	private static long getRetainedBytes(Change change, Set<String> counted) {
+		if (change instanceof UndoTextFileChange)
+			return fgAccessor.apply((UndoTextFileChange) change).getRetainedBytes(counted);
+
+		long retained= 0;
+		if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				retained+= getRetainedBytes(child, counted);
+			}
+		}
+		return retained;
+	}
+
+	private static long spill(Change change, Set<String> counted) {
+		if (change instanceof UndoTextFileChange) {
+			StoredUndoEdit undo= fgAccessor.apply((UndoTextFileChange) change);
+			long retained= undo.getRetainedBytes(counted);
+			return undo.spill() ? retained : 0;
+		}
+
+		long spilled= 0;
+		if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				spilled+= spill(child, counted);
+			}
+		}
+		return spilled;
+	}
+
+	/**
+	 * Returns the approximate number of bytes retained in memory by the given undo edit.
+	 *
+	 * @param edit the undo edit
+	 * @return the retained bytes
+	 */
+	public static long getRetainedBytes(TextEdit edit) {
+		return getRetainedBytes(edit, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	/**
+	 * Returns the approximate number of bytes retained in memory by the given undo edit.
+	 *
+	 * @param edit the undo edit
+	 * @param counted the texts which have already been counted, texts shared between edits are
+	 *            only counted once
+	 * @return the retained bytes
+	 */
+	private static long getRetainedBytes(TextEdit edit, Set<String> counted) {
+		long retained= EDIT_OVERHEAD;
+		if (edit instanceof ReplaceEdit) {
+			String text= ((ReplaceEdit) edit).getText();
+			if (counted.add(text))
+				retained+= STRING_OVERHEAD + 2L * text.length();
+		}
+		for (TextEdit child : edit.getChildren()) {
+			retained+= getRetainedBytes(child, counted);
+		}
+		return retained;
+	}
+
+	/**
+	 * Writes the given undo edit to a new file.
+	 * <p>
+	 * The children of an undo edit are performed one by one in reverse order, and the offsets of
+	 * each child are relative to the document in which the children after it have already been
+	 * performed. The offsets are written relative to the current document, so that the children
+	 * can be read into one {@link MultiTextEdit}.
+	 * </p>
+	 *
+	 * @param edit the undo edit
+	 * @return the file, or <code>null</code> if the edit could not be written
+	 */
+	public static File write(TextEdit edit) {
+		TextEdit[] children= edit.getChildren();
+		int[] offsets= toDocumentOffsets(children);
+		if (offsets == null)
+			return null;
+
+		File file= null;
+		try {
+			File dir= getStorageDir();
+			Files.createDirectories(dir.toPath());
+			file= File.createTempFile("undo", ".gz", dir); //$NON-NLS-1$ //$NON-NLS-2$
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file.toPath()))))) {
+				out.writeInt(children.length);
+				// in document order
+				for (int i= children.length - 1; i >= 0; i--) {
+					TextEdit child= children[i];
+					String text= ((ReplaceEdit) child).getText();
+					out.writeInt(offsets[i]);
+					out.writeInt(child.getLength());
+					out.writeInt(text.length());
+					out.writeChars(text);
+				}
+			}
+			return file;
+		} catch (IOException e) {
+			RefactoringCorePlugin.log(e);
+			if (file != null)
+				file.delete();
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the offsets of the given undo edit children in the current document.
+	 * <p>
+	 * {@link org.eclipse.text.edits.TextEditProcessor} performs edits from the end of the document
+	 * to its start, so the children of an undo edit are in reverse document order. Performing the
+	 * child <code>j</code> changes the length of the document before the later children by the
+	 * difference of its length and the length of its text.
+	 * </p>
+	 *
+	 * @param children the children of an undo edit
+	 * @return the offsets, or <code>null</code> if the children are not replace edits in reverse
+	 *         document order
+	 */
+	private static int[] toDocumentOffsets(TextEdit[] children) {
+		int[] offsets= new int[children.length];
+		int shift= 0;
+		for (int i= children.length - 1; i >= 0; i--) {
+			TextEdit child= children[i];
+			if (!(child instanceof ReplaceEdit) || child.hasChildren())
+				return null; // undo edits only consist of replace edits
+			if (i < children.length - 1) {
+				ReplaceEdit previous= (ReplaceEdit) children[i + 1];
+				if (child.getOffset() < previous.getOffset() + previous.getText().length())
+					return null;
+				shift+= previous.getLength() - previous.getText().length();
+			}
+			offsets[i]= child.getOffset() + shift;
+		}
+		return offsets;
+	}
+
+	/**
+	 * Reads an undo edit from a file written by {@link #write(TextEdit)}.
+	 *
+	 * @param file the file
+	 * @return an edit performing the same modifications as the written undo edit
+	 * @throws CoreException if the file cannot be read
+	 */
+	public static TextEdit read(File file) throws CoreException {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file.toPath()))))) {
+			MultiTextEdit result= new MultiTextEdit();
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				int offset= in.readInt();
+				int length= in.readInt();
+				char[] text= new char[in.readInt()];
+				for (int j= 0; j < text.length; j++) {
+					text[j]= in.readChar();
+				}
+				result.addChild(new ReplaceEdit(offset, length, new String(text)));
+			}
+			return result;
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), IStatus.ERROR,
+				Messages.format(RefactoringCoreMessages.UndoEditStorage_read_error, file.getAbsolutePath()), e));
+		}
+	}
+
+	/**
+	 * Deletes the files left over from a previous session.
+	 */
+	public static void deleteAll() {
+		File[] files= getStorageDir().listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	private static File getStorageDir() {
+		return RefactoringCorePlugin.getDefault().getStateLocation().append(STORAGE_DIR).toFile();
+	}
+
+	private static long getThreshold() {
+		return Platform.getPreferencesService().getLong(RefactoringCorePlugin.getPluginId(), RefactoringPreferenceConstants.PREFERENCE_UNDO_SPILL_THRESHOLD, DEFAULT_SPILL_THRESHOLD, null);
+	}
+
+	private static boolean isDebugging() {
+		return RefactoringCorePlugin.getDefault().isDebugging() && "true".equalsIgnoreCase(Platform.getDebugOption(DEBUG_OPTION)); //$NON-NLS-1$
+	}
+}
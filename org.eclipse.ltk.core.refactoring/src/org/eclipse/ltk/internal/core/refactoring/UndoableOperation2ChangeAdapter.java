@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -88,6 +88,8 @@ public class UndoableOperation2ChangeAdapter implements IUndoableOperation, IAdv
 	}
 
 	public void setUndoChange(Change undoChange) {
+		if (undoChange != null)
+			UndoEditStorage.store(undoChange.getName(), undoChange);
 		fUndoChange= undoChange;
 		fActiveChange= fUndoChange;
 		fExecuteChange= null;
@@ -266,6 +268,8 @@ public class UndoableOperation2ChangeAdapter implements IUndoableOperation, IAdv
 			fUndoChange= result.reverseChange;
 			fActiveChange= fUndoChange;
 			fRedoChange= null;
+			if (fUndoChange != null)
+				UndoEditStorage.store(fUndoChange.getName(), fUndoChange);
 			return Status.OK_STATUS;
 		} catch (CoreException e) {
 			throw new ExecutionException(e.getStatus().getMessage(), e);